@@ -0,0 +1,66 @@
+package org.swyp.dessertbee.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTFilter 요청당 토큰 처리 비용 - 기존 호출 순서 vs 서명 검증 한 번
+ * - 기존: validateToken → getUserUuid → getRoles → getUserUuid (호출마다 파서 생성 + 서명 검증, 요청당 4회)
+ * - 현재: parseVerifiedClaims 한 번 후 같은 Claims 에서 사용자 UUID/권한 추출
+ * - 실행: ./gradlew jmh -Pjmh.includes=JWTUtil
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JWTUtilBenchmark {
+
+    private static final String ACCESS_SECRET = "benchmark-access-secret-key-0123456789-abcdefghij";
+    private static final String REFRESH_SECRET = "benchmark-refresh-secret-key-0123456789-abcdefghij";
+
+    private JWTUtil jwtUtil;
+    private SecretKey accessKey;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JWTUtil(ACCESS_SECRET, REFRESH_SECRET);
+        accessKey = new SecretKeySpec(ACCESS_SECRET.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm());
+        accessToken = jwtUtil.createAccessToken(UUID.randomUUID(), List.of("ROLE_USER"));
+    }
+
+    /** 기존 필터 경로: 검증 1회 + 사용자 UUID 2회 + 권한 1회, 매번 파서 생성 후 서명 검증 */
+    @Benchmark
+    public void legacyFilterPath(Blackhole blackhole) {
+        legacyParse(accessToken); // validateToken
+        blackhole.consume(UUID.fromString(legacyParse(accessToken).getSubject())); // 사용자 존재/탈퇴 확인
+        blackhole.consume(legacyParse(accessToken).get("roles", List.class)); // 인증 객체 생성 - 권한
+        blackhole.consume(UUID.fromString(legacyParse(accessToken).getSubject())); // 인증 객체 생성 - 사용자 UUID
+    }
+
+    /** 현재 필터 경로: 서명 검증 1회, 같은 Claims 재사용 */
+    @Benchmark
+    public void filterPath(Blackhole blackhole) {
+        Claims claims = jwtUtil.parseVerifiedClaims(accessToken, true);
+        blackhole.consume(jwtUtil.getUserUuid(claims));
+        blackhole.consume(jwtUtil.getRoles(claims));
+    }
+
+    /** 기존 JWTUtil.parseClaims / validateToken 방식: 호출마다 Jwts.parser().verifyWith(key).build() */
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(accessKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,116 @@
+package org.swyp.dessertbee.store.store.index;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.swyp.dessertbee.common.util.GeoBoundingBox;
+
+import java.sql.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 내 가게 조회 - MySQL 바운딩 박스 + ST_Distance_Sphere 쿼리 (StoreRepository.findStoresByLocation 과 같은 조건)
+ * - StoreGeoIndexBenchmark 와 같은 분포/시드로 임시 테이블(jmh_store_location)을 채운 뒤 측정
+ * - 실행: ./gradlew jmh -Pjmh.includes=MysqlDistanceSphere
+ *   -Pjmh.mysql.url=jdbc:mysql://localhost:3306/bench -Pjmh.mysql.user=... -Pjmh.mysql.password=...
+ *   (build.gradle 의 jmh 블록이 포크된 JVM 시스템 프로퍼티로 전달)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MysqlDistanceSphereBenchmark {
+
+    private static final String TABLE = "jmh_store_location";
+    private static final int INSERT_BATCH_SIZE = 5_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int storeCount;
+
+    @Param({"1000", "3000"})
+    public double radius;
+
+    private Connection connection;
+    private PreparedStatement query;
+    private double[][] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("jmh.mysql.url");
+        if (url == null) {
+            throw new IllegalStateException("MySQL 벤치마크는 -Pjmh.mysql.url/user/password 설정이 필요합니다.");
+        }
+        connection = DriverManager.getConnection(url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true",
+                System.getProperty("jmh.mysql.user"), System.getProperty("jmh.mysql.password"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (" +
+                    "store_id BIGINT PRIMARY KEY, " +
+                    "latitude DECIMAL(10, 7) NOT NULL, " +
+                    "longitude DECIMAL(10, 7) NOT NULL, " +
+                    "deleted_at DATETIME NULL, " +
+                    "INDEX idx_latitude_longitude (latitude, longitude))");
+        }
+
+        // StoreGeoIndexBenchmark 와 같은 시드/분포
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (store_id, latitude, longitude) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < storeCount; i++) {
+                insert.setLong(1, i + 1L);
+                insert.setDouble(2, StoreGeoIndexBenchmark.MIN_LAT + random.nextDouble() * (StoreGeoIndexBenchmark.MAX_LAT - StoreGeoIndexBenchmark.MIN_LAT));
+                insert.setDouble(3, StoreGeoIndexBenchmark.MIN_LNG + random.nextDouble() * (StoreGeoIndexBenchmark.MAX_LNG - StoreGeoIndexBenchmark.MIN_LNG));
+                insert.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + TABLE);
+        }
+
+        query = connection.prepareStatement("SELECT store_id FROM " + TABLE + " " +
+                "WHERE latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ? " +
+                "AND ST_Distance_Sphere(point(?, ?), point(longitude, latitude)) <= ? " +
+                "AND deleted_at IS NULL");
+        queries = StoreGeoIndexBenchmark.randomPoints(random, StoreGeoIndexBenchmark.QUERY_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection == null) return;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void distanceSphere(Blackhole blackhole) throws SQLException {
+        cursor = (cursor + 1) & (StoreGeoIndexBenchmark.QUERY_COUNT - 1);
+        double lat = queries[cursor][0];
+        double lng = queries[cursor][1];
+        GeoBoundingBox box = GeoBoundingBox.around(lat, lng, radius);
+
+        query.setDouble(1, box.minLat());
+        query.setDouble(2, box.maxLat());
+        query.setDouble(3, box.minLng());
+        query.setDouble(4, box.maxLng());
+        query.setDouble(5, lng);
+        query.setDouble(6, lat);
+        query.setDouble(7, radius);
+        try (ResultSet resultSet = query.executeQuery()) {
+            int count = 0;
+            while (resultSet.next()) {
+                count++;
+            }
+            blackhole.consume(count);
+        }
+    }
+}
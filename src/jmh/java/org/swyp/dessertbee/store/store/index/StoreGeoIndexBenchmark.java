@@ -0,0 +1,103 @@
+package org.swyp.dessertbee.store.store.index;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.swyp.dessertbee.store.store.entity.Store;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 내 가게 조회 - 인메모리 격자 인덱스 vs 전체 좌표 하버사인 계산 (ST_Distance_Sphere 와 같은 식)
+ * - 가게는 국내 범위(위도 33.0~38.6, 경도 124.6~131.0)에 고르게 분포
+ * - MySQL ST_Distance_Sphere 쿼리 자체의 비교는 MysqlDistanceSphereBenchmark 참고
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreGeoIndexBenchmark {
+
+    static final double MIN_LAT = 33.0;
+    static final double MAX_LAT = 38.6;
+    static final double MIN_LNG = 124.6;
+    static final double MAX_LNG = 131.0;
+    static final int QUERY_COUNT = 1024;
+
+    private static final double EARTH_RADIUS_METERS = 6_370_986.0;
+
+    @Param({"10000", "100000", "1000000"})
+    public int storeCount;
+
+    @Param({"1000", "3000"})
+    public double radius;
+
+    private StoreGeoIndex index;
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[][] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new StoreGeoIndex(null, null);
+        latitudes = new double[storeCount];
+        longitudes = new double[storeCount];
+
+        for (int i = 0; i < storeCount; i++) {
+            latitudes[i] = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+            longitudes[i] = MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG);
+            index.upsert(Store.builder()
+                    .storeId((long) i + 1)
+                    .latitude(BigDecimal.valueOf(latitudes[i]))
+                    .longitude(BigDecimal.valueOf(longitudes[i]))
+                    .build());
+        }
+
+        queries = randomPoints(random, QUERY_COUNT);
+    }
+
+    @Benchmark
+    public void geoIndex(Blackhole blackhole) {
+        double[] query = nextQuery();
+        blackhole.consume(index.findStoreIdsWithinRadius(query[0], query[1], radius));
+    }
+
+    @Benchmark
+    public void fullScanHaversine(Blackhole blackhole) {
+        double[] query = nextQuery();
+        int count = 0;
+        for (int i = 0; i < storeCount; i++) {
+            if (distanceMeters(query[0], query[1], latitudes[i], longitudes[i]) <= radius) {
+                count++;
+            }
+        }
+        blackhole.consume(count);
+    }
+
+    private double[] nextQuery() {
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return queries[cursor];
+    }
+
+    static double[][] randomPoints(Random random, int count) {
+        double[][] points = new double[count][];
+        for (int i = 0; i < count; i++) {
+            points[i] = new double[]{
+                    MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT),
+                    MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG)
+            };
+        }
+        return points;
+    }
+
+    private static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
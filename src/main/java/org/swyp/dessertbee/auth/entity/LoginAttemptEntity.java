@@ -66,6 +66,14 @@ public class LoginAttemptEntity {
         this.lockedUntil = null;
     }
 
+    /**
+     * 로그인 시도 상태 기록 (Redis 제한 결과를 감사 로그로 반영)
+     */
+    public void updateAttemptState(int failedAttempts, LocalDateTime lockedUntil) {
+        this.failedAttempts = failedAttempts;
+        this.lockedUntil = lockedUntil;
+    }
+
     /**
      * 계정 잠금 해제까지 남은 시간(분) 계산
      */
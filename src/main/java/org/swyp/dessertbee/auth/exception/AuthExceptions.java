@@ -151,4 +151,15 @@ public class AuthExceptions {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 동일 IP의 로그인 실패 누적으로 일시 차단 예외
+     */
+    public static class TooManyLoginAttemptsException extends BusinessException {
+        public TooManyLoginAttemptsException() { super(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS); }
+
+        public TooManyLoginAttemptsException(String message) {
+            super(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, message);
+        }
+    }
+
+}
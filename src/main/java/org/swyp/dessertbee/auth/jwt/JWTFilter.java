@@ -1,6 +1,7 @@
 package org.swyp.dessertbee.auth.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,7 +15,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.swyp.dessertbee.auth.security.CustomUserDetails;
-import org.swyp.dessertbee.auth.repository.AuthRepository;
+import org.swyp.dessertbee.auth.service.AuthSessionCacheService;
 import org.swyp.dessertbee.common.exception.ErrorCode;
 import org.swyp.dessertbee.common.exception.ErrorResponse;
 
@@ -30,7 +31,8 @@ import java.util.UUID;
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
-    private final AuthRepository authRepository;
+    private final AuthSessionCacheService authSessionCacheService;
+    private final ObjectMapper objectMapper;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -48,16 +50,24 @@ public class JWTFilter extends OncePerRequestFilter {
         log.debug("추출된 토큰: {}", token);
 
         if (token != null) {
-            ErrorCode errorCode = jwtUtil.validateToken(token, true);
+            // 토큰 서명은 요청당 한 번만 검증하고, 이후에는 검증된 Claims만 사용
+            Claims claims = null;
+            ErrorCode errorCode;
+            try {
+                claims = jwtUtil.parseVerifiedClaims(token, true);
+                errorCode = null;
+            } catch (Exception e) {
+                errorCode = jwtUtil.resolveErrorCode(e);
+            }
 
             if (errorCode == null) {
                 // 토큰 서명 검증에 성공한 경우
                 try {
                     // 토큰에서 사용자 UUID 추출
-                    UUID userUuid = jwtUtil.getUserUuid(token, true);
+                    UUID userUuid = jwtUtil.getUserUuid(claims);
 
-                    // 해당 사용자의 활성화된 토큰이 있는지 확인
-                    boolean hasActiveToken = authRepository.existsByUserUuidAndActive(userUuid, true);
+                    // 해당 사용자의 활성화된 토큰이 있는지 확인 (세션 캐시 우선)
+                    boolean hasActiveToken = authSessionCacheService.hasActiveSession(userUuid);
 
                     if (!hasActiveToken) {
                         // 활성화된 토큰이 없으면 로그아웃 상태로 간주
@@ -67,7 +77,7 @@ public class JWTFilter extends OncePerRequestFilter {
                     }
 
                     // 인증 처리
-                    Authentication authentication = createAuthentication(token);
+                    Authentication authentication = createAuthentication(claims, userUuid);
                     context.setAuthentication(authentication);
                     SecurityContextHolder.setContext(context);
                     log.debug("인증 성공: '{}'", maskToken(token));
@@ -127,11 +137,10 @@ public class JWTFilter extends OncePerRequestFilter {
     }
 
     /**
-     * JWT 토큰으로부터 인증 객체 생성
+     * 검증된 Claims로부터 인증 객체 생성
      */
-    private Authentication createAuthentication(String token) {
-        List<String> roleNames = jwtUtil.getRoles(token, true);
-        UUID userUuid = jwtUtil.getUserUuid(token, true);
+    private Authentication createAuthentication(Claims claims, UUID userUuid) {
+        List<String> roleNames = jwtUtil.getRoles(claims);
 
         // DB 조회 없이 CustomUserDetails 객체를 생성
         CustomUserDetails userDetails = new CustomUserDetails(roleNames, userUuid);
@@ -159,11 +168,6 @@ public class JWTFilter extends OncePerRequestFilter {
 
         ErrorResponse errorResponse = ErrorResponse.from(errorCode);
 
-        // JavaTimeModule 등록
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-        objectMapper.configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-
         objectMapper.writeValue(response.getWriter(), errorResponse);
     }
 
@@ -33,6 +33,10 @@ public class JWTUtil {
     private final SecretKey accessTokenSecretKey;
     private final SecretKey refreshTokenSecretKey;
 
+    // 파서는 스레드 안전하므로 키별로 한 번만 생성해 재사용
+    private final JwtParser accessTokenParser;
+    private final JwtParser refreshTokenParser;
+
     private final long EMAIL_VERIFICATION_TOKEN_EXPIRE_TIME = 30 * 60 * 1000L;
 
     @Getter
@@ -60,6 +64,8 @@ public class JWTUtil {
                 refreshSecret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm()
         );
+        this.accessTokenParser = Jwts.parser().verifyWith(accessTokenSecretKey).build();
+        this.refreshTokenParser = Jwts.parser().verifyWith(refreshTokenSecretKey).build();
     }
 
     /**
@@ -166,45 +172,76 @@ public class JWTUtil {
             return ErrorCode.JWT_TOKEN_MISSING;
         }
 
-        SecretKey key = isAccessToken ? accessTokenSecretKey : refreshTokenSecretKey;
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            parseVerifiedClaims(token, isAccessToken);
             return null; // 유효한 토큰
-        } catch (ExpiredJwtException e) {
+        } catch (Exception e) {
+            return resolveErrorCode(e);
+        }
+    }
+
+    /**
+     * 토큰 서명을 한 번만 검증하고 Claims 반환
+     * - 필터처럼 검증과 클레임 추출이 모두 필요한 경우 사용 (파싱 실패 시 JwtException 발생)
+     * @param token 검증할 토큰
+     * @param isAccessToken 액세스 토큰 여부 (true: 액세스 토큰, false: 리프레시 토큰)
+     * @return 검증된 Claims
+     */
+    public Claims parseVerifiedClaims(String token, boolean isAccessToken) {
+        JwtParser parser = isAccessToken ? accessTokenParser : refreshTokenParser;
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 토큰 파싱 예외를 에러코드로 변환
+     */
+    public ErrorCode resolveErrorCode(Exception e) {
+        if (e instanceof ExpiredJwtException) {
             log.error("만료된 JWT 토큰입니다.");
             return ErrorCode.JWT_TOKEN_EXPIRED;
-        } catch (SecurityException | MalformedJwtException e) {
+        }
+        if (e instanceof SecurityException || e instanceof MalformedJwtException) {
             log.error("잘못된 JWT 서명입니다: {}", e.getMessage());
             return ErrorCode.JWT_SIGNATURE_INVALID;
-        } catch (UnsupportedJwtException e) {
+        }
+        if (e instanceof UnsupportedJwtException) {
             log.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
             return ErrorCode.JWT_TOKEN_UNSUPPORTED;
-        } catch (IllegalArgumentException e) {
+        }
+        if (e instanceof IllegalArgumentException) {
             log.error("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
             return ErrorCode.JWT_TOKEN_MALFORMED;
-        } catch (Exception e) {
-            log.error("JWT 토큰 검증 중 예상치 못한 오류: {}", e.getMessage());
-            return ErrorCode.AUTHENTICATION_FAILED;
         }
+        log.error("JWT 토큰 검증 중 예상치 못한 오류: {}", e.getMessage());
+        return ErrorCode.AUTHENTICATION_FAILED;
     }
 
     /**
      * 토큰에서 권한 정보 추출
      */
-    @SuppressWarnings("unchecked")
     public List<String> getRoles(String token, boolean isAccessToken) {
-        SecretKey key = isAccessToken ? accessTokenSecretKey : refreshTokenSecretKey;
-        return (List<String>) parseClaims(token, key)
-                .get("roles", List.class);
+        return getRoles(parseClaims(token, isAccessToken ? accessTokenParser : refreshTokenParser));
+    }
+
+    /**
+     * 검증된 Claims에서 권한 정보 추출
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getRoles(Claims claims) {
+        return (List<String>) claims.get("roles", List.class);
     }
 
     /**
      * 토큰에서 uuid 정보 추출
      */
     public UUID getUserUuid(String token, boolean isAccessToken) {
-        SecretKey key = isAccessToken ? accessTokenSecretKey : refreshTokenSecretKey;
-        Claims claims = parseClaims(token, key);
+        return getUserUuid(parseClaims(token, isAccessToken ? accessTokenParser : refreshTokenParser));
+    }
 
+    /**
+     * 검증된 Claims에서 uuid 정보 추출
+     */
+    public UUID getUserUuid(Claims claims) {
         // 토큰 유형 확인
         String tokenType = claims.get("type", String.class);
         if (tokenType == null ||
@@ -216,15 +253,11 @@ public class JWTUtil {
     }
 
     /**
-     * Claims 파싱
+     * Claims 파싱 (만료된 토큰도 Claims 반환)
      */
-    private Claims parseClaims(String token, SecretKey secretKey) {
+    private Claims parseClaims(String token, JwtParser parser) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -235,7 +268,7 @@ public class JWTUtil {
      * 이메일 인증 토큰에서 목적 추출
      */
     public EmailVerificationPurpose getVerificationPurpose(String token) {
-        Claims claims = parseClaims(token, accessTokenSecretKey);
+        Claims claims = parseClaims(token, accessTokenParser);
 
         // 이메일 인증 토큰인지 확인
         String tokenType = claims.get("type", String.class);
@@ -260,7 +293,7 @@ public class JWTUtil {
      * 이메일 인증 토큰에서 인증 ID 추출
      */
     public Long getVerificationId(String token) {
-        Claims claims = parseClaims(token, accessTokenSecretKey);
+        Claims claims = parseClaims(token, accessTokenParser);
 
         // 이메일 인증 토큰인지 확인
         String tokenType = claims.get("type", String.class);
@@ -0,0 +1,63 @@
+package org.swyp.dessertbee.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.swyp.dessertbee.auth.repository.AuthRepository;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 사용자별 활성 세션(리프레시 토큰) 여부 캐시
+ * - JWTFilter가 매 요청마다 DB를 조회하지 않도록 로컬 캐시에 보관
+ * - 로그인/로그아웃/토큰 재발급 시 명시적으로 무효화하며, TTL은 누락된 무효화에 대한 안전장치
+ */
+@Slf4j
+@Service
+public class AuthSessionCacheService {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final long MAX_SIZE = 10_000;
+
+    private final AuthRepository authRepository;
+    private final Cache<UUID, Boolean> activeSessions;
+
+    public AuthSessionCacheService(AuthRepository authRepository) {
+        this.authRepository = authRepository;
+        this.activeSessions = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .build();
+    }
+
+    /**
+     * 사용자의 활성화된 토큰 존재 여부 조회 (캐시 미스 시 DB 조회)
+     */
+    public boolean hasActiveSession(UUID userUuid) {
+        return activeSessions.get(userUuid, uuid -> authRepository.existsByUserUuidAndActive(uuid, true));
+    }
+
+    /**
+     * 사용자 세션 캐시 무효화
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여, 커밋 전 값이 다시 캐싱되는 것을 방지
+     */
+    public void evict(UUID userUuid) {
+        if (userUuid == null) return;
+
+        activeSessions.invalidate(userUuid);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    activeSessions.invalidate(userUuid);
+                }
+            });
+        }
+        log.debug("세션 캐시 무효화 - UUID: {}", userUuid);
+    }
+}
@@ -0,0 +1,91 @@
+package org.swyp.dessertbee.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.swyp.dessertbee.auth.entity.LoginAttemptEntity;
+import org.swyp.dessertbee.auth.repository.LoginAttemptRepository;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 로그인 시도 상태를 login_attempt 테이블에 비동기로 기록하는 감사 로그 작성기
+ * - 잠금 판단은 Redis에서 하므로 DB 기록은 조회/운영 확인 용도 (auth.login-attempt.audit-enabled 로 끌 수 있음)
+ * - 단일 스레드 + 제한된 큐에서 실행하고, 큐가 가득 차면 기록을 버려 로그인 요청이 DB 부하에 묶이지 않도록 함
+ */
+@Slf4j
+@Component
+public class LoginAttemptAuditWriter implements DisposableBean {
+
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private final LoginAttemptRepository loginAttemptRepository;
+    private final boolean enabled;
+    private final ThreadPoolTaskExecutor executor;
+
+    public LoginAttemptAuditWriter(LoginAttemptRepository loginAttemptRepository,
+                                   @Value("${auth.login-attempt.audit-enabled:true}") boolean enabled) {
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.enabled = enabled;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("login-attempt-audit-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+    }
+
+    /**
+     * 로그인 실패 상태 기록
+     * @param failedAttempts 윈도우 내 실패 횟수
+     * @param lockedUntil 잠금 해제 시각 (잠기지 않았으면 null)
+     */
+    public void recordFailure(String email, int failedAttempts, LocalDateTime lockedUntil) {
+        if (!enabled) return;
+
+        executor.execute(() -> {
+            try {
+                LoginAttemptEntity loginAttempt = loginAttemptRepository.findByEmail(email)
+                        .orElseGet(() -> LoginAttemptEntity.builder()
+                                .email(email)
+                                .failedAttempts(0)
+                                .build());
+                loginAttempt.updateAttemptState(failedAttempts, lockedUntil);
+                loginAttemptRepository.save(loginAttempt);
+            } catch (Exception e) {
+                log.warn("로그인 시도 감사 기록 실패 - 이메일: {}, 사유: {}", email, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 로그인 성공/잠금 해제 시 실패 상태 초기화 (기록된 실패가 있을 때만 갱신)
+     */
+    public void recordReset(String email) {
+        if (!enabled) return;
+
+        executor.execute(() -> {
+            try {
+                loginAttemptRepository.findByEmail(email)
+                        .filter(loginAttempt -> loginAttempt.getFailedAttempts() > 0
+                                || loginAttempt.getLockedUntil() != null)
+                        .ifPresent(loginAttempt -> {
+                            loginAttempt.resetFailedAttempts();
+                            loginAttemptRepository.save(loginAttempt);
+                        });
+            } catch (Exception e) {
+                log.warn("로그인 시도 감사 초기화 실패 - 이메일: {}, 사유: {}", email, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
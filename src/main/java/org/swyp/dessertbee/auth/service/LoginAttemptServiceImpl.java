@@ -1,70 +1,115 @@
 package org.swyp.dessertbee.auth.service;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.swyp.dessertbee.auth.entity.LoginAttemptEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.swyp.dessertbee.auth.exception.AuthExceptions.AccountLockedException;
-import org.swyp.dessertbee.auth.repository.LoginAttemptRepository;
+import org.swyp.dessertbee.auth.exception.AuthExceptions.TooManyLoginAttemptsException;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * 계정 잠금 정책 및 로그인 시도 관리 로직 구현
+ * - 이메일/클라이언트 IP별 실패 기록을 Redis Sorted Set 슬라이딩 윈도우로 관리 (Lua 스크립트로 원자적 처리)
+ * - 임계치에 도달하면 TTL이 있는 잠금 키를 생성하고, 로그인 전 잠금 키의 남은 시간만 확인
+ * - login_attempt 테이블은 비동기 감사 기록 용도로만 사용
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LoginAttemptServiceImpl implements LoginAttemptService {
 
-    private final LoginAttemptRepository loginAttemptRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final LoginAttemptAuditWriter loginAttemptAuditWriter;
 
     // 계정 잠금 횟수
     private static final int MAX_FAILED_ATTEMPTS = 5;
     // 계정 잠금 시간(분)
     private static final int LOCK_TIME_MINUTES = 10;
+    // 계정 실패 횟수 집계 윈도우
+    private static final Duration EMAIL_FAILURE_WINDOW = Duration.ofMinutes(30);
+
+    // IP 차단 실패 횟수 (여러 계정을 대상으로 하는 대입 공격 차단)
+    private static final int MAX_FAILED_ATTEMPTS_PER_IP = 20;
+    private static final Duration IP_FAILURE_WINDOW = Duration.ofMinutes(10);
+    private static final Duration IP_LOCK_TIME = Duration.ofMinutes(10);
 
     private static final String UNLIMITED_ATTEMPTS_EMAIL = "kjkksu2@naver.com";
 
+    private static final String EMAIL_FAILURE_KEY_PREFIX = "login:fail:email:";
+    private static final String EMAIL_LOCK_KEY_PREFIX = "login:lock:email:";
+    private static final String IP_FAILURE_KEY_PREFIX = "login:fail:ip:";
+    private static final String IP_LOCK_KEY_PREFIX = "login:lock:ip:";
+
+    /**
+     * 실패 기록 (KEYS[1]: 실패 윈도우 ZSET, KEYS[2]: 잠금 키)
+     * ARGV: 현재 시각(ms), 윈도우(ms), 최대 실패 횟수, 잠금 시간(ms), 고유 멤버
+     * 윈도우 밖 기록 제거 → 현재 실패 추가 → 개수가 임계치 이상이면 잠금 키 생성 후 윈도우 초기화
+     * @return 윈도우 내 실패 횟수
+     */
+    private static final RedisScript<Long> RECORD_FAILURE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local window = tonumber(ARGV[2]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window) " +
+            "redis.call('ZADD', KEYS[1], now, ARGV[5]) " +
+            "redis.call('PEXPIRE', KEYS[1], window) " +
+            "local count = redis.call('ZCARD', KEYS[1]) " +
+            "if count >= tonumber(ARGV[3]) then " +
+            "  redis.call('SET', KEYS[2], count, 'PX', ARGV[4]) " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return count",
+            Long.class);
+
     /**
-     * 로그인 실패 처리와 잠금 만료 확인
+     * 로그인 시도 전 계정/IP 잠금 상태 확인
      * @param email 사용자 이메일
      * @throws AccountLockedException 계정이 잠긴 경우
+     * @throws TooManyLoginAttemptsException 클라이언트 IP가 차단된 경우
      */
     @Override
-    @Transactional(readOnly = true)
     public void checkLoginAttempt(String email) {
         // 특정 이메일은 무제한 로그인 시도 허용
         if (UNLIMITED_ATTEMPTS_EMAIL.equals(email)) {
-            log.info("무제한 로그인 시도가 허용된 이메일: {}", email);
-            return;
-        }
-        Optional<LoginAttemptEntity> attemptOpt = loginAttemptRepository.findByEmail(email);
-
-        // 존재하지 않으면 잠금 상태 아님
-        if (attemptOpt.isEmpty()) {
+            log.debug("무제한 로그인 시도가 허용된 이메일: {}", email);
             return;
         }
 
-        LoginAttemptEntity loginAttempt = attemptOpt.get();
-
-        // 잠금 시간이 지났으면 잠금 해제
-        if (loginAttempt.getLockedUntil() != null &&
-                loginAttempt.getLockedUntil().isBefore(LocalDateTime.now())) {
-            log.info("계정 잠금 시간 만료됨, 자동 잠금 해제 예정: {}", email);
-            return;
-        }
+        String clientIp = resolveClientIp();
+        // 계정/IP 잠금 키의 남은 시간을 한 번의 왕복으로 조회
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().pTtl(bytes(EMAIL_LOCK_KEY_PREFIX + email));
+            if (clientIp != null) {
+                connection.keyCommands().pTtl(bytes(IP_LOCK_KEY_PREFIX + clientIp));
+            }
+            return null;
+        });
 
-        // 아직 잠금 상태인 경우
-        if (loginAttempt.isAccountLocked()) {
-            long remainingMinutes = loginAttempt.getRemainingLockTime();
+        long emailLockMillis = toMillis(ttls.get(0));
+        if (emailLockMillis > 0) {
+            long remainingMinutes = Math.max(1, Duration.ofMillis(emailLockMillis).toMinutes());
             log.warn("계정 잠금 상태 - 이메일: {}, 남은 시간: {}분", email, remainingMinutes);
             throw new AccountLockedException("비밀번호 입력 횟수 초과하였습니다. [" +
                     remainingMinutes + "분]뒤 재시도 가능합니다. 비밀번호 찾기를 이용하여 비밀번호를 변경 하신 후 사용하시기 바랍니다.");
         }
+
+        if (clientIp != null && toMillis(ttls.get(1)) > 0) {
+            log.warn("IP 로그인 차단 상태 - IP: {}", clientIp);
+            throw new TooManyLoginAttemptsException();
+        }
     }
 
     /**
@@ -73,48 +118,45 @@ public class LoginAttemptServiceImpl implements LoginAttemptService {
      * @return 남은 로그인 시도 횟수
      */
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public int handleLoginFailure(String email) {
         // 특정 이메일은 실패 횟수를 기록하지 않음
         if (UNLIMITED_ATTEMPTS_EMAIL.equals(email)) {
-            log.info("무제한 로그인 시도가 허용된 이메일의 실패 처리 무시: {}", email);
+            log.debug("무제한 로그인 시도가 허용된 이메일의 실패 처리 무시: {}", email);
             return MAX_FAILED_ATTEMPTS; // 항상 최대 시도 횟수 반환
         }
-        LoginAttemptEntity loginAttempt = getOrCreateLoginAttempt(email);
-
-        // 잠금 시간이 만료된 경우 먼저 초기화
-        if (loginAttempt.getLockedUntil() != null &&
-                loginAttempt.getLockedUntil().isBefore(LocalDateTime.now())) {
-            // 실패 횟수를 초기화하고 새로운 실패 횟수 적용
-            loginAttempt.resetFailedAttempts();
-            log.info("계정 잠금 시간 만료 - 자동 잠금 해제: {}", email);
+
+        String clientIp = resolveClientIp();
+        if (clientIp != null) {
+            long ipFailures = recordFailure(IP_FAILURE_KEY_PREFIX + clientIp, IP_LOCK_KEY_PREFIX + clientIp,
+                    MAX_FAILED_ATTEMPTS_PER_IP, IP_FAILURE_WINDOW, IP_LOCK_TIME);
+            if (ipFailures >= MAX_FAILED_ATTEMPTS_PER_IP) {
+                log.warn("IP 로그인 차단 - IP: {}, {}분간 로그인 제한", clientIp, IP_LOCK_TIME.toMinutes());
+            }
         }
 
-        loginAttempt.incrementFailedAttempts(MAX_FAILED_ATTEMPTS, LOCK_TIME_MINUTES);
+        int failedAttempts = (int) recordFailure(EMAIL_FAILURE_KEY_PREFIX + email, EMAIL_LOCK_KEY_PREFIX + email,
+                MAX_FAILED_ATTEMPTS, EMAIL_FAILURE_WINDOW, Duration.ofMinutes(LOCK_TIME_MINUTES));
 
-        // 저장 전후로 로그 추가
-        log.info("로그인 실패 저장 전 - 이메일: {}, 실패 횟수: {}", email, loginAttempt.getFailedAttempts());
-        LoginAttemptEntity saved = loginAttemptRepository.save(loginAttempt);
-        log.info("로그인 실패 저장 후 - 이메일: {}, 실패 횟수: {}, ID: {}",
-                email, saved.getFailedAttempts(), saved.getId());
+        LocalDateTime lockedUntil = failedAttempts >= MAX_FAILED_ATTEMPTS
+                ? LocalDateTime.now().plusMinutes(LOCK_TIME_MINUTES)
+                : null;
+        loginAttemptAuditWriter.recordFailure(email, failedAttempts, lockedUntil);
 
-        int remainingAttempts = MAX_FAILED_ATTEMPTS - loginAttempt.getFailedAttempts();
-        log.info("로그인 실패 - 이메일: {}, 남은 시도 횟수: {}", email, remainingAttempts);
+        int remainingAttempts = MAX_FAILED_ATTEMPTS - failedAttempts;
+        log.info("로그인 실패 - 이메일: {}, 남은 시도 횟수: {}", email, Math.max(0, remainingAttempts));
 
         return Math.max(0, remainingAttempts);
     }
 
     /**
-     * 로그인 성공 시 실패 카운터 초기화
+     * 로그인 성공 시 실패 카운터 초기화 (IP 실패 기록은 유지)
      * @param email 사용자 이메일
      */
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void resetFailedAttempts(String email) {
-        LoginAttemptEntity loginAttempt = getOrCreateLoginAttempt(email);
-        loginAttempt.resetFailedAttempts();
-        loginAttemptRepository.save(loginAttempt);
-        log.info("로그인 성공 - 이메일: {}, 로그인 시도 카운터 초기화", email);
+        redisTemplate.delete(EMAIL_FAILURE_KEY_PREFIX + email);
+        loginAttemptAuditWriter.recordReset(email);
+        log.debug("로그인 성공 - 이메일: {}, 로그인 시도 카운터 초기화", email);
     }
 
     /**
@@ -122,34 +164,49 @@ public class LoginAttemptServiceImpl implements LoginAttemptService {
      * @param email 사용자 이메일
      */
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void unlockAccount(String email) {
-        loginAttemptRepository.findByEmail(email).ifPresent(loginAttempt -> {
-            loginAttempt.resetFailedAttempts();
-            loginAttemptRepository.save(loginAttempt);
-            log.info("계정 잠금 해제 - 이메일: {}, 비밀번호 재설정으로 인한 잠금 해제", email);
-        });
+        redisTemplate.delete(List.of(EMAIL_FAILURE_KEY_PREFIX + email, EMAIL_LOCK_KEY_PREFIX + email));
+        loginAttemptAuditWriter.recordReset(email);
+        log.info("계정 잠금 해제 - 이메일: {}, 비밀번호 재설정으로 인한 잠금 해제", email);
     }
 
     /**
-     * 이메일로 로그인 시도 엔티티 조회, 없으면 새로 생성
-     * @param email 사용자 이메일
-     * @return 로그인 시도 엔티티
+     * 슬라이딩 윈도우에 실패 기록 후 윈도우 내 실패 횟수 반환
+     */
+    private long recordFailure(String failureKey, String lockKey, int maxAttempts, Duration window, Duration lockTime) {
+        Long count = redisTemplate.execute(RECORD_FAILURE_SCRIPT,
+                List.of(failureKey, lockKey),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(window.toMillis()),
+                String.valueOf(maxAttempts),
+                String.valueOf(lockTime.toMillis()),
+                UUID.randomUUID().toString());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 현재 요청의 클라이언트 IP (Nginx가 덮어쓰는 X-Real-IP 우선, 없으면 접속 주소, 요청 컨텍스트가 없으면 null)
+     * - X-Forwarded-For 첫 값은 클라이언트가 임의로 넣을 수 있어 IP별 시도 제한을 우회할 수 있으므로 사용하지 않음
      */
-    protected LoginAttemptEntity getOrCreateLoginAttempt(String email) {
-        // 먼저 email로 조회
-        Optional<LoginAttemptEntity> existingAttempt = loginAttemptRepository.findByEmail(email);
+    private String resolveClientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
 
-        if (existingAttempt.isPresent()) {
-            return existingAttempt.get();
+        HttpServletRequest request = servletAttributes.getRequest();
+        String realIp = request.getHeader("X-Real-IP");
+        if (StringUtils.hasText(realIp)) {
+            return realIp.trim();
         }
+        return request.getRemoteAddr();
+    }
 
-        // 존재하지 않는 경우 새로 생성
-        LoginAttemptEntity newAttempt = LoginAttemptEntity.builder()
-                .email(email)
-                .failedAttempts(0)
-                .build();
-        return loginAttemptRepository.save(newAttempt);
+    private long toMillis(Object ttl) {
+        return (ttl instanceof Number number) ? number.longValue() : -1;
     }
 
-}
\ No newline at end of file
+    private byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
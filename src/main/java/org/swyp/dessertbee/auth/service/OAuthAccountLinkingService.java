@@ -47,6 +47,7 @@ class OAuthAccountLinkingServiceImpl implements OAuthAccountLinkingService {
 
     private final UserRepository userRepository;
     private final AuthRepository authRepository;
+    private final AuthSessionCacheService authSessionCacheService;
 
     @Override
     @Transactional(readOnly = true)
@@ -112,6 +113,7 @@ class OAuthAccountLinkingServiceImpl implements OAuthAccountLinkingService {
 
         authRepository.save(newAuth);
         user.getAuthEntities().add(newAuth);
+        authSessionCacheService.evict(user.getUserUuid());
 
         log.info("OAuth 제공자 자동 연결 완료 - 사용자 ID: {}, 제공자: {}", user.getId(), provider);
         return user;
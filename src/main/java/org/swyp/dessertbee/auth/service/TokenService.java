@@ -29,6 +29,7 @@ public class TokenService {
     private final JWTUtil jwtUtil;
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private final UserService userService;
+    private final AuthSessionCacheService authSessionCacheService;
 
     /**
      * 디바이스 ID 생성
@@ -98,6 +99,7 @@ public class TokenService {
             }
 
             authRepository.save(auth);
+            authSessionCacheService.evict(userUuid);
 
             // 생성하거나 사용한 디바이스 ID 반환
             return deviceId;
@@ -138,6 +140,7 @@ public class TokenService {
             AuthEntity auth = authOpt.get();
             auth.deactivate();
             authRepository.save(auth);
+            authSessionCacheService.evict(userUuid);
 
             log.info("리프레시 토큰 무효화 완료 - 이메일: {}, 디바이스: {}", email, deviceId);
         } catch (BusinessException e) {
@@ -171,6 +174,7 @@ public class TokenService {
             }
 
             authRepository.saveAll(authEntities);
+            authSessionCacheService.evict(userUuid);
 
             log.info("리프레시 토큰 무효화 완료 - 이메일: {}", email);
         } catch (BusinessException e) {
@@ -244,6 +248,7 @@ public class TokenService {
             // 마지막 로그인 시간 업데이트
             auth.updateRefreshToken(auth.getRefreshToken(), auth.getRefreshTokenExpiresAt());
             authRepository.save(auth);
+            authSessionCacheService.evict(userUuid);
 
             log.info("리프레시 토큰 검증 성공 - 새로운 액세스 토큰 발급 완료: {}, 디바이스: {}", email, deviceId);
 
@@ -0,0 +1,201 @@
+package org.swyp.dessertbee.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.swyp.dessertbee.common.entity.ImageType;
+import org.swyp.dessertbee.common.event.ImageChangedEvent;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 이미지 URL read-through 캐시 ((refType, refId) 기준)
+ * - 같은 요청 안에서는 요청별 보관소의 결과를 재사용하고, 요청 간에는 크기 제한이 있는 프로세스 캐시를 사용
+ * - 참조별 전체 URL 목록과 대표 이미지(첫 번째 URL)를 따로 적재하고, 무효화는 둘을 함께 처리
+ * - 참조별 버전을 두어, 조회 도중 무효화된 경우 이전 URL 목록이 캐시에 다시 적재되지 않도록 함
+ * - 이미지 저장/삭제 시 즉시 무효화하고, 트랜잭션 종료(커밋/롤백) 이후 한 번 더 무효화하여 트랜잭션 중 적재된 값도 제거
+ */
+@Slf4j
+@Component
+public class ImageUrlCache {
+
+    private final Cache<ImageKey, CachedEntry> cache;
+    private final Cache<ImageKey, Long> versions;
+    private final AtomicLong versionSequence = new AtomicLong();
+    /**
+     * 요청별 조회 결과 보관소 (요청 속성 객체 기준, 약한 참조라 요청이 끝나면 함께 정리됨)
+     * - 가게 상세처럼 요청 속성을 공유하는 병렬 조회가 같은 보관소를 쓰도록 원자적으로 생성
+     */
+    private final Cache<RequestAttributes, Map<ImageKey, List<String>>> requestMemos = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public ImageUrlCache(MeterRegistry meterRegistry,
+                         @Value("${image.url-cache.max-size:10000}") long maxSize,
+                         @Value("${image.url-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        // 버전은 캐시 항목보다 오래 유지 (먼저 만료되면 불필요한 캐시 미스만 발생)
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize * 2)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes * 2))
+                .build();
+
+        this.hitCounter = Counter.builder("image.url.cache.requests")
+                .description("이미지 URL 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("image.url.cache.requests")
+                .description("이미지 URL 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("image.url.cache.invalidations")
+                .description("이미지 URL 캐시 무효화 수")
+                .register(meterRegistry);
+        Gauge.builder("image.url.cache.size", cache, Cache::estimatedSize)
+                .description("이미지 URL 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 여러 refId의 이미지 URL 목록 조회, 요청/프로세스 캐시에 없는 refId만 loader로 한 번에 조회 후 적재
+     * - 이미지가 없는 refId도 빈 목록으로 적재하여 반복 조회를 막음
+     * @param loader 캐시에 없는 refId 집합 → (refId → URL 목록)
+     */
+    public Map<Long, List<String>> getAll(ImageType refType, Collection<Long> refIds,
+                                          Function<Set<Long>, Map<Long, List<String>>> loader) {
+        return lookup(refType, false, refIds, loader);
+    }
+
+    /**
+     * 여러 refId의 대표 이미지 URL 조회 - 전체 목록이 아닌 첫 번째 URL만 적재 (이미지가 없는 refId는 결과에 없음)
+     * @param loader 캐시에 없는 refId 집합 → (refId → 대표 이미지 URL)
+     */
+    public Map<Long, String> getThumbnails(ImageType refType, Collection<Long> refIds,
+                                           Function<Set<Long>, Map<Long, String>> loader) {
+        Map<Long, List<String>> found = lookup(refType, true, refIds, missingRefIds -> {
+            Map<Long, List<String>> loaded = new HashMap<>();
+            loader.apply(missingRefIds).forEach((refId, url) -> {
+                if (url != null) loaded.put(refId, List.of(url));
+            });
+            return loaded;
+        });
+
+        Map<Long, String> thumbnails = new HashMap<>();
+        found.forEach((refId, urls) -> {
+            if (!urls.isEmpty()) thumbnails.put(refId, urls.get(0));
+        });
+        return thumbnails;
+    }
+
+    private Map<Long, List<String>> lookup(ImageType refType, boolean thumbnail, Collection<Long> refIds,
+                                           Function<Set<Long>, Map<Long, List<String>>> loader) {
+        Map<ImageKey, List<String>> requestMemo = requestMemo();
+        Map<Long, List<String>> result = new HashMap<>();
+        // 캐시에 없는 refId → 조회 시작 시점의 버전
+        Map<Long, Long> missingVersions = new LinkedHashMap<>();
+
+        for (Long refId : refIds) {
+            if (refId == null || result.containsKey(refId) || missingVersions.containsKey(refId)) continue;
+
+            ImageKey key = new ImageKey(refType, refId, thumbnail);
+            List<String> memoized = (requestMemo != null) ? requestMemo.get(key) : null;
+            if (memoized != null) {
+                result.put(refId, memoized);
+                continue;
+            }
+
+            long version = currentVersion(key);
+            CachedEntry cached = cache.getIfPresent(key);
+            if (cached != null && cached.version() == version) {
+                hitCounter.increment();
+                result.put(refId, cached.urls());
+                if (requestMemo != null) requestMemo.put(key, cached.urls());
+            } else {
+                missingVersions.put(refId, version);
+            }
+        }
+
+        if (missingVersions.isEmpty()) return result;
+
+        missCounter.increment(missingVersions.size());
+        Map<Long, List<String>> loaded = loader.apply(missingVersions.keySet());
+        missingVersions.forEach((refId, version) -> {
+            ImageKey key = new ImageKey(refType, refId, thumbnail);
+            List<String> urls = List.copyOf(loaded.getOrDefault(refId, Collections.emptyList()));
+            // 조회 도중 버전이 바뀌었다면 기존 값을 유지
+            cache.asMap().compute(key, (k, existing) ->
+                    currentVersion(k) == version ? new CachedEntry(version, urls) : existing);
+            if (requestMemo != null) requestMemo.put(key, urls);
+            result.put(refId, urls);
+        });
+        return result;
+    }
+
+    /** 특정 참조의 이미지 캐시 무효화 (대표 이미지, 현재 요청의 조회 결과 포함) */
+    public void invalidate(ImageType refType, Long refId) {
+        if (refType == null || refId == null) return;
+
+        ImageKey key = new ImageKey(refType, refId, false);
+        ImageKey thumbnailKey = new ImageKey(refType, refId, true);
+        versions.put(key, versionSequence.incrementAndGet());
+        cache.invalidateAll(List.of(key, thumbnailKey));
+        Map<ImageKey, List<String>> requestMemo = requestMemo();
+        if (requestMemo != null) {
+            requestMemo.remove(key);
+            requestMemo.remove(thumbnailKey);
+        }
+        invalidationCounter.increment();
+        log.debug("이미지 URL 캐시 무효화 - refType: {}, refId: {}", refType, refId);
+    }
+
+    /** 이미지 변경 이벤트 처리 (트랜잭션 중 다시 적재된 값 제거, 롤백된 경우 포함) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void handleImageChanged(ImageChangedEvent event) {
+        invalidate(event.getRefType(), event.getRefId());
+    }
+
+    /**
+     * 현재 요청의 조회 결과 보관소 (요청 밖에서 호출되면 null)
+     */
+    private Map<ImageKey, List<String>> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+
+        return requestMemos.asMap().computeIfAbsent(attributes, k -> new ConcurrentHashMap<>());
+    }
+
+    /** 참조의 현재 버전 (전체 목록과 대표 이미지가 같은 버전을 공유) */
+    private long currentVersion(ImageKey key) {
+        return versions.get(key.thumbnail() ? new ImageKey(key.refType(), key.refId(), false) : key,
+                k -> versionSequence.incrementAndGet());
+    }
+
+    /**
+     * @param thumbnail 대표 이미지(첫 번째 URL)만 적재한 항목 여부
+     */
+    private record ImageKey(ImageType refType, Long refId, boolean thumbnail) {
+    }
+
+    private record CachedEntry(long version, List<String> urls) {
+    }
+}
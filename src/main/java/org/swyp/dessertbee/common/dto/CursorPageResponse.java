@@ -0,0 +1,34 @@
+package org.swyp.dessertbee.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    @Schema(description = "현재 페이지 항목 리스트")
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNS0wNS0xN1QwMDozMDo1OC43NDJ8MTI4", nullable = true)
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "전체 항목 수", example = "128")
+    private long totalCount;
+
+    public static <T> CursorPageResponse<T> empty() {
+        return new CursorPageResponse<>(Collections.emptyList(), null, false, 0L);
+    }
+}
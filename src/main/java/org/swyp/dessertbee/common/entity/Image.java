@@ -10,7 +10,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "image")
+@Table(name = "image", indexes = {
+        @Index(name = "idx_image_ref_type_ref_id", columnList = "ref_type, ref_id, id")
+})
 public class Image {
 
     @Id
@@ -0,0 +1,15 @@
+package org.swyp.dessertbee.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.swyp.dessertbee.common.entity.ImageType;
+
+/**
+ * 이미지 업로드/수정/삭제 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ImageChangedEvent {
+    private final ImageType refType;
+    private final Long refId;
+}
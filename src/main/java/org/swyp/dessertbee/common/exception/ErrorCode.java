@@ -32,6 +32,7 @@ public enum ErrorCode {
     INVALID_EMAIL(HttpStatus.UNAUTHORIZED, "A013", "이메일을 다시 확인해주세요."),
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "A014", "비밀번호를 다시 입력해주세요."),
     ACCOUNT_LOCKED(HttpStatus.UNAUTHORIZED, "A015", "계정이 잠겼습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "A016", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // OAuth
     INVALID_PROVIDER(HttpStatus.BAD_REQUEST, "O001", "지원되지 않는 OAuth 제공자입니다."),
@@ -75,7 +76,7 @@ public enum ErrorCode {
     POPULAR_KEYWORD_CREATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "K006", "인기 검색 기록 생성에 실패했습니다."),
     POPULAR_KEYWORD_SYNC_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "K007", "인기 검색 기록 동기화에 실패했습니다."),
     POPULAR_KEYWORD_INIT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "K008", "인기 검색 기록 초기화에 실패했습니다."),
-    ELASTICSEARCH_COMMUNICATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "K009", "Elasticsearch 통신 중 오류가 발생했습니다."),
+    SEARCH_INDEX_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "K009", "가게 검색 인덱스 처리 중 오류가 발생했습니다."),
 
     // Log
     MATE_LOG_CREATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "L001", "디저트 메이트 로그 저장에 실패했습니다."),
@@ -1,10 +1,13 @@
 package org.swyp.dessertbee.common.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.swyp.dessertbee.common.entity.Image;
 import org.swyp.dessertbee.common.entity.ImageType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +20,14 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
     // 여러 refId의 이미지 한 번에 조회
     List<Image> findByRefTypeAndRefIdIn(ImageType refType, List<Long> refIds);
 
+    // 여러 refId의 이미지 한 번에 조회 (refId별 등록 순서 유지)
+    List<Image> findByRefTypeAndRefIdInOrderByIdAsc(ImageType refType, Collection<Long> refIds);
+
+    // 여러 refId의 첫 번째 이미지(ID가 가장 작은 이미지) URL 한 번에 조회 - (refId, url)
+    @Query("SELECT i.refId, i.url FROM Image i WHERE i.id IN (" +
+            "SELECT MIN(i2.id) FROM Image i2 WHERE i2.refType = :refType AND i2.refId IN :refIds GROUP BY i2.refId)")
+    List<Object[]> findFirstImageUrlsByRefTypeAndRefIdIn(@Param("refType") ImageType refType, @Param("refIds") Collection<Long> refIds);
+
     List<Image> findIdAndUrlByRefTypeAndRefId(ImageType imageType, Long reviewId);
 
     List<Image> findByIdIn(List<Long> deleteIds);
@@ -12,12 +12,7 @@ public class SearchScheduler {
     private final SearchService searchService;
 
     @Scheduled(fixedRate = 60000)
-    public void syncPopularSearchesToDB() {
-        searchService.syncPopularSearchesToDB();
-    }
-
-    @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul") // 매일 00:10 실행
-    public void midnightSyncPopularSearchesToDB() {
-        searchService.midnightSyncPopularSearchesToDB();
+    public void refreshPopularSearches() {
+        searchService.refreshPopularSearches();
     }
 }
\ No newline at end of file
@@ -2,11 +2,14 @@ package org.swyp.dessertbee.common.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.swyp.dessertbee.common.cache.ImageUrlCache;
 import org.swyp.dessertbee.common.entity.Image;
 import org.swyp.dessertbee.common.entity.ImageType;
+import org.swyp.dessertbee.common.event.ImageChangedEvent;
 import org.swyp.dessertbee.common.exception.BusinessException;
 import org.swyp.dessertbee.common.exception.ErrorCode;
 import org.swyp.dessertbee.common.repository.ImageRepository;
@@ -18,7 +21,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -31,6 +38,8 @@ public class ImageService {
 
     private final ImageRepository imageRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageUrlCache imageUrlCache;
 
     /**
      * 다중 이미지 업로드
@@ -53,6 +62,7 @@ public class ImageService {
                 .collect(Collectors.toList());
 
         imageRepository.saveAll(images);
+        publishImageChanged(refType, refId);
     }
 
     /**
@@ -72,6 +82,7 @@ public class ImageService {
                     .build();
 
             imageRepository.save(image);
+            publishImageChanged(refType, refId);
             log.info("이미지 업로드 성공 - type: {}, refId: {}", refType, refId);
         } catch (Exception e) {
             log.error("이미지 업로드 실패 - type: {}, refId: {}", refType, refId, e);
@@ -88,13 +99,10 @@ public class ImageService {
             return "";
         }
 
-        List<Image> images = imageRepository.findByRefTypeAndRefId(refType, refId);
-
-        // 로그 추가
-        log.info("조회된 이미지 개수: {}, refType: {}, refId: {}", images.size(), refType, refId);
-
-        return images.stream().map(Image::getUrl).findFirst().orElse("");
+        List<String> urls = loadAll(refType, List.of(refId)).getOrDefault(refId, Collections.emptyList());
+        log.debug("조회된 이미지 개수: {}, refType: {}, refId: {}", urls.size(), refType, refId);
 
+        return urls.isEmpty() ? "" : urls.get(0);
     }
 
     /**
@@ -106,17 +114,29 @@ public class ImageService {
             throw new BusinessException(ErrorCode.IMAGE_REFERENCE_INVALID);
         }
 
-        try {
-            List<Image> images = imageRepository.findByRefTypeAndRefId(refType, refId);
-            // 로그 추가
-            log.info("조회된 이미지 개수: {}, refType: {}, refId: {}", images.size(), refType, refId);
+        List<String> urls = loadAll(refType, List.of(refId)).getOrDefault(refId, Collections.emptyList());
+        log.debug("조회된 이미지 개수: {}, refType: {}, refId: {}", urls.size(), refType, refId);
 
-            // 조회된 이미지 리스트에서 URL만 추출
-            return images.stream()
-                    .map(Image::getUrl)
-                    .collect(Collectors.toList());
+        // 캐시된 목록은 불변이므로 호출부에서 수정할 수 있도록 복사본 반환
+        return new ArrayList<>(urls);
+    }
+
+    /**
+     * 여러 refId의 이미지 URL 목록 한 번에 조회 (같은 요청 안에서 이미 조회한 refId와 캐시된 refId는 DB 조회 생략)
+     * - 이미지가 없는 refId는 빈 목록, 반환된 목록은 수정 불가
+     */
+    public Map<Long, List<String>> loadAll(ImageType refType, Collection<Long> refIds) {
+        if (refType == null || refIds == null || refIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            return imageUrlCache.getAll(refType, refIds, missingRefIds ->
+                    imageRepository.findByRefTypeAndRefIdInOrderByIdAsc(refType, missingRefIds).stream()
+                            .collect(Collectors.groupingBy(Image::getRefId,
+                                    Collectors.mapping(Image::getUrl, Collectors.toList()))));
         } catch (Exception e) {
-            log.error("이미지 조회 중 오류 발생 - refType: {}, refId: {}", refType, refId, e);
+            log.error("이미지 일괄 조회 중 오류 발생 - refType: {}, refId 수: {}", refType, refIds.size(), e);
             throw new BusinessException(ErrorCode.IMAGE_FETCH_ERROR);
         }
     }
@@ -132,7 +152,7 @@ public class ImageService {
 
         try {
             List<Image> images = imageRepository.findByRefTypeAndRefId(refType, refId);
-            log.info("조회된 이미지 개수: {}, refType: {}, refId: {}", images.size(), refType, refId);
+            log.debug("조회된 이미지 개수: {}, refType: {}, refId: {}", images.size(), refType, refId);
 
             return images.stream()
                     .map(image -> new StoreImageResponse(image.getId(), image.getUrl()))
@@ -236,10 +256,30 @@ public class ImageService {
      * 여러 refId에 해당하는 이미지 조회
      */
     public Map<Long, List<String>> getImagesByTypeAndIds(ImageType type, List<Long> refIds) {
-        List<Image> images = imageRepository.findByRefTypeAndRefIdIn(type, refIds);
-        return images.stream()
-                .collect(Collectors.groupingBy(Image::getRefId,
-                        Collectors.mapping(Image::getUrl, Collectors.toList())));
+        return loadAll(type, refIds);
+    }
+
+    /**
+     * 여러 refId의 대표 이미지(첫 번째 이미지) URL 한 번에 조회 - 이미지가 없는 refId는 결과에 없음
+     * - refId별 첫 번째 이미지만 조회하고, 이미지 URL 캐시에는 대표 이미지 URL만 따로 적재 (이미지 변경 시 목록과 함께 무효화)
+     */
+    public Map<Long, String> getThumbnailsByTypeAndIds(ImageType type, Collection<Long> refIds) {
+        if (type == null || refIds == null || refIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            return imageUrlCache.getThumbnails(type, refIds, missingRefIds -> {
+                Map<Long, String> thumbnails = new HashMap<>();
+                for (Object[] row : imageRepository.findFirstImageUrlsByRefTypeAndRefIdIn(type, missingRefIds)) {
+                    thumbnails.put((Long) row[0], (String) row[1]);
+                }
+                return thumbnails;
+            });
+        } catch (Exception e) {
+            log.error("대표 이미지 일괄 조회 중 오류 발생 - refType: {}, refId 수: {}", type, refIds.size(), e);
+            throw new BusinessException(ErrorCode.IMAGE_FETCH_ERROR);
+        }
     }
 
     /**
@@ -280,7 +320,7 @@ public class ImageService {
     @Transactional
     public void deleteImagesByIds(List<Long> imageIds) {
         if (imageIds == null || imageIds.isEmpty()) {
-            log.info("삭제할 이미지 ID가 없어서 삭제를 건너뜁니다.");
+            log.debug("삭제할 이미지 ID가 없어서 삭제를 건너뜁니다.");
             return;
         }
 
@@ -293,7 +333,7 @@ public class ImageService {
      */
     private void deleteImages(List<Image> images) {
         if (images == null || images.isEmpty()) {
-            log.info("삭제할 이미지가 없어서 삭제를 건너뜁니다.");
+            log.debug("삭제할 이미지가 없어서 삭제를 건너뜁니다.");
             return;
         }
 
@@ -306,6 +346,11 @@ public class ImageService {
         });
 
         imageRepository.deleteAll(images);
+        images.stream()
+                .collect(Collectors.groupingBy(Image::getRefType,
+                        Collectors.mapping(Image::getRefId, Collectors.toSet())))
+                .forEach((refType, refIds) -> refIds.forEach(refId ->
+                        publishImageChanged(refType, refId)));
         log.info("DB 이미지 삭제 완료 - 삭제 개수: {}", images.size());
     }
 
@@ -326,6 +371,7 @@ public class ImageService {
                     .build();
 
             imageRepository.save(image);
+            publishImageChanged(refType, refId);
 
             log.info("이미지 업로드 성공 - type: {}, refId: {}", refType, refId);
             return image;
@@ -345,6 +391,14 @@ public class ImageService {
 
     }
 
+    /**
+     * 이미지 변경 반영 - 같은 요청/트랜잭션의 이후 조회가 바뀐 이미지를 보도록 캐시를 즉시 비우고 변경 이벤트 발행
+     */
+    private void publishImageChanged(ImageType refType, Long refId) {
+        imageUrlCache.invalidate(refType, refId);
+        eventPublisher.publishEvent(new ImageChangedEvent(refType, refId));
+    }
+
     /**
      * 프로필 이미지 유효성 검증
      */
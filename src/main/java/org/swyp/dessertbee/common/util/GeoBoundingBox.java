@@ -0,0 +1,39 @@
+package org.swyp.dessertbee.common.util;
+
+/**
+ * 중심 좌표와 반경(m)을 감싸는 위도/경도 사각 범위
+ * - ST_Distance_Sphere 계산 전에 latitude/longitude 인덱스로 후보를 좁히기 위한 용도
+ * - 실제 반경보다 약간 넓게 잡히므로 정확한 거리 필터는 쿼리에서 별도로 수행
+ * - 범위가 극점을 포함하거나 날짜 변경선(경도 ±180)을 넘으면 경도는 전체 범위 사용 (후보가 빠지지 않도록)
+ */
+public record GeoBoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+
+    /** ST_Distance_Sphere 기본 지구 반지름 (m) */
+    private static final double EARTH_RADIUS_METERS = 6_370_986.0;
+
+    private static final double MAX_LAT = 90.0;
+    private static final double MAX_LNG = 180.0;
+
+    public static GeoBoundingBox around(double lat, double lng, double radiusMeters) {
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double minLat = Math.max(-MAX_LAT, lat - latDelta);
+        double maxLat = Math.min(MAX_LAT, lat + latDelta);
+
+        // 극점을 포함하면 모든 경도가 반경 안에 들어올 수 있음
+        if (minLat <= -MAX_LAT || maxLat >= MAX_LAT) {
+            return new GeoBoundingBox(minLat, maxLat, -MAX_LNG, MAX_LNG);
+        }
+
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double lngDelta = Math.toDegrees(radiusMeters / (EARTH_RADIUS_METERS * cosLat));
+        double minLng = lng - lngDelta;
+        double maxLng = lng + lngDelta;
+
+        // 날짜 변경선을 넘으면 반대편 경도(-180 / +180 근처)도 후보에 포함되어야 함
+        if (minLng < -MAX_LNG || maxLng > MAX_LNG) {
+            return new GeoBoundingBox(minLat, maxLat, -MAX_LNG, MAX_LNG);
+        }
+
+        return new GeoBoundingBox(minLat, maxLat, minLng, maxLng);
+    }
+}
@@ -1,14 +1,48 @@
 package org.swyp.dessertbee.common.util;
 
+import org.swyp.dessertbee.common.exception.BusinessException;
+import org.swyp.dessertbee.common.exception.ErrorCode;
+
 import java.time.LocalDate;
 import java.time.temporal.WeekFields;
-import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * ISO-8601 주 표기(yyyy-Www, 월요일 시작, 1월 4일이 속한 주가 1주차)
+ */
 public class YearWeek {
+
+    private static final Pattern YEAR_WEEK_PATTERN = Pattern.compile("^(\\d{4})-W(\\d{1,2})$");
+
     public static String from(LocalDate date) {
-        WeekFields weekFields = WeekFields.of(Locale.getDefault());
+        WeekFields weekFields = WeekFields.ISO;
         int weekNumber = date.get(weekFields.weekOfWeekBasedYear());
         int year = date.get(weekFields.weekBasedYear());
         return String.format("%d-W%02d", year, weekNumber);
     }
+
+    /**
+     * {@link #from(LocalDate)} 형식(yyyy-Www)의 주 시작일 반환
+     */
+    public static LocalDate startOf(String yearWeek) {
+        Matcher matcher = YEAR_WEEK_PATTERN.matcher(yearWeek == null ? "" : yearWeek);
+        if (!matcher.matches()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        WeekFields weekFields = WeekFields.ISO;
+        int year = Integer.parseInt(matcher.group(1));
+        int week = Integer.parseInt(matcher.group(2));
+
+        // 53주차는 53주가 있는 해에만 허용 (없는 해는 다음 해 1주차로 넘어가지 않도록 거부)
+        LocalDate midYear = LocalDate.of(year, 6, 1);
+        if (!weekFields.weekOfWeekBasedYear().rangeRefinedBy(midYear).isValidValue(week)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        return midYear
+                .with(weekFields.weekOfWeekBasedYear(), week)
+                .with(weekFields.dayOfWeek(), 1);
+    }
 }
@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name="mate")
+@Table(name="mate", indexes = {
+        @Index(name = "idx_mate_store_created", columnList = "store_id, created_at, mate_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.swyp.dessertbee.community.mate.entity.Mate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +23,22 @@ public interface MateRepository extends JpaRepository<Mate, Long> {
     @Query("SELECT m FROM Mate m WHERE m.storeId = :storeId AND m.deletedAt IS NULL")
     List<Mate> findByStoreIdAndDeletedAtIsNull(@Param("storeId") Long storeId);
 
+    long countByStoreIdAndDeletedAtIsNull(Long storeId);
+
+    /** 가게 디저트 메이트 첫 페이지 조회 (created_at, mate_id 내림차순) */
+    @Query("SELECT m FROM Mate m WHERE m.storeId = :storeId AND m.deletedAt IS NULL " +
+            "ORDER BY m.createdAt DESC, m.mateId DESC")
+    List<Mate> findFirstPageByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+
+    /** 가게 디저트 메이트 커서 이후 페이지 조회 (keyset) */
+    @Query("SELECT m FROM Mate m WHERE m.storeId = :storeId AND m.deletedAt IS NULL " +
+            "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.mateId < :mateId)) " +
+            "ORDER BY m.createdAt DESC, m.mateId DESC")
+    List<Mate> findPageByStoreIdAfter(@Param("storeId") Long storeId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("mateId") Long mateId,
+                                      Pageable pageable);
+
     /**
      * MateUuid로 MateId 조회
      * */
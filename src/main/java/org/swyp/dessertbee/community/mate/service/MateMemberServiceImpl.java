@@ -25,6 +25,7 @@ import org.swyp.dessertbee.user.service.UserBlockService;
 import org.swyp.dessertbee.user.service.UserService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -109,6 +110,10 @@ public class MateMemberServiceImpl implements MateMemberService {
                 .toList();
 
 
+        // 멤버 프로필 이미지 한 번에 조회
+        Map<Long, List<String>> profileImages = imageService.loadAll(ImageType.PROFILE,
+                users.stream().map(UserEntity::getId).toList());
+
         // MateMember와 UserEntity를 매칭하여 MateMemberResponse 생성
         return mateMembers.stream()
                 .map(mateMember -> {
@@ -123,11 +128,12 @@ public class MateMemberServiceImpl implements MateMemberService {
                         throw new RuntimeException(e);
                     }
 
-                    // 사용자별 프로필 이미지 조회
-                    String profileImages = imageService.getImageByTypeAndId(ImageType.PROFILE, user.getId());
+                    // 사용자별 프로필 이미지
+                    List<String> userProfileImages = profileImages.getOrDefault(user.getId(), List.of());
+                    String profileImage = userProfileImages.isEmpty() ? "" : userProfileImages.get(0);
 
                     // MateMemberResponse 생성
-                    return MateMemberResponse.fromEntity(mateMember, user, profileImages);
+                    return MateMemberResponse.fromEntity(mateMember, user, profileImage);
                 })
                 .toList();
     }
@@ -264,6 +270,10 @@ public class MateMemberServiceImpl implements MateMemberService {
                 .toList();
 
 
+        // 멤버 프로필 이미지 한 번에 조회
+        Map<Long, List<String>> profileImages = imageService.loadAll(ImageType.PROFILE,
+                users.stream().map(UserEntity::getId).toList());
+
         // MateMember와 UserEntity를 매칭하여 MateMemberResponse 생성
         return mateMembers.stream()
                 .map(mateMember -> {
@@ -278,11 +288,12 @@ public class MateMemberServiceImpl implements MateMemberService {
                         throw new RuntimeException(e);
                     }
 
-                    // 사용자별 프로필 이미지 조회
-                   String profileImages = imageService.getImageByTypeAndId(ImageType.PROFILE, user.getId());
+                    // 사용자별 프로필 이미지
+                    List<String> userProfileImages = profileImages.getOrDefault(user.getId(), List.of());
+                    String profileImage = userProfileImages.isEmpty() ? "" : userProfileImages.get(0);
 
                     // MateMemberResponse 생성
-                    return MateMemberResponse.fromEntity(mateMember, user, profileImages);
+                    return MateMemberResponse.fromEntity(mateMember, user, profileImage);
                 })
                 .toList();
     }
@@ -185,6 +185,9 @@ public class MateReplyServiceImpl implements MateReplyService {
         // Pageable을 이용하여 데이터 조회
         Page<MateReply> repliesPage = mateReplyRepository.findAllByDeletedAtIsNull(mateId, pageable);
 
+        // 댓글 작성자 프로필 이미지 미리 조회 (댓글별 매핑 시 요청 단위 캐시에서 재사용)
+        imageService.loadAll(ImageType.PROFILE, repliesPage.stream().map(MateReply::getUserId).toList());
+
         // MateReplyResponse로 변환
         List<MateReplyResponse> repliesResponse = repliesPage.getContent()
                 .stream()
@@ -211,6 +214,9 @@ public class MateReplyServiceImpl implements MateReplyService {
 
         Page<MateReply> repliesPage = mateReplyRepository.findAllByMateId(mateId, pageable);
 
+        // 댓글 작성자 프로필 이미지 미리 조회 (대댓글은 페이지 밖일 수 있어 개별 조회 시 캐시 사용)
+        imageService.loadAll(ImageType.PROFILE, repliesPage.stream().map(MateReply::getUserId).toList());
+
 
         // 최상위 댓글만 필터링 (parentMateReplyId == null)
         List<MateAppReplyResponse> repliesResponse = repliesPage.getContent()
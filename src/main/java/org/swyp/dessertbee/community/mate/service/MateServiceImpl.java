@@ -32,6 +32,7 @@ import org.swyp.dessertbee.user.service.UserBlockService;
 import org.swyp.dessertbee.user.service.UserService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -257,9 +258,15 @@ public class MateServiceImpl implements MateService {
         // 페이지 단위로 메이트 조회 (한 번의 호출로 처리)
         Page<Mate> matesPage = mateRepository.findByDeletedAtIsNullAndMateCategoryIdAndRecruitYn(mateCategoryId, keyword, recruitYn, pageable);
 
+        // 페이지 내 메이트 대표 사진 한 번에 조회
+        Map<Long, String> mateImages = imageService.getThumbnailsByTypeAndIds(ImageType.MATE,
+                matesPage.stream().map(Mate::getMateId).toList());
+        // 작성자 프로필 이미지 미리 조회 (메이트별 매핑 시 요청 단위 캐시에서 재사용)
+        imageService.loadAll(ImageType.PROFILE, matesPage.stream().map(Mate::getUserId).toList());
+
         // 각 메이트 엔티티를 DTO로 변환
         List<MateDetailResponse> mates = matesPage.stream()
-                .map(mate -> mapToMateDetailResponse(mate))
+                .map(mate -> mapToMateDetailResponse(mate, mateImages.getOrDefault(mate.getMateId(), "")))
                 .collect(Collectors.toList());
 
 
@@ -281,6 +288,10 @@ public class MateServiceImpl implements MateService {
         // MateMember 기준으로 참여한 MateId들 조회 (SoftDelete 고려)
         Page<MateMember> mateMembersPage = mateMemberRepository.findByUserIdAndDeletedAtIsNull(userId, pageable);
 
+        // 페이지 내 메이트 대표 사진 한 번에 조회
+        Map<Long, String> mateImages = imageService.getThumbnailsByTypeAndIds(ImageType.MATE,
+                mateMembersPage.stream().map(MateMember::getMateId).toList());
+
         // 각 Mate 엔티티를 DTO로 변환
         List<MateDetailResponse> matesResponses = mateMembersPage
                 .stream()
@@ -288,7 +299,7 @@ public class MateServiceImpl implements MateService {
                     Long mateId = mateMember.getMateId();
                     Mate mate = mateRepository.findByMateId(mateId)
                             .orElseThrow(() -> new MateNotFoundException("존재하지 않는 디저트메이트입니다."));
-                    return mapToMateDetailResponse(mate);
+                    return mapToMateDetailResponse(mate, mateImages.getOrDefault(mateId, ""));
                 })
                 .collect(Collectors.toList());
 
@@ -354,6 +365,16 @@ public class MateServiceImpl implements MateService {
      * 디저트메이트 정보 조회 중복 코드
      * */
     private MateDetailResponse mapToMateDetailResponse(Mate mate) {
+        //디저트메이트 사진 조회
+        String mateImage = imageService.getImageByTypeAndId(ImageType.MATE, mate.getMateId());
+
+        return mapToMateDetailResponse(mate, mateImage);
+    }
+
+    /**
+     * 디저트메이트 정보 조회 중복 코드 (목록 조회 시 미리 조회한 메이트 사진 사용)
+     * */
+    private MateDetailResponse mapToMateDetailResponse(Mate mate, String mateImage) {
         // getCurrentUser() 내부에서 SecurityContext를 통해 현재 사용자 정보를 가져옴
         UserEntity currentUser = userService.getCurrentUser();
 
@@ -361,9 +382,6 @@ public class MateServiceImpl implements MateService {
 
         UUID currentUserUuid = (currentUser != null) ? currentUser.getUserUuid() : null;
 
-        //디저트메이트 사진 조회
-        String mateImage = imageService.getImageByTypeAndId(ImageType.MATE, mate.getMateId());
-
         //mateCategoryId로 name 조회
         String mateCategory = String.valueOf(mateCategoryCacheService.findCategoryNameById(mate.getMateCategoryId()));
 
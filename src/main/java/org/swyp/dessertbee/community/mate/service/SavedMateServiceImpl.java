@@ -28,6 +28,7 @@ import org.swyp.dessertbee.user.service.UserService;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -137,17 +138,27 @@ public class SavedMateServiceImpl implements SavedMateService {
             return new MatesPageResponse(Collections.emptyList(), true); // ✅ 저장된 Mate가 없으면 빈 응답 반환
         }
 
+        // 저장된 Mate 대표 사진 한 번에 조회
+        Map<Long, String> mateImages = imageService.getThumbnailsByTypeAndIds(ImageType.MATE, savedMateIds);
+
+        List<Mate> mates = mateRepository.findByMateIdIn(savedMateIds);
+
+        // 작성자 프로필 이미지 한 번에 조회
+        Map<Long, List<String>> profileImages = imageService.loadAll(ImageType.PROFILE,
+                mates.stream().map(Mate::getUserId).toList());
+
         // 3️⃣ 저장된 Mate ID 목록을 사용하여 Mate 정보 가져오기
-        List<MateDetailResponse> matesResponses = mateRepository.findByMateIdIn(savedMateIds)
+        List<MateDetailResponse> matesResponses = mates
                 .stream()
                 .map(mate -> {
-                    String mateImage = imageService.getImageByTypeAndId(ImageType.MATE, mate.getMateId());
+                    String mateImage = mateImages.getOrDefault(mate.getMateId(), "");
 
                     String mateCategory = mateCategoryRepository.findCategoryNameById(mate.getMateCategoryId());
 
                     UserEntity creator = userService.findById(mate.getUserId());
 
-                    String profileImage = imageService.getImageByTypeAndId(ImageType.PROFILE, mate.getUserId());
+                    List<String> creatorProfileImages = profileImages.getOrDefault(mate.getUserId(), List.of());
+                    String profileImage = creatorProfileImages.isEmpty() ? "" : creatorProfileImages.get(0);
 
                     boolean blockedByAuthorYn = userBlockService.isBlocked(user.getUserUuid(), creator.getUserUuid());
 
@@ -17,7 +17,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name="community_review")
+@Table(name="community_review", indexes = {
+        @Index(name = "idx_community_review_store_created", columnList = "store_id, created_at, review_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -5,9 +5,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.swyp.dessertbee.community.review.entity.Review;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +20,22 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     List<Review> findByStoreIdAndDeletedAtIsNull(Long storeId);
 
+    long countByStoreIdAndDeletedAtIsNull(Long storeId);
+
+    /** 가게 커뮤니티 리뷰 첫 페이지 조회 (created_at, review_id 내림차순) */
+    @Query("SELECT r FROM Review r WHERE r.storeId = :storeId AND r.deletedAt IS NULL " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findFirstPageByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+
+    /** 가게 커뮤니티 리뷰 커서 이후 페이지 조회 (keyset) */
+    @Query("SELECT r FROM Review r WHERE r.storeId = :storeId AND r.deletedAt IS NULL " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId)) " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findPageByStoreIdAfter(@Param("storeId") Long storeId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("reviewId") Long reviewId,
+                                        Pageable pageable);
+
     @Query("SELECT DISTINCT rc.name From ReviewCategory rc JOIN Review c ON rc.reviewCategoryId = c.reviewCategoryId WHERE rc.reviewCategoryId = :reviewCategoryId")
     String findNameByReviewCategoryId(Long reviewCategoryId);
 
@@ -87,6 +87,9 @@ public class ReviewReplyService {
 
         Page<ReviewReply> repliesPage = reviewReplyRepository.findAllByDeletedAtIsNull(reviewId, pageable);
 
+        // 댓글 작성자 프로필 이미지 미리 조회 (댓글별 매핑 시 요청 단위 캐시에서 재사용)
+        imageService.loadAll(ImageType.PROFILE, repliesPage.stream().map(ReviewReply::getUserId).toList());
+
         List<ReviewReplyResponse> reliesResponses = repliesPage.getContent()
                 .stream()
                 .map( reviewReply -> getReplyDetail(reviewUuid, reviewReply.getReviewReplyUuid()))
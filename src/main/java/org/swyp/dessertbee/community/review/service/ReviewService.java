@@ -171,6 +171,8 @@ public class ReviewService {
 
         Page<Review> reviewsPage = reviewRepository.findByDeletedAtIsNullAndReviewCategoryId(pageable, keyword, reviewCategoryId);
 
+        // 작성자 프로필 이미지 미리 조회 (리뷰별 매핑 시 요청 단위 캐시에서 재사용)
+        imageService.loadAll(ImageType.PROFILE, reviewsPage.stream().map(Review::getUserId).toList());
 
         List<ReviewResponse> reviews = reviewsPage.stream()
                 .map(review -> {
@@ -351,7 +353,7 @@ public class ReviewService {
         UserEntity user = userRepository.findById(review.getUserId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        String profileImage = imageService.getImageByTypeAndId(ImageType.PROFILE, review.getReviewId());
+        String profileImage = imageService.getImageByTypeAndId(ImageType.PROFILE, user.getId());
 
         // ✅ 저장된 리뷰 확인하는 로직 수정
         boolean saved = false;
@@ -1,5 +1,6 @@
 package org.swyp.dessertbee.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.annotation.Bean;
@@ -22,7 +23,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import org.swyp.dessertbee.auth.jwt.JWTFilter;
 import org.swyp.dessertbee.auth.jwt.JWTUtil;
-import org.swyp.dessertbee.auth.repository.AuthRepository;
+import org.swyp.dessertbee.auth.service.AuthSessionCacheService;
 import org.swyp.dessertbee.auth.service.CustomUserDetailsService;
 
 import org.swyp.dessertbee.user.repository.UserRepository;
@@ -38,11 +39,12 @@ import org.swyp.dessertbee.user.repository.UserRepository;
 public class SecurityConfig {
 
     private final JWTUtil jwtUtil;
-    private final AuthRepository authRepository;
+    private final AuthSessionCacheService authSessionCacheService;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public JWTFilter jwtFilter() {
-        return new JWTFilter(jwtUtil, authRepository);
+        return new JWTFilter(jwtUtil, authSessionCacheService, objectMapper);
     }
 
     @Bean
@@ -81,6 +83,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/mates/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/search/**").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // apple OAuth login testing 용도
                         .requestMatchers("/apple-oauth-test.html/**").permitAll()
                         .requestMatchers("/ko/oauth/callback/**").permitAll()
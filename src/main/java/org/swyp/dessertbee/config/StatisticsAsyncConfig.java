@@ -0,0 +1,82 @@
+package org.swyp.dessertbee.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 이벤트 핸들러 전용 비동기 실행기 설정
+ * - 스레드 수와 큐 크기를 제한하고, 큐가 가득 차면 작업을 버리고 건수만 기록 (요청 스레드로 예외 전파 X)
+ * - 큐 대기열/활성 스레드/거절 수/대기·실행 시간을 /actuator/metrics 로 노출
+ * - autowireCandidate=false 로 등록하여 이름 없는 @Async 의 기본 실행기 선택에는 영향을 주지 않음
+ */
+@Slf4j
+@Configuration
+public class StatisticsAsyncConfig {
+
+    public static final String STATISTICS_EVENT_EXECUTOR = "statisticsEventExecutor";
+
+    private static final String METRIC_NAME = "statistics.event";
+
+    @Bean(name = STATISTICS_EVENT_EXECUTOR, autowireCandidate = false)
+    public ThreadPoolTaskExecutor statisticsEventExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${statistics.executor.core-size:2}") int coreSize,
+            @Value("${statistics.executor.max-size:4}") int maxSize,
+            @Value("${statistics.executor.queue-capacity:500}") int queueCapacity) {
+
+        Counter rejectedCounter = Counter.builder("executor.rejected.dropped")
+                .description("큐 초과로 버려진 통계 이벤트 수")
+                .tag("name", METRIC_NAME)
+                .register(meterRegistry);
+        Timer waitTimer = Timer.builder("executor.task.wait")
+                .description("통계 이벤트 큐 대기 시간")
+                .tag("name", METRIC_NAME)
+                .register(meterRegistry);
+        Timer executionTimer = Timer.builder("executor.task.execution")
+                .description("통계 이벤트 처리 시간")
+                .tag("name", METRIC_NAME)
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("statistics-event-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejectedCounter.increment();
+            log.debug("[통계 이벤트] 실행기 포화로 이벤트 버림 (대기열: {})", pool.getQueue().size());
+        });
+        executor.setTaskDecorator(task -> {
+            long enqueuedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+        // 종료 시 남은 이벤트를 처리한 뒤 통계 버퍼가 비워지도록 대기
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        // executor.active / executor.queued / executor.pool.size / executor.completed 등
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), METRIC_NAME, Tags.empty())
+                .bindTo(meterRegistry);
+
+        return executor;
+    }
+}
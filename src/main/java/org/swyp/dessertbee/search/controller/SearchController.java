@@ -11,8 +11,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.swyp.dessertbee.common.annotation.ApiErrorResponses;
+import org.swyp.dessertbee.search.dto.AutocompleteResponse;
 import org.swyp.dessertbee.search.dto.PopularSearchesList;
 import org.swyp.dessertbee.search.dto.UserSearchHistoryDto;
+import org.swyp.dessertbee.search.entity.enums.TrendingWindow;
 import org.swyp.dessertbee.search.exception.SearchExceptions.*;
 import org.swyp.dessertbee.common.exception.ErrorCode;
 import org.swyp.dessertbee.search.service.SearchService;
@@ -79,7 +81,7 @@ public class SearchController {
     }
 
     /** 실시간 인기 검색어 조회 API (이전 검색 횟수 차이 + 업데이트 시간 포함) */
-    @Operation(summary = "실시간 인기 검색어 조회 (completed)", description = "실시간으로 인기 검색어를 조회합니다.")
+    @Operation(summary = "실시간 인기 검색어 조회 (completed)", description = "최근 1시간(HOUR) 또는 24시간(DAY) 동안의 인기 검색어를 조회합니다. 최근 검색일수록 높은 가중치가 적용되며 1분마다 갱신됩니다.")
     @ApiResponse(
             responseCode = "200",
             description = "실시간 인기 검색어 조회 성공",
@@ -91,12 +93,29 @@ public class SearchController {
     @ApiErrorResponses({ErrorCode.SEARCH_SERVICE_ERROR})
     @GetMapping("/popular")
     public ResponseEntity<PopularSearchesList> getPopularSearches(
-            @RequestParam(defaultValue = "10") int limit
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "DAY") TrendingWindow window
     ) {
-        PopularSearchesList response = searchService.getPopularSearchesWithDifference(limit);
+        PopularSearchesList response = searchService.getPopularSearchesWithDifference(limit, window);
         return ResponseEntity.ok(response);
     }
 
+    /** 검색어 자동완성 API */
+    @Operation(summary = "검색어 자동완성 (completed)", description = "입력한 접두사로 시작하는 가게 이름, 태그, 메뉴 이름, 인기 검색어를 인기순으로 제안합니다. 공백과 대소문자는 무시합니다.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "검색어 자동완성 성공",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = AutocompleteResponse.class)))
+    )
+    @ApiErrorResponses({ErrorCode.SEARCH_SERVICE_ERROR})
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteResponse>> autocomplete(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(searchService.autocomplete(keyword, limit));
+    }
+
     /** Redis 인기 검색어 초기화 API (테스트용) */
     @Operation(summary = "(테스트용) 인기 검색어 초기화", description = "인기 검색어를 초기화합니다. 이것은 개발자 테스트용으로 실제 서비스에 사용되지 않습니다.")
     @ApiResponse( responseCode = "200", description = "인기 검색어 데이터 초기화 성공")
@@ -0,0 +1,23 @@
+package org.swyp.dessertbee.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.swyp.dessertbee.search.entity.enums.AutocompleteType;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "검색어 자동완성 제안")
+public class AutocompleteResponse {
+
+    @Schema(description = "제안 문구", example = "딸기 케이크")
+    private String text;
+
+    @Schema(description = "제안 유형 (STORE: 가게 이름, TAG: 태그, MENU: 메뉴 이름, KEYWORD: 인기 검색어)", example = "MENU")
+    private AutocompleteType type;
+
+    @Schema(description = "가게 UUID (STORE 유형일 때만 존재)", example = "58fbeb5e-ff24-41e6-8460-301b1a424e53", nullable = true)
+    private UUID storeUuid;
+}
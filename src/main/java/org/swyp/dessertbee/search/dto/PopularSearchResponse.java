@@ -14,7 +14,7 @@ public class PopularSearchResponse {
     private String keyword;
 
     @NotNull
-    @Schema(description = "검색 횟수", example = "123")
+    @Schema(description = "검색 횟수 (최근 검색일수록 가중치가 큰 시간 감쇠 합계)", example = "123")
     private int searchCount;
 
     @NotNull
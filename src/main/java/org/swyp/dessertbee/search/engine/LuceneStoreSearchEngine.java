@@ -0,0 +1,272 @@
+package org.swyp.dessertbee.search.engine;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.swyp.dessertbee.search.doc.StoreDocument;
+import org.swyp.dessertbee.search.exception.SearchExceptions.SearchIndexFailedException;
+import org.swyp.dessertbee.search.util.KoreanNgramTokenizer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Lucene 파일 색인 기반 가게 검색 엔진 - search.store.engine=lucene
+ * - 별도 검색 서버 없이 애플리케이션 안에서 색인을 파일(search.store.lucene.path)로 유지하므로 재기동 직후에도 바로 검색 가능
+ * - 토큰화는 인메모리 엔진과 같은 한국어 n-gram 을 사용하고, 점수는 Lucene 기본 BM25 에 필드별 가중치를 곱해 계산
+ * - 전체 재색인 중에는 검색기를 갱신하지 않아 완료(commit) 전까지 기존 색인으로 검색
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.store.engine", havingValue = LuceneStoreSearchEngine.NAME)
+public class LuceneStoreSearchEngine implements StoreSearchEngine, DisposableBean {
+
+    public static final String NAME = "lucene";
+
+    private static final String ID_FIELD = "id";
+    private static final String STORE_ID_FIELD = "storeId";
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            "name", 3.0f,
+            "tag", 2.0f,
+            "menu", 1.5f,
+            "address", 1.0f
+    );
+    /** 검색 결과 최대 건수 (인메모리 엔진과 마찬가지로 지역 필터 전 후보 전체가 필요하므로 넉넉하게) */
+    private static final int MAX_HITS = 10_000;
+
+    private final Directory directory;
+    private IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+    /** 검색(acquire ~ release)은 읽기 잠금, 교체된 이전 검색기 관리자 닫기는 쓰기 잠금 (진행 중인 검색이 끝난 뒤에 닫도록) */
+    private final ReadWriteLock searcherLock = new ReentrantReadWriteLock();
+    private boolean bulkInProgress = false;
+    private volatile boolean ready;
+
+    public LuceneStoreSearchEngine(@Value("${search.store.lucene.path:./data/store-index}") String indexPath) {
+        try {
+            this.directory = FSDirectory.open(Path.of(indexPath));
+            openWriter();
+            this.ready = writer.getDocStats().numDocs > 0;
+            log.info("[가게 검색 인덱스] Lucene 색인 열기 - 경로: {}, 문서 수: {}", indexPath, writer.getDocStats().numDocs);
+        } catch (IOException e) {
+            throw new SearchIndexFailedException("Lucene 색인을 열 수 없습니다: " + indexPath, e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * 검색 가능 여부 (색인 파일이 비어있고 첫 전체 적재 전이면 false)
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public boolean requiresIndexing() {
+        return true;
+    }
+
+    @Override
+    public List<Long> search(String keyword) {
+        Set<String> queryTokens = KoreanNgramTokenizer.tokenizeForQuery(keyword);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 모든 토큰이 어느 한 필드에는 있어야 함 (AND), 필드별 가중치는 BoostQuery 로 반영
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String token : queryTokens) {
+            BooleanQuery.Builder fields = new BooleanQuery.Builder();
+            FIELD_WEIGHTS.forEach((field, weight) ->
+                    fields.add(new BoostQuery(new TermQuery(new Term(field, token)), weight), BooleanClause.Occur.SHOULD));
+            query.add(fields.build(), BooleanClause.Occur.MUST);
+        }
+
+        searcherLock.readLock().lock();
+        SearcherManager manager = searcherManager;
+        IndexSearcher searcher = null;
+        try {
+            searcher = manager.acquire();
+            TopDocs topDocs = searcher.search(query.build(), MAX_HITS);
+            List<Long> storeIds = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = searcher.storedFields().document(scoreDoc.doc, Set.of(STORE_ID_FIELD));
+                storeIds.add(document.getField(STORE_ID_FIELD).numericValue().longValue());
+            }
+            return storeIds;
+        } catch (IOException e) {
+            throw new SearchIndexFailedException("Lucene 검색 실패: " + e.getMessage(), e);
+        } finally {
+            release(manager, searcher);
+            searcherLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public synchronized void beginBulk() {
+        try {
+            writer.deleteAll();
+            bulkInProgress = true;
+        } catch (IOException e) {
+            throw new SearchIndexFailedException("Lucene 재색인 시작 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 가게 문서 색인 (storeId 기준 교체, 삭제된 가게는 제거)
+     * - 재색인 중이 아니면 바로 커밋/검색기 갱신, 재색인 중이면 완료 시점에 함께 반영
+     */
+    @Override
+    public synchronized void index(List<StoreDocument> documents) {
+        try {
+            for (StoreDocument document : documents) {
+                Term id = new Term(ID_FIELD, String.valueOf(document.getStoreId()));
+                if (document.isDeleted()) {
+                    writer.deleteDocuments(id);
+                } else {
+                    writer.updateDocument(id, toLuceneDocument(document));
+                }
+            }
+            if (!bulkInProgress) {
+                commitAndRefresh();
+            }
+        } catch (IOException e) {
+            throw new SearchIndexFailedException("Lucene 색인 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized void completeBulk() {
+        if (!bulkInProgress) return;
+
+        try {
+            commitAndRefresh();
+            bulkInProgress = false;
+            ready = true;
+            log.info("[가게 검색 인덱스] Lucene 적재 완료 - 문서 수: {}", writer.getDocStats().numDocs);
+        } catch (IOException e) {
+            throw new SearchIndexFailedException("Lucene 재색인 커밋 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 재색인 중단 - 마지막 커밋 이후 변경을 버리고 기존 색인으로 다시 열기
+     * - 새 검색기 관리자로 먼저 교체한 뒤, 이전 관리자는 진행 중인 검색이 모두 반환된 후에 닫음
+     */
+    @Override
+    public synchronized void abortBulk() {
+        if (!bulkInProgress) return;
+
+        bulkInProgress = false;
+        try {
+            writer.rollback();
+            SearcherManager previous = searcherManager;
+            openWriter();
+            closeAfterInFlightSearches(previous);
+        } catch (IOException e) {
+            throw new SearchIndexFailedException("Lucene 재색인 롤백 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized void delete(Long storeId) {
+        try {
+            writer.deleteDocuments(new Term(ID_FIELD, String.valueOf(storeId)));
+            if (!bulkInProgress) {
+                commitAndRefresh();
+            }
+        } catch (IOException e) {
+            throw new SearchIndexFailedException("Lucene 색인 삭제 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        closeAfterInFlightSearches(searcherManager);
+        if (bulkInProgress) {
+            writer.rollback();
+        } else {
+            writer.close();
+        }
+        directory.close();
+    }
+
+    private void openWriter() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(new WhitespaceAnalyzer())
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * 진행 중인 검색(acquire ~ release)이 끝날 때까지 기다린 뒤 검색기 관리자 닫기
+     */
+    private void closeAfterInFlightSearches(SearcherManager manager) throws IOException {
+        searcherLock.writeLock().lock();
+        try {
+            manager.close();
+        } finally {
+            searcherLock.writeLock().unlock();
+        }
+    }
+
+    private void commitAndRefresh() throws IOException {
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    private void release(SearcherManager manager, IndexSearcher searcher) {
+        if (searcher == null) return;
+        try {
+            manager.release(searcher);
+        } catch (IOException e) {
+            log.warn("[가게 검색 인덱스] Lucene 검색기 반환 실패 - 사유: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 가게 문서를 n-gram 토큰 문자열 필드로 변환 (토큰은 공백 분석기로 다시 분리됨)
+     */
+    private Document toLuceneDocument(StoreDocument store) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, String.valueOf(store.getStoreId()), Field.Store.NO));
+        document.add(new StoredField(STORE_ID_FIELD, store.getStoreId()));
+        addTokens(document, "name", store.getStoreName(), true);
+        addTokens(document, "address", store.getAddress(), false);
+        for (String tagName : Optional.ofNullable(store.getTagNames()).orElse(List.of())) {
+            addTokens(document, "tag", tagName, true);
+        }
+        for (String menuName : Optional.ofNullable(store.getMenuNames()).orElse(List.of())) {
+            addTokens(document, "menu", menuName, true);
+        }
+        return document;
+    }
+
+    private void addTokens(Document document, String field, String text, boolean includeChosung) {
+        List<String> tokens = KoreanNgramTokenizer.tokenizeForIndex(text, includeChosung);
+        if (tokens.isEmpty()) return;
+        document.add(new TextField(field, String.join(" ", tokens), Field.Store.NO));
+    }
+}
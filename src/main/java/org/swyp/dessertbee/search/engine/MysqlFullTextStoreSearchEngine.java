@@ -0,0 +1,68 @@
+package org.swyp.dessertbee.search.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.swyp.dessertbee.common.util.SearchUtil;
+import org.swyp.dessertbee.search.doc.StoreDocument;
+import org.swyp.dessertbee.store.store.repository.StoreRepository;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT 기반 가게 검색 엔진
+ * - 가게/태그/메뉴 테이블을 직접 조회하므로 별도 색인이 없고 항상 최신 상태
+ * - 다른 엔진의 색인이 준비되기 전 대체 엔진으로도 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class MysqlFullTextStoreSearchEngine implements StoreSearchEngine {
+
+    public static final String NAME = "mysql";
+
+    private final StoreRepository storeRepository;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public boolean requiresIndexing() {
+        return false;
+    }
+
+    @Override
+    public List<Long> search(String keyword) {
+        String transformed = SearchUtil.toBooleanFulltextQuery(keyword);
+        if (transformed.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return storeRepository.findStoreIdsByKeyword(transformed);
+    }
+
+    @Override
+    public void beginBulk() {
+    }
+
+    @Override
+    public void index(List<StoreDocument> documents) {
+    }
+
+    @Override
+    public void completeBulk() {
+    }
+
+    @Override
+    public void abortBulk() {
+    }
+
+    @Override
+    public void delete(Long storeId) {
+    }
+}
@@ -0,0 +1,42 @@
+package org.swyp.dessertbee.search.engine;
+
+import org.swyp.dessertbee.search.doc.StoreDocument;
+
+import java.util.List;
+
+/**
+ * 가게 키워드 검색 엔진
+ * - search.store.engine 설정(memory / lucene / mysql)으로 구현체 선택
+ * - 별도 색인을 두는 엔진은 전체 재색인(beginBulk → index → completeBulk)과 가게 단위 갱신(index / delete)으로 최신 상태 유지
+ */
+public interface StoreSearchEngine {
+
+    /** 설정값(search.store.engine)과 비교할 엔진 이름 */
+    String name();
+
+    /** 검색 가능 여부 (색인 적재 전이면 false) */
+    boolean isReady();
+
+    /** 별도 색인 유지 필요 여부 (DB를 직접 조회하는 엔진은 false) */
+    boolean requiresIndexing();
+
+    /**
+     * 검색어에 맞는 활성 가게 ID를 관련도 순으로 조회
+     */
+    List<Long> search(String keyword);
+
+    /** 전체 재색인 시작 (완료 전까지는 기존 색인으로 검색) */
+    void beginBulk();
+
+    /** 가게 문서 색인 (같은 가게의 기존 문서는 교체) */
+    void index(List<StoreDocument> documents);
+
+    /** 전체 재색인 완료 (새 색인으로 교체) */
+    void completeBulk();
+
+    /** 전체 재색인 중단 (기존 색인 유지) */
+    void abortBulk();
+
+    /** 가게 색인 제거 */
+    void delete(Long storeId);
+}
@@ -0,0 +1,48 @@
+package org.swyp.dessertbee.search.engine;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 설정(search.store.engine)에 맞는 가게 검색 엔진 선택
+ * - 선택한 엔진의 색인이 아직 준비되지 않았으면 MySQL FULLTEXT 엔진으로 대체
+ */
+@Slf4j
+@Component
+public class StoreSearchEngineRouter {
+
+    private final StoreSearchEngine activeEngine;
+    private final StoreSearchEngine fallbackEngine;
+
+    public StoreSearchEngineRouter(List<StoreSearchEngine> engines,
+                                   MysqlFullTextStoreSearchEngine mysqlFullTextStoreSearchEngine,
+                                   @Value("${search.store.engine:memory}") String engineName) {
+        this.fallbackEngine = mysqlFullTextStoreSearchEngine;
+        this.activeEngine = engines.stream()
+                .filter(engine -> engine.name().equalsIgnoreCase(engineName))
+                .findFirst()
+                .orElseGet(() -> {
+                    log.warn("[가게 검색] 알 수 없는 검색 엔진 설정 - {}, MySQL FULLTEXT 검색을 사용합니다.", engineName);
+                    return mysqlFullTextStoreSearchEngine;
+                });
+        log.info("[가게 검색] 검색 엔진: {}", activeEngine.name());
+    }
+
+    /**
+     * 설정된 검색 엔진
+     */
+    public StoreSearchEngine active() {
+        return activeEngine;
+    }
+
+    /**
+     * 검색어에 맞는 활성 가게 ID를 관련도 순으로 조회
+     */
+    public List<Long> search(String keyword) {
+        StoreSearchEngine engine = activeEngine.isReady() ? activeEngine : fallbackEngine;
+        return engine.search(keyword);
+    }
+}
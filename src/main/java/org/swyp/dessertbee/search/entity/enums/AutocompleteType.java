@@ -0,0 +1,11 @@
+package org.swyp.dessertbee.search.entity.enums;
+
+/**
+ * 검색어 자동완성 제안 유형 (같은 문구가 여러 유형에 있으면 앞선 유형으로 표시)
+ */
+public enum AutocompleteType {
+    STORE,
+    TAG,
+    MENU,
+    KEYWORD
+}
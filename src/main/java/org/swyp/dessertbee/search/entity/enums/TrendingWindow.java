@@ -0,0 +1,29 @@
+package org.swyp.dessertbee.search.entity.enums;
+
+/**
+ * 인기 검색어 집계 구간
+ * - 최근 구간의 버킷을 시간 감쇠 가중치로 합산하므로 자정 초기화 없이 순위가 부드럽게 변함
+ */
+public enum TrendingWindow {
+    /** 최근 1시간: 1분 버킷 60개, 반감기 15분 */
+    HOUR(60, 15),
+    /** 최근 24시간: 1시간 버킷 24개, 반감기 6시간 */
+    DAY(24, 6);
+
+    private final int bucketCount;
+    private final double halfLifeBuckets;
+
+    TrendingWindow(int bucketCount, double halfLifeBuckets) {
+        this.bucketCount = bucketCount;
+        this.halfLifeBuckets = halfLifeBuckets;
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /** 현재 버킷으로부터 age 만큼 지난 버킷의 감쇠 가중치 (현재 버킷 = 1) */
+    public double weightOf(int age) {
+        return Math.pow(0.5, age / halfLifeBuckets);
+    }
+}
@@ -0,0 +1,45 @@
+package org.swyp.dessertbee.search.event.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.swyp.dessertbee.search.service.StoreSearchService;
+import org.swyp.dessertbee.store.store.event.StoreChangedEvent;
+
+/**
+ * 가게 검색 색인 동기화
+ * - 기동 완료 후 전체 재색인, 가게 정보/메뉴 변경 이벤트(커밋 이후)마다 해당 가게만 다시 색인
+ * - 색인 실패는 검색 엔진 대체(MySQL FULLTEXT)나 다음 재색인으로 복구되므로 원래 요청에는 영향 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndexEventHandler {
+
+    private final StoreSearchService storeSearchService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady() {
+        try {
+            storeSearchService.reindexAll();
+        } catch (Exception e) {
+            log.error("[가게 검색 인덱스] 초기 적재 실패 - DB FULLTEXT 검색으로 대체합니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStoreChanged(StoreChangedEvent event) {
+        // 공지/영업 시간만 바뀐 경우는 색인 대상 필드가 없으므로 건너뜀
+        if (event.getStoreId() == null || !event.affectsSearch()) return;
+
+        try {
+            storeSearchService.indexStore(event.getStoreId());
+        } catch (Exception e) {
+            log.warn("[가게 검색 인덱스] 가게 반영 실패 - storeId: {}, 사유: {}", event.getStoreId(), e.getMessage());
+        }
+    }
+}
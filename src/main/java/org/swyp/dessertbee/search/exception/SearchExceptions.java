@@ -126,19 +126,19 @@ public class SearchExceptions {
     }
 
     /**
-     * Elasticsearch 통신 오류 예외
+     * 가게 검색 인덱스 처리 오류 예외
      */
-    public static class ElasticsearchCommunicationException extends BusinessException {
-        public ElasticsearchCommunicationException() {
-            super(ErrorCode.ELASTICSEARCH_COMMUNICATION_FAILED);
+    public static class SearchIndexFailedException extends BusinessException {
+        public SearchIndexFailedException() {
+            super(ErrorCode.SEARCH_INDEX_FAILED);
         }
 
-        public ElasticsearchCommunicationException(String message) {
-            super(ErrorCode.ELASTICSEARCH_COMMUNICATION_FAILED, message);
+        public SearchIndexFailedException(String message) {
+            super(ErrorCode.SEARCH_INDEX_FAILED, message);
         }
 
-        public ElasticsearchCommunicationException(String message, Throwable cause) {
-            super(ErrorCode.ELASTICSEARCH_COMMUNICATION_FAILED, message, cause);
+        public SearchIndexFailedException(String message, Throwable cause) {
+            super(ErrorCode.SEARCH_INDEX_FAILED, message, cause);
         }
     }
 }
@@ -0,0 +1,279 @@
+package org.swyp.dessertbee.search.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.swyp.dessertbee.search.dto.AutocompleteResponse;
+import org.swyp.dessertbee.search.entity.PopularSearchKeyword;
+import org.swyp.dessertbee.search.entity.enums.AutocompleteType;
+import org.swyp.dessertbee.search.repository.PopularSearchKeywordRepository;
+import org.swyp.dessertbee.store.menu.repository.MenuRepository;
+import org.swyp.dessertbee.store.store.entity.Store;
+import org.swyp.dessertbee.store.store.event.StoreChangedEvent;
+import org.swyp.dessertbee.store.store.repository.StoreRepository;
+import org.swyp.dessertbee.store.tag.repository.StoreTagRelationRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 자동완성용 인메모리 접두사 인덱스
+ * - 가게 이름, 메뉴 이름, 태그, 인기 검색어를 정규화된 문구의 사전순 맵에 보관하고 접두사 범위만 조회
+ * - 기동 시 한 번 적재하고, 가게/메뉴/태그 변경 이벤트(커밋 이후)마다 해당 가게 분만 다시 반영
+ * - 순위는 인기 검색어 누적 검색 횟수 → 해당 문구를 가진 가게 수 순 (조회 시 MySQL 접근 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchAutocompleteIndex {
+
+    /** 정규화 문구와 유형을 구분하는 키 구분자 (어떤 문자보다도 앞에 정렬됨) */
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingInt(Candidate::popularity).reversed()
+            .thenComparing(Comparator.comparingInt(Candidate::refCount).reversed())
+            .thenComparing(candidate -> candidate.term().type())
+            .thenComparingInt(candidate -> candidate.term().text().length());
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final StoreTagRelationRepository storeTagRelationRepository;
+    private final PopularSearchKeywordRepository popularSearchKeywordRepository;
+
+    /** 용어 키(정규화 문구 + 구분자 + 유형[+ 가게 ID]) → 용어 */
+    private final ConcurrentSkipListMap<String, Term> terms = new ConcurrentSkipListMap<>();
+    /** 가게 ID → 해당 가게가 기여한 용어 키 (수정/삭제 시 이전 기여분 제거용) */
+    private final Map<Long, Set<String>> termKeysByStoreId = new ConcurrentHashMap<>();
+    /** 정규화 문구 → 누적 검색 횟수 */
+    private volatile Map<String, Integer> keywordCounts = Map.of();
+    private volatile boolean ready = false;
+    /** 적재 전/재구성 중에 들어온 변경 가게 ID (재구성 완료 직후 다시 반영) */
+    private final Set<Long> pendingStoreIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 자동완성 용어
+     * @param storeUuid 가게 이름인 경우에만 존재
+     */
+    private record Term(String text, String normalized, AutocompleteType type, UUID storeUuid, int refCount) {
+        Term withRefCount(int newRefCount) {
+            return new Term(text, normalized, type, storeUuid, newRefCount);
+        }
+    }
+
+    private record Candidate(Term term, int popularity, int refCount) {
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[자동완성 인덱스] 초기 적재 실패 - 자동완성 결과가 비어있을 수 있습니다.", e);
+        }
+    }
+
+    /**
+     * 전체 인덱스 재구성
+     */
+    public synchronized void rebuild() {
+        ready = false;
+        terms.clear();
+        termKeysByStoreId.clear();
+
+        Map<Long, Set<String>> menuNamesByStoreId = groupNamesByStoreId(menuRepository.findAllStoreIdAndMenuNames());
+        Map<Long, Set<String>> tagNamesByStoreId = groupNamesByStoreId(storeTagRelationRepository.findAllStoreIdAndTagNames());
+
+        for (Object[] row : storeRepository.findActiveStoreNames()) {
+            Long storeId = (Long) row[0];
+            addStore(storeId, (UUID) row[1], (String) row[2],
+                    menuNamesByStoreId.getOrDefault(storeId, Collections.emptySet()),
+                    tagNamesByStoreId.getOrDefault(storeId, Collections.emptySet()));
+        }
+        reloadKeywords();
+
+        ready = true;
+        replayPendingStores();
+        log.info("[자동완성 인덱스] 적재 완료 - 가게 수: {}, 용어 수: {}", termKeysByStoreId.size(), terms.size());
+    }
+
+    /**
+     * 재구성 중 조회 시점 이후에 바뀌었을 수 있는 가게 다시 반영
+     */
+    private void replayPendingStores() {
+        Iterator<Long> iterator = pendingStoreIds.iterator();
+        while (iterator.hasNext()) {
+            Long storeId = iterator.next();
+            iterator.remove();
+            try {
+                reindexStore(storeId);
+            } catch (Exception e) {
+                log.warn("[자동완성 인덱스] 대기 중인 가게 반영 실패 - storeId: {}, 사유: {}", storeId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 인기 검색어와 누적 검색 횟수 다시 반영 (검색 횟수는 1시간 버킷 단위로 누적되므로 10분 주기로 충분)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public synchronized void reloadKeywords() {
+        Map<String, Integer> counts = new HashMap<>();
+        Map<String, String> texts = new LinkedHashMap<>();
+        for (PopularSearchKeyword keyword : popularSearchKeywordRepository.findTop1000ByOrderBySearchCountDesc()) {
+            String normalized = normalize(keyword.getKeyword());
+            if (normalized.isEmpty()) continue;
+
+            counts.merge(normalized, keyword.getSearchCount(), Integer::sum);
+            texts.putIfAbsent(normalized, keyword.getKeyword().trim());
+        }
+
+        terms.values().removeIf(term -> term.type() == AutocompleteType.KEYWORD);
+        texts.forEach((normalized, text) -> terms.put(termKey(normalized, AutocompleteType.KEYWORD, null),
+                new Term(text, normalized, AutocompleteType.KEYWORD, null, 0)));
+        keywordCounts = counts;
+    }
+
+    /**
+     * 가게/메뉴/태그 변경 시 해당 가게 분만 다시 반영 (공지/일정만 바뀐 경우는 건너뜀)
+     * - 적재 전이거나 재구성 중이면 가게 ID를 보관해 두고 재구성 완료 직후 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStoreChanged(StoreChangedEvent event) {
+        if (event.getStoreId() == null || !event.affectsSearch()) return;
+
+        if (!ready) {
+            pendingStoreIds.add(event.getStoreId());
+            // 보관하는 사이 재구성이 끝났다면 대기 목록이 이미 비워졌을 수 있으므로 직접 반영
+            if (!ready) return;
+        }
+
+        try {
+            reindexStore(event.getStoreId());
+        } catch (Exception e) {
+            log.warn("[자동완성 인덱스] 가게 반영 실패 - storeId: {}, 사유: {}", event.getStoreId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 가게 한 곳의 이름/메뉴/태그 다시 반영 (삭제된 가게는 제거)
+     */
+    public synchronized void reindexStore(Long storeId) {
+        removeStore(storeId);
+
+        Optional<Store> store = storeRepository.findByStoreIdAndDeletedAtIsNull(storeId);
+        if (store.isEmpty()) return;
+
+        addStore(storeId, store.get().getStoreUuid(), store.get().getName(),
+                new LinkedHashSet<>(menuRepository.findMenuNamesByStoreId(storeId)),
+                new LinkedHashSet<>(storeTagRelationRepository.findTagNamesByStoreId(storeId)));
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (초기 적재 전이거나 실패한 경우 false)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 접두사로 시작하는 제안 조회 (공백/대소문자 무시)
+     */
+    public List<AutocompleteResponse> suggest(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Integer> counts = keywordCounts;
+        // 같은 문구는 하나만 노출 (가게 이름은 가게별로 노출)
+        Map<String, Candidate> candidates = new HashMap<>();
+        for (Term term : terms.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false).values()) {
+            Candidate candidate = new Candidate(term, counts.getOrDefault(term.normalized(), 0), term.refCount());
+            String dedupeKey = (term.type() == AutocompleteType.STORE) ? term.storeUuid().toString() : term.normalized();
+            candidates.merge(dedupeKey, candidate, (current, other) ->
+                    current.term().type().compareTo(other.term().type()) <= 0 ? current : other);
+        }
+
+        return candidates.values().stream()
+                .sorted(RANKING)
+                .limit(limit)
+                .map(candidate -> new AutocompleteResponse(
+                        candidate.term().text(), candidate.term().type(), candidate.term().storeUuid()))
+                .toList();
+    }
+
+    private void addStore(Long storeId, UUID storeUuid, String storeName, Set<String> menuNames, Set<String> tagNames) {
+        Set<String> keys = new HashSet<>();
+
+        String normalizedName = normalize(storeName);
+        if (!normalizedName.isEmpty()) {
+            String key = termKey(normalizedName, AutocompleteType.STORE, storeId);
+            terms.put(key, new Term(storeName.trim(), normalizedName, AutocompleteType.STORE, storeUuid, 1));
+            keys.add(key);
+        }
+        for (String menuName : menuNames) {
+            addShared(menuName, AutocompleteType.MENU, keys);
+        }
+        for (String tagName : tagNames) {
+            addShared(tagName, AutocompleteType.TAG, keys);
+        }
+
+        termKeysByStoreId.put(storeId, keys);
+    }
+
+    /**
+     * 여러 가게가 공유하는 용어(메뉴/태그)는 가게 수만큼 참조 수 증가
+     */
+    private void addShared(String text, AutocompleteType type, Set<String> keys) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) return;
+
+        String key = termKey(normalized, type, null);
+        if (!keys.add(key)) return;
+
+        terms.compute(key, (k, term) -> (term == null)
+                ? new Term(text.trim(), normalized, type, null, 1)
+                : term.withRefCount(term.refCount() + 1));
+    }
+
+    private void removeStore(Long storeId) {
+        Set<String> keys = termKeysByStoreId.remove(storeId);
+        if (keys == null) return;
+
+        for (String key : keys) {
+            terms.computeIfPresent(key, (k, term) -> (term.refCount() <= 1) ? null : term.withRefCount(term.refCount() - 1));
+        }
+    }
+
+    private Map<Long, Set<String>> groupNamesByStoreId(List<Object[]> rows) {
+        Map<Long, Set<String>> namesByStoreId = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] == null) continue;
+            namesByStoreId.computeIfAbsent((Long) row[0], id -> new LinkedHashSet<>()).add((String) row[1]);
+        }
+        return namesByStoreId;
+    }
+
+    private static String termKey(String normalized, AutocompleteType type, Long storeId) {
+        String key = normalized + KEY_SEPARATOR + type.name();
+        return (storeId != null) ? key + KEY_SEPARATOR + storeId : key;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) return "";
+        return WHITESPACE.matcher(text).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
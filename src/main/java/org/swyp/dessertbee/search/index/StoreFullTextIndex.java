@@ -0,0 +1,222 @@
+package org.swyp.dessertbee.search.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.swyp.dessertbee.search.doc.StoreDocument;
+import org.swyp.dessertbee.search.engine.StoreSearchEngine;
+import org.swyp.dessertbee.search.util.KoreanNgramTokenizer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게 검색용 인메모리 역색인 (BM25 점수) - search.store.engine=memory (기본값)
+ * - 가게 이름/주소/태그/메뉴를 한국어 n-gram 과 초성 n-gram 으로 색인하여 부분 문자열/초성 검색 지원
+ * - 필드별 가중치를 반영한 BM25F 방식으로 점수를 계산하고, 검색어의 모든 토큰을 포함한 가게만 반환
+ * - 전체 재색인은 새 세그먼트에 쌓은 뒤 완료 시점에 교체하므로, 재색인 중에도 기존 세그먼트로 검색
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.store.engine", havingValue = StoreFullTextIndex.NAME, matchIfMissing = true)
+public class StoreFullTextIndex implements StoreSearchEngine {
+
+    public static final String NAME = "memory";
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final float STORE_NAME_WEIGHT = 3.0f;
+    private static final float TAG_WEIGHT = 2.0f;
+    private static final float MENU_WEIGHT = 1.5f;
+    private static final float ADDRESS_WEIGHT = 1.0f;
+
+    /** 검색에 사용하는 세그먼트 */
+    private volatile Segment segment = new Segment();
+    /** 전체 재색인 중 쌓고 있는 세그먼트 (재색인 중이 아니면 null) */
+    private Segment bulkSegment;
+    private volatile boolean ready = false;
+
+    private record IndexedStore(Map<String, Float> termFrequencies, float length) {
+    }
+
+    /**
+     * 역색인 한 벌
+     */
+    private static class Segment {
+        /** 토큰 → (가게 ID → 가중 출현 빈도) */
+        private final Map<String, Map<Long, Float>> postings = new ConcurrentHashMap<>();
+        /** 가게 ID → 색인된 토큰별 가중 출현 빈도와 가중 문서 길이 */
+        private final Map<Long, IndexedStore> stores = new ConcurrentHashMap<>();
+        private volatile double totalLength = 0;
+
+        private void add(Long storeId, IndexedStore store) {
+            store.termFrequencies().forEach((token, frequency) ->
+                    postings.computeIfAbsent(token, t -> new ConcurrentHashMap<>()).put(storeId, frequency));
+            stores.put(storeId, store);
+            totalLength += store.length();
+        }
+
+        private void remove(Long storeId) {
+            IndexedStore previous = stores.remove(storeId);
+            if (previous == null) return;
+
+            for (String token : previous.termFrequencies().keySet()) {
+                Map<Long, Float> posting = postings.get(token);
+                if (posting == null) continue;
+                posting.remove(storeId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+            totalLength -= previous.length();
+        }
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (첫 전체 적재 전이거나 실패한 경우 false)
+     */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public boolean requiresIndexing() {
+        return true;
+    }
+
+    @Override
+    public synchronized void beginBulk() {
+        bulkSegment = new Segment();
+    }
+
+    /**
+     * 가게 문서 색인 (기존 색인은 교체, 삭제된 가게는 제거)
+     * - 전체 재색인 중에는 새 세그먼트에도 반영하여 교체 후 변경분이 유실되지 않도록 함
+     */
+    @Override
+    public synchronized void index(List<StoreDocument> documents) {
+        for (StoreDocument document : documents) {
+            IndexedStore store = document.isDeleted() ? null : analyze(document);
+            apply(segment, document.getStoreId(), store);
+            if (bulkSegment != null) {
+                apply(bulkSegment, document.getStoreId(), store);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void completeBulk() {
+        if (bulkSegment == null) return;
+
+        segment = bulkSegment;
+        bulkSegment = null;
+        ready = true;
+        log.info("[가게 검색 인덱스] 적재 완료 - 가게 수: {}, 토큰 수: {}", segment.stores.size(), segment.postings.size());
+    }
+
+    @Override
+    public synchronized void abortBulk() {
+        bulkSegment = null;
+    }
+
+    /**
+     * 가게 색인 제거
+     */
+    @Override
+    public synchronized void delete(Long storeId) {
+        segment.remove(storeId);
+        if (bulkSegment != null) {
+            bulkSegment.remove(storeId);
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 가게 ID를 점수 내림차순으로 조회
+     */
+    @Override
+    public List<Long> search(String keyword) {
+        Segment current = segment;
+        Set<String> queryTokens = KoreanNgramTokenizer.tokenizeForQuery(keyword);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Map<Long, Float>> queryPostings = new ArrayList<>(queryTokens.size());
+        for (String token : queryTokens) {
+            Map<Long, Float> posting = current.postings.get(token);
+            if (posting == null || posting.isEmpty()) {
+                return Collections.emptyList();
+            }
+            queryPostings.add(posting);
+        }
+        // 가장 희소한 토큰의 가게부터 후보로 삼아 교집합 확인 비용 최소화
+        queryPostings.sort(Comparator.comparingInt(Map::size));
+
+        int documentCount = Math.max(1, current.stores.size());
+        double averageLength = Math.max(1.0, current.totalLength / documentCount);
+        double[] idfs = queryPostings.stream()
+                .mapToDouble(posting -> Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5)))
+                .toArray();
+
+        Map<Long, Double> scores = new HashMap<>();
+        candidates:
+        for (Long storeId : queryPostings.get(0).keySet()) {
+            IndexedStore store = current.stores.get(storeId);
+            if (store == null) continue;
+
+            double score = 0;
+            for (int i = 0; i < queryPostings.size(); i++) {
+                Float frequency = queryPostings.get(i).get(storeId);
+                if (frequency == null) continue candidates;
+
+                double norm = K1 * (1 - B + B * store.length() / averageLength);
+                score += idfs[i] * frequency * (K1 + 1) / (frequency + norm);
+            }
+            scores.put(storeId, score);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static void apply(Segment target, Long storeId, IndexedStore store) {
+        target.remove(storeId);
+        if (store != null) {
+            target.add(storeId, store);
+        }
+    }
+
+    private IndexedStore analyze(StoreDocument document) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+        length += addField(frequencies, document.getStoreName(), STORE_NAME_WEIGHT, true);
+        length += addField(frequencies, document.getAddress(), ADDRESS_WEIGHT, false);
+        for (String tagName : Optional.ofNullable(document.getTagNames()).orElse(List.of())) {
+            length += addField(frequencies, tagName, TAG_WEIGHT, true);
+        }
+        for (String menuName : Optional.ofNullable(document.getMenuNames()).orElse(List.of())) {
+            length += addField(frequencies, menuName, MENU_WEIGHT, true);
+        }
+        return new IndexedStore(frequencies, length);
+    }
+
+    /**
+     * 필드 토큰을 가중치만큼 누적하고 필드의 가중 길이 반환
+     */
+    private float addField(Map<String, Float> frequencies, String text, float weight, boolean includeChosung) {
+        List<String> tokens = KoreanNgramTokenizer.tokenizeForIndex(text, includeChosung);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+}
@@ -0,0 +1,39 @@
+package org.swyp.dessertbee.search.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * 인기 검색어 누적 검색 횟수 일괄 반영
+ * - 검색어마다 조회/저장하지 않고 keyword 유니크 키 기준 INSERT ... ON DUPLICATE KEY UPDATE 배치로 누적
+ */
+@Repository
+@RequiredArgsConstructor
+public class PopularSearchKeywordBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO popular_search_keywords (keyword, search_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE search_count = search_count + VALUES(search_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 검색어별 검색 횟수 증가분 반영
+     */
+    @Transactional
+    public void incrementSearchCounts(Map<String, Integer> increments) {
+        if (increments.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new ArrayList<>(increments.entrySet()), BATCH_SIZE, (ps, entry) -> {
+            ps.setString(1, entry.getKey());
+            ps.setInt(2, entry.getValue());
+        });
+    }
+}
@@ -4,9 +4,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import org.swyp.dessertbee.search.entity.PopularSearchKeyword;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PopularSearchKeywordRepository extends JpaRepository<PopularSearchKeyword, Long> {
     Optional<PopularSearchKeyword> findByKeyword(String keyword);
+
+    /** 누적 검색 횟수 상위 검색어 (자동완성 인덱스 적재용) */
+    List<PopularSearchKeyword> findTop1000ByOrderBySearchCountDesc();
 }
\ No newline at end of file
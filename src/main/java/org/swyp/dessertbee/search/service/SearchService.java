@@ -1,7 +1,9 @@
 package org.swyp.dessertbee.search.service;
 
+import org.swyp.dessertbee.search.dto.AutocompleteResponse;
 import org.swyp.dessertbee.search.dto.PopularSearchesList;
 import org.swyp.dessertbee.search.dto.UserSearchHistoryDto;
+import org.swyp.dessertbee.search.entity.enums.TrendingWindow;
 
 import java.util.List;
 
@@ -25,20 +27,28 @@ public interface SearchService {
     void deleteAllRecentSearches(Long userId);
 
     /**
-     * 검색어 저장 (Redis)
+     * 검색어 저장 (Redis 분/시간 버킷)
      */
     void savePopularSearch(String keyword);
 
     /**
-     * 실시간 인기 검색어 조회 (이전 검색 횟수 차이 포함)
+     * 실시간 인기 검색어 조회 (이전 순위 대비 변동 포함)
+     * @param window 집계 구간 (최근 1시간 / 최근 24시간)
      */
-    PopularSearchesList getPopularSearchesWithDifference(int limit);
+    PopularSearchesList getPopularSearchesWithDifference(int limit, TrendingWindow window);
+
+    /**
+     * 검색어 자동완성 (가게 이름, 메뉴, 태그, 인기 검색어)
+     */
+    List<AutocompleteResponse> autocomplete(String keyword, int limit);
 
     /**
      * Redis 인기 검색어 데이터 초기화 (테스트용)
      */
     void clearPopularSearchCache();
 
-    void syncPopularSearchesToDB();                // 1분 동기화용
-    void midnightSyncPopularSearchesToDB();        // 자정 동기화용
+    /**
+     * 인기 검색어 스냅샷 갱신 및 완료된 시간 버킷 DB 반영 (1분 주기)
+     */
+    void refreshPopularSearches();
 }
@@ -1,5 +1,7 @@
 package org.swyp.dessertbee.search.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -7,20 +9,23 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.swyp.dessertbee.search.dto.AutocompleteResponse;
 import org.swyp.dessertbee.search.dto.PopularSearchResponse;
 import org.swyp.dessertbee.search.dto.PopularSearchesList;
 import org.swyp.dessertbee.search.dto.UserSearchHistoryDto;
+import org.swyp.dessertbee.search.entity.enums.TrendingWindow;
 import org.swyp.dessertbee.search.exception.SearchExceptions.*;
-import org.swyp.dessertbee.search.entity.PopularSearchKeyword;
+import org.swyp.dessertbee.search.index.SearchAutocompleteIndex;
 import org.swyp.dessertbee.search.entity.UserSearchHistory;
-import org.swyp.dessertbee.search.repository.PopularSearchKeywordRepository;
+import org.swyp.dessertbee.search.repository.PopularSearchKeywordBatchRepository;
 import org.swyp.dessertbee.search.repository.UserSearchHistoryRepository;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
 
 @Slf4j
@@ -30,17 +35,25 @@ import java.util.*;
 public class SearchServiceImpl implements SearchService {
 
     private final UserSearchHistoryRepository searchHistoryRepository;
-    private final PopularSearchKeywordRepository popularSearchKeywordRepository;
+    private final PopularSearchKeywordBatchRepository popularSearchKeywordBatchRepository;
     private final StringRedisTemplate redisTemplate;
+    private final TrendingSearchEngine trendingSearchEngine;
+    private final SearchAutocompleteIndex searchAutocompleteIndex;
 
     private static final int MAX_RECENT_SEARCHES = 10;
-    private static final String POPULAR_SEARCH_KEY = "popular_search_keywords";
-    private static final String SYNCED_POPULAR_SEARCH_KEY = "synced_popular_search_keywords"; // 동기화된 데이터 저장용
-    private static final String POPULAR_SEARCH_UPDATE_TIME = "popular_search_update_time"; // 업데이트 시간
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+    private static final int MAX_KEYWORD_LENGTH = 255; // popular_search_keywords.keyword VARCHAR(255)
 
     private static final String SYNC_LOCK_KEY = "sync_lock"; // 동기화 중 여부를 체크하는 Redis 키
     private static final long SYNC_LOCK_TIMEOUT = 60; // 락 유지 시간 (초)
 
+    private static final Duration POPULAR_SEARCH_CACHE_TTL = Duration.ofSeconds(5);
+
+    /** 구간별 인기 검색어 응답 캐시 (스냅샷 갱신 주기보다 짧게 유지) */
+    private final Cache<TrendingWindow, PopularSearchesList> popularSearchCache = Caffeine.newBuilder()
+            .expireAfterWrite(POPULAR_SEARCH_CACHE_TTL)
+            .build();
+
     private boolean acquireLock(String key, long timeout) {
         Boolean success = redisTemplate.opsForValue().setIfAbsent(key, "LOCKED", Duration.ofSeconds(timeout));
         return Boolean.TRUE.equals(success);
@@ -148,7 +161,7 @@ public class SearchServiceImpl implements SearchService {
     }
 
     /**
-     * 검색어 저장 (Redis)
+     * 검색어 저장 (Redis 분/시간 버킷)
      */
     @Override
     public void savePopularSearch(String keyword) {
@@ -156,15 +169,8 @@ public class SearchServiceImpl implements SearchService {
             if (keyword == null || keyword.isBlank()) {
                 return;
             }
-            keyword = keyword.trim();
-
-            // 동기화 중이면 검색어 저장하지 않음
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(SYNC_LOCK_KEY))) {
-                log.info("⏳ 동기화 중이므로 검색어 저장이 제한됩니다.");
-                return;
-            }
 
-            redisTemplate.opsForZSet().incrementScore(POPULAR_SEARCH_KEY, keyword, 1);
+            trendingSearchEngine.record(truncateKeyword(keyword.trim()));
         } catch (PopularCreationFailedException e){
             log.warn("인기 검색어 저장 실패 - 사유: {}", e.getMessage());
             throw e;
@@ -175,57 +181,17 @@ public class SearchServiceImpl implements SearchService {
     }
 
     /**
-     * 실시간 인기 검색어 조회 (이전 검색 횟수 차이 포함)
+     * 실시간 인기 검색어 조회 (미리 계산된 스냅샷 + 기준 스냅샷 대비 순위 변동)
+     * - 스냅샷은 1분마다 갱신되므로 구간별 상위 N개 응답을 짧게 로컬 캐싱하고 limit 만큼 잘라서 반환
      */
     @Override
-    public PopularSearchesList getPopularSearchesWithDifference(int limit) {
+    public PopularSearchesList getPopularSearchesWithDifference(int limit, TrendingWindow window) {
         try{
-            ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
-
-            // 현재 인기 검색어 순위 조회 (검색 횟수 포함)
-            Set<ZSetOperations.TypedTuple<String>> currentTopSearches = zSetOps.reverseRangeWithScores(POPULAR_SEARCH_KEY, 0, limit - 1);
-            Set<ZSetOperations.TypedTuple<String>> syncedTopSearches = zSetOps.reverseRangeWithScores(SYNCED_POPULAR_SEARCH_KEY, 0, limit - 1);
-
-            log.info("현재 인기 검색어 데이터 (POPULAR_SEARCH_KEY): {}", currentTopSearches);
-            log.info("이전 인기 검색어 데이터 (SYNCED_POPULAR_SEARCH_KEY): {}", syncedTopSearches);
-
-            // 이전 인기 검색어 목록을 리스트로 변환하여 순위 매핑
-            Map<String, Integer> previousRanks = new HashMap<>();
-            if (syncedTopSearches != null) {
-                List<String> previousRankList = syncedTopSearches.stream()
-                        .map(ZSetOperations.TypedTuple::getValue)
-                        .toList();
-                for (int i = 0; i < previousRankList.size(); i++) {
-                    previousRanks.put(previousRankList.get(i), i + 1); // 1위부터 시작
-                }
-            }
-
-            List<PopularSearchResponse> responseList = new ArrayList<>();
-            if (currentTopSearches != null) {
-                List<String> currentRankList = currentTopSearches.stream()
-                        .map(ZSetOperations.TypedTuple::getValue)
-                        .toList();
-
-                for (int i = 0; i < currentRankList.size(); i++) {
-                    String keyword = currentRankList.get(i);
-                    int currentRank = i + 1; // 1위부터 시작
-                    int previousRank = previousRanks.getOrDefault(keyword, 0); // 이전 순위 (없으면 0)
-                    int difference = (previousRank == 0) ? 0 : previousRank - currentRank; // 순위 변동량
-
-                    // 현재 검색 횟수 가져오기
-                    Double score = zSetOps.score(POPULAR_SEARCH_KEY, keyword);
-                    int searchCount = (score != null) ? score.intValue() : 0;
+            PopularSearchesList snapshot = popularSearchCache.get(window, this::loadPopularSearches);
+            List<PopularSearchResponse> searches = snapshot.getSearches();
 
-                    responseList.add(new PopularSearchResponse(keyword, searchCount, currentRank, difference));
-                }
-            }
-
-            // Redis에서 마지막 업데이트 시간 가져오기
-            String lastUpdatedTime = Optional.ofNullable(
-                    redisTemplate.opsForValue().get(POPULAR_SEARCH_UPDATE_TIME)
-            ).orElse(Instant.now().toString());
-
-            return new PopularSearchesList(lastUpdatedTime, responseList);
+            return new PopularSearchesList(snapshot.getLastUpdatedTime(),
+                    searches.subList(0, Math.max(0, Math.min(limit, searches.size()))));
         } catch (Exception e) {
             log.error("인기 검색어 기록 조회 처리 중 오류 발생", e);
             throw new SearchServiceException("인기 검색어 기록 조회 처리 중 오류가 발생했습니다.");
@@ -233,134 +199,128 @@ public class SearchServiceImpl implements SearchService {
     }
 
     /**
-     * 1분마다 MySQL에 Redis 데이터 동기화 (초기화 X)
+     * 구간별 스냅샷 전체(상위 N개)를 응답으로 변환
      */
-    public void syncPopularSearchesToDB() {
-        try{
-            // 자정 동기화 중이라면 실행하지 않음
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(SYNC_LOCK_KEY))) {
-                log.info("⏳ 자정 동기화가 진행 중이므로 1분 동기화를 중단합니다.");
-                return;
-            }
+    private PopularSearchesList loadPopularSearches(TrendingWindow window) {
+        TrendingSearchEngine.TrendingSnapshot snapshot = trendingSearchEngine.readSnapshot(window);
 
-            // 현재 시간이 23:59 ~ 00:01 사이라면 동기화 중단
-            int currentHour = Instant.now().atZone(ZoneId.of("Asia/Seoul")).getHour();
-            int currentMinute = Instant.now().atZone(ZoneId.of("Asia/Seoul")).getMinute();
+        List<PopularSearchResponse> responseList = new ArrayList<>();
+        int currentRank = 1; // 1위부터 시작
+        for (ZSetOperations.TypedTuple<String> tuple : snapshot.ranking()) {
+            String keyword = tuple.getValue();
+            int previousRank = snapshot.baselineRanks().getOrDefault(keyword, 0); // 이전 순위 (없으면 0)
+            int difference = (previousRank == 0) ? 0 : previousRank - currentRank; // 순위 변동량
 
-            if (currentHour == 23 && currentMinute >= 59 || currentHour == 0 && currentMinute < 1) {
-                log.info("⏸️ 자정 동기화 시간(23:59 ~ 00:01)이므로 1분 동기화 중단");
-                return;
-            }
+            // 감쇠 가중치가 적용된 검색 횟수
+            int searchCount = (tuple.getScore() != null) ? (int) Math.round(tuple.getScore()) : 0;
 
-            log.info("실시간 인기 검색어 동기화 시작");
-
-            ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
-            Set<ZSetOperations.TypedTuple<String>> topKeywords = zSetOps.reverseRangeWithScores(POPULAR_SEARCH_KEY, 0, 49);
-
-            if (topKeywords == null || topKeywords.isEmpty()) {
-                log.info("Redis에 저장된 검색어 없음");
-                return;
-            }
-
-            // 이전 동기화된 Redis 값 가져오기
-            Set<ZSetOperations.TypedTuple<String>> syncedTopKeywords = zSetOps.reverseRangeWithScores(SYNCED_POPULAR_SEARCH_KEY, 0, 49);
-            Map<String, Integer> syncedCounts = new HashMap<>();
-
-            if (syncedTopKeywords != null) {
-                for (ZSetOperations.TypedTuple<String> tuple : syncedTopKeywords) {
-                    syncedCounts.put(tuple.getValue(), tuple.getScore().intValue());
-                }
-            }
-
-            for (ZSetOperations.TypedTuple<String> tuple : topKeywords) {
-                String keyword = tuple.getValue();
-                int redisCount = tuple.getScore().intValue();
-
-                // MySQL에서 기존 searchCount 가져오기
-                Optional<PopularSearchKeyword> optionalKeyword = popularSearchKeywordRepository.findByKeyword(keyword);
-                int dbCount = optionalKeyword.map(PopularSearchKeyword::getSearchCount).orElse(0);
-
-                int increment = Math.max(0, redisCount - dbCount);
+            responseList.add(new PopularSearchResponse(keyword, searchCount, currentRank, difference));
+            currentRank++;
+        }
 
-                if (increment > 0) {
-                    PopularSearchKeyword existingKeyword = optionalKeyword.orElse(PopularSearchKeyword.create(keyword));
-                    existingKeyword.incrementCount(increment);
-                    popularSearchKeywordRepository.save(existingKeyword);
-                }
+        String lastUpdatedTime = Optional.ofNullable(snapshot.updatedAt())
+                .orElse(Instant.now().toString());
 
-                // 현재 Redis 값 저장
-                zSetOps.add(SYNCED_POPULAR_SEARCH_KEY, keyword, redisCount);
-            }
+        return new PopularSearchesList(lastUpdatedTime, List.copyOf(responseList));
+    }
 
-            // 최신 업데이트 시간 저장
-            redisTemplate.opsForValue().set(POPULAR_SEARCH_UPDATE_TIME, Instant.now().toString());
+    /**
+     * 1분마다 인기 검색어 스냅샷 갱신 및 완료된 시간 버킷을 MySQL에 누적
+     * - 여러 인스턴스가 동시에 실행하지 않도록 락 사용
+     */
+    @Override
+    public void refreshPopularSearches() {
+        if (!acquireLock(SYNC_LOCK_KEY, SYNC_LOCK_TIMEOUT)) {
+            log.debug("다른 인스턴스에서 인기 검색어 갱신 중이므로 실행하지 않습니다.");
+            return;
+        }
 
-            log.info("✅ 실시간 인기 검색어 동기화 완료");
+        try{
+            trendingSearchEngine.refreshSnapshots();
+            persistCompletedHours();
         } catch (PopularSyncFailedException e){
             log.warn("인기 검색어 동기화 실패 - 사유: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
             log.error("인기 검색어 동기화 처리 중 오류 발생", e);
             throw new SearchServiceException("인기 검색어 동기화 처리 중 오류가 발생했습니다.");
+        } finally {
+            releaseLock(SYNC_LOCK_KEY);
         }
     }
 
     /**
-     * 매일 자정 MySQL로 데이터 이전 후 Redis 초기화
+     * 아직 반영되지 않은 완료된 시간 버킷의 검색 횟수를 MySQL에 누적 (버킷 TTL 내 최대 24시간분)
+     * - 여러 시간 버킷을 메모리에서 합산한 뒤 한 번의 배치 upsert로 반영
      */
-    public void midnightSyncPopularSearchesToDB() {
-        log.info("[스케줄러 시작] 인기 검색어 백업 at {}", LocalDateTime.now());
-
-        // 락 설정
-        if (!acquireLock(SYNC_LOCK_KEY, SYNC_LOCK_TIMEOUT)) {
-            log.info("이미 동기화가 진행 중이므로 실행하지 않습니다.");
-            return;
+    private void persistCompletedHours() {
+        long currentHour = trendingSearchEngine.currentEpochHour();
+        Long persistedHour = trendingSearchEngine.getPersistedHour();
+        long fromHour = (persistedHour == null)
+                ? currentHour - 1
+                : Math.max(persistedHour + 1, currentHour - 24);
+        if (fromHour >= currentHour) return;
+
+        Map<String, Integer> increments = new HashMap<>();
+        for (long hour = fromHour; hour < currentHour; hour++) {
+            Set<ZSetOperations.TypedTuple<String>> hourCounts = trendingSearchEngine.readHourBucket(hour);
+            if (hourCounts == null) continue;
+
+            for (ZSetOperations.TypedTuple<String> tuple : hourCounts) {
+                if (tuple.getScore() == null || tuple.getValue() == null) continue;
+                // 길이 제한 이전에 기록된 검색어 하나 때문에 배치 전체가 실패하지 않도록 잘라서 합산
+                increments.merge(truncateKeyword(tuple.getValue()), tuple.getScore().intValue(), Integer::sum);
+            }
         }
 
-        try {
-            ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
+        popularSearchKeywordBatchRepository.incrementSearchCounts(increments);
+        markPersistedAfterCommit(currentHour - 1);
+        log.info("인기 검색어 시간 버킷 DB 반영 완료 - 버킷 수: {}, 검색어 수: {}", currentHour - fromHour, increments.size());
+    }
 
-            // 기존 동기화된 인기 검색어 데이터 백업
-            Set<ZSetOperations.TypedTuple<String>> backupSyncedData = zSetOps.reverseRangeWithScores(SYNCED_POPULAR_SEARCH_KEY, 0, -1);
+    /**
+     * 반영 완료 시간 기록은 DB 커밋 이후에 수행 (롤백 시 같은 버킷이 누락되지 않고 다음 주기에 다시 반영되도록)
+     */
+    private void markPersistedAfterCommit(long epochHour) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            trendingSearchEngine.markPersisted(epochHour);
+            return;
+        }
 
-            Set<String> keywords = zSetOps.reverseRange(POPULAR_SEARCH_KEY, 0, -1);
-            if (keywords == null || keywords.isEmpty()) {
-                log.info("⏸️ 백업할 인기 검색어 없음");
-                return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                trendingSearchEngine.markPersisted(epochHour);
             }
+        });
+    }
 
-            for (String keyword : keywords) {
-                Double score = redisTemplate.opsForZSet().score(POPULAR_SEARCH_KEY, keyword);
-                if (score != null) {
-                    PopularSearchKeyword existingKeyword = popularSearchKeywordRepository.findByKeyword(keyword)
-                            .orElse(PopularSearchKeyword.create(keyword));
-
-                    existingKeyword.incrementCount(score.intValue());
-                    popularSearchKeywordRepository.save(existingKeyword);
-                }
-            }
+    /**
+     * 검색어를 컬럼 길이(문자 수) 이내로 자르기 (서로게이트 쌍이 끊기지 않도록 코드 포인트 기준)
+     */
+    private static String truncateKeyword(String keyword) {
+        if (keyword.length() <= MAX_KEYWORD_LENGTH
+                || keyword.codePointCount(0, keyword.length()) <= MAX_KEYWORD_LENGTH) {
+            return keyword;
+        }
+        return keyword.substring(0, keyword.offsetByCodePoints(0, MAX_KEYWORD_LENGTH));
+    }
 
-            // 기존 동기화된 데이터 복원
-            if (backupSyncedData != null) {
-                for (ZSetOperations.TypedTuple<String> tuple : backupSyncedData) {
-                    redisTemplate.opsForZSet().add(SYNCED_POPULAR_SEARCH_KEY, tuple.getValue(), tuple.getScore());
-                }
+    /**
+     * 검색어 자동완성 (인메모리 접두사 인덱스 조회, 인덱스 적재 전에는 빈 목록)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<AutocompleteResponse> autocomplete(String keyword, int limit) {
+        try{
+            if (keyword == null || keyword.isBlank() || !searchAutocompleteIndex.isReady()) {
+                return Collections.emptyList();
             }
 
-            // 동기화가 성공한 경우에만 Redis 초기화
-            clearPopularSearchCache();
-
-            log.info("[스케줄러 종료] 인기 검색어 백업 at {}", LocalDateTime.now());
-
-        } catch (PopularInitFailedException e) {
-            log.warn("[스케줄러 실패] 인기 검색어 초기화 실패 - {}", e.getMessage());
-            throw e;
+            return searchAutocompleteIndex.suggest(keyword, Math.min(limit, MAX_AUTOCOMPLETE_SIZE));
         } catch (Exception e) {
-            log.error("예상치 못한 오류 발생 - Redis 초기화 중단", e);
-            throw new PopularInitFailedException("자정 Redis 초기화 중 예상치 못한 오류가 발생했습니다.");
-        } finally {
-            // 락 해제
-            releaseLock(SYNC_LOCK_KEY);
+            log.error("검색어 자동완성 처리 중 오류 발생", e);
+            throw new SearchServiceException("검색어 자동완성 처리 중 오류가 발생했습니다.");
         }
     }
 
@@ -372,9 +332,8 @@ public class SearchServiceImpl implements SearchService {
         try{
             log.info("🔥 Redis 인기 검색어 데이터 초기화 실행");
 
-            redisTemplate.delete(POPULAR_SEARCH_KEY);
-            redisTemplate.delete(SYNCED_POPULAR_SEARCH_KEY);
-            redisTemplate.delete(POPULAR_SEARCH_UPDATE_TIME);
+            trendingSearchEngine.clear();
+            popularSearchCache.invalidateAll();
 
             log.info("✅ Redis 데이터가 성공적으로 초기화되었습니다.");
         } catch (PopularInitFailedException e) {
@@ -1,11 +1,11 @@
-//package org.swyp.dessertbee.search.service;
-//
-//public interface StoreSearchService {
-//    /** (관리자 전용) 모든 가게 데이터를 Elasticsearch에 색인 */
-//    void migrateStoresToElasticsearch();
-//
-//    /**
-//     * 가게 저장/수정 후 Elasticsearch 반영
-//     */
-//    void indexStore(Long storeId);
-//}
+package org.swyp.dessertbee.search.service;
+
+public interface StoreSearchService {
+    /** 모든 활성 가게를 현재 검색 엔진에 다시 색인 */
+    void reindexAll();
+
+    /**
+     * 가게 저장/수정/삭제 후 검색 엔진 반영
+     */
+    void indexStore(Long storeId);
+}
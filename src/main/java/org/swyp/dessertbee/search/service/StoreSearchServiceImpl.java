@@ -1,47 +1,153 @@
-//package org.swyp.dessertbee.search.service;
-//
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.stereotype.Service;
-//import org.springframework.transaction.annotation.Transactional;
-//import org.swyp.dessertbee.search.doc.StoreDocument;
-//import org.swyp.dessertbee.search.util.ElasticsearchIndexer;
-//import org.swyp.dessertbee.search.util.StoreDocumentFactory;
-//import org.swyp.dessertbee.store.store.entity.Store;
-//import org.swyp.dessertbee.store.store.repository.StoreRepository;
-//import org.swyp.dessertbee.store.store.exception.StoreExceptions.*;
-//
-//import java.util.List;
-//
-//@RequiredArgsConstructor
-//@Transactional
-//@Service
-//@Slf4j
-//public class StoreSearchServiceImpl implements StoreSearchService {
-//
-//    private final StoreRepository storeRepository;
-//    private final StoreDocumentFactory storeDocumentFactory;
-//    private final ElasticsearchIndexer elasticsearchIndexer;
-//
-//    private static final String INDEX_NAME = "stores";
-//
-//    @Override
-//    public void migrateStoresToElasticsearch() {
-//        elasticsearchIndexer.createIndexIfNotExists(INDEX_NAME);
-//
-//        List<Store> stores = storeRepository.findAll();
-//        for (Store store : stores) {
-//            StoreDocument doc = storeDocumentFactory.fromStore(store);
-//            elasticsearchIndexer.indexStoreDocument(INDEX_NAME, store.getStoreId().toString(), doc);
-//        }
-//    }
-//
-//    @Override
-//    public void indexStore(Long storeId) {
-//        Store store = storeRepository.findById(storeId)
-//                .orElseThrow(StoreNotFoundException::new);
-//
-//        StoreDocument doc = storeDocumentFactory.fromStore(store);
-//        elasticsearchIndexer.indexStoreDocument(INDEX_NAME, storeId.toString(), doc);
-//    }
-//}
\ No newline at end of file
+package org.swyp.dessertbee.search.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.swyp.dessertbee.common.exception.BusinessException;
+import org.swyp.dessertbee.search.doc.StoreDocument;
+import org.swyp.dessertbee.search.engine.StoreSearchEngine;
+import org.swyp.dessertbee.search.engine.StoreSearchEngineRouter;
+import org.swyp.dessertbee.search.exception.SearchExceptions.SearchIndexFailedException;
+import org.swyp.dessertbee.search.util.StoreDocumentFactory;
+import org.swyp.dessertbee.store.store.repository.StoreRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class StoreSearchServiceImpl implements StoreSearchService {
+
+    /** 재색인 페이지 크기 (페이지마다 가게/태그/메뉴를 한 번씩 조회) */
+    private static final int PAGE_SIZE = 500;
+
+    private final StoreRepository storeRepository;
+    private final StoreDocumentFactory storeDocumentFactory;
+    private final StoreSearchEngineRouter storeSearchEngineRouter;
+
+    private final AtomicBoolean reindexing = new AtomicBoolean(false);
+
+    /** 색인 문서 버전 - DB 조회 직전에 발급하므로 값이 클수록 더 나중 상태를 읽은 문서 */
+    private final AtomicLong versionSequence = new AtomicLong();
+    /** 재색인 중 개별 반영된 가게별 버전 (재색인 페이지가 이보다 먼저 읽은 문서로 덮어쓰지 않도록 비교) */
+    private final Map<Long, Long> liveVersions = new ConcurrentHashMap<>();
+    /** 엔진 쓰기 직렬화 (버전 비교와 색인 반영 사이에 다른 쓰기가 끼어들지 않도록) */
+    private final Object writeLock = new Object();
+    private boolean bulkInProgress = false;
+
+    /**
+     * 활성 가게를 ID 키셋 페이지 단위로 읽어 전체 재색인 (OFFSET 없이 마지막 ID 이후부터 조회)
+     * - 이미 재색인 중이면 건너뜀
+     * - 재색인 도중 개별 반영된 가게는 그보다 먼저 읽은 페이지 문서로 덮어쓰지 않음 (버전 비교)
+     */
+    @Override
+    public void reindexAll() {
+        StoreSearchEngine engine = storeSearchEngineRouter.active();
+        if (!engine.requiresIndexing()) return;
+
+        if (!reindexing.compareAndSet(false, true)) {
+            log.info("[가게 검색 인덱스] 이미 재색인 중이므로 건너뜁니다.");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int indexedCount = 0;
+        try {
+            synchronized (writeLock) {
+                liveVersions.clear();
+                engine.beginBulk();
+                bulkInProgress = true;
+            }
+
+            Long lastStoreId = 0L;
+            while (true) {
+                long pageVersion = versionSequence.incrementAndGet();
+                List<Object[]> storeRows = storeRepository.findActiveStoreSearchFieldsAfter(lastStoreId, PageRequest.of(0, PAGE_SIZE));
+                if (storeRows.isEmpty()) break;
+
+                indexedCount += indexPage(engine, storeDocumentFactory.fromStoreRows(storeRows), pageVersion);
+
+                if (storeRows.size() < PAGE_SIZE) break;
+                lastStoreId = (Long) storeRows.get(storeRows.size() - 1)[0];
+            }
+
+            synchronized (writeLock) {
+                engine.completeBulk();
+                endBulk();
+            }
+            log.info("[가게 검색 인덱스] 재색인 완료 - 엔진: {}, 가게 수: {}, 소요: {}ms",
+                    engine.name(), indexedCount, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[가게 검색 인덱스] 재색인 실패 - 엔진: {}, 색인된 가게 수: {}", engine.name(), indexedCount, e);
+            try {
+                synchronized (writeLock) {
+                    endBulk();
+                    engine.abortBulk();
+                }
+            } catch (Exception abortException) {
+                log.warn("[가게 검색 인덱스] 재색인 중단 처리 실패 - 사유: {}", abortException.getMessage());
+            }
+            if (e instanceof BusinessException) {
+                throw (BusinessException) e;
+            }
+            throw new SearchIndexFailedException("가게 검색 재색인 중 오류가 발생했습니다.", e);
+        } finally {
+            reindexing.set(false);
+        }
+    }
+
+    /**
+     * 가게 한 곳 다시 색인 (삭제되었거나 없는 가게는 색인에서 제거)
+     */
+    @Override
+    public void indexStore(Long storeId) {
+        StoreSearchEngine engine = storeSearchEngineRouter.active();
+        if (!engine.requiresIndexing()) return;
+
+        try {
+            long version = versionSequence.incrementAndGet();
+            Optional<StoreDocument> document = storeRepository.findByStoreIdAndDeletedAtIsNull(storeId)
+                    .map(storeDocumentFactory::fromStore);
+
+            synchronized (writeLock) {
+                if (bulkInProgress) {
+                    liveVersions.merge(storeId, version, Math::max);
+                }
+                document.ifPresentOrElse(doc -> engine.index(List.of(doc)), () -> engine.delete(storeId));
+            }
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[가게 검색 인덱스] 가게 색인 실패 - storeId: {}", storeId, e);
+            throw new SearchIndexFailedException("가게 색인 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 재색인 페이지 반영 - 페이지를 읽은 뒤 개별 반영된(더 최신인) 가게 문서는 건너뜀
+     * @return 반영한 문서 수
+     */
+    private int indexPage(StoreSearchEngine engine, List<StoreDocument> documents, long pageVersion) {
+        synchronized (writeLock) {
+            List<StoreDocument> fresh = documents.stream()
+                    .filter(document -> liveVersions.getOrDefault(document.getStoreId(), 0L) < pageVersion)
+                    .toList();
+            if (fresh.size() < documents.size()) {
+                log.debug("[가게 검색 인덱스] 재색인 중 먼저 반영된 가게 {}건은 건너뜁니다.", documents.size() - fresh.size());
+            }
+            engine.index(fresh);
+            return fresh.size();
+        }
+    }
+
+    private void endBulk() {
+        bulkInProgress = false;
+        liveVersions.clear();
+    }
+}
@@ -0,0 +1,219 @@
+package org.swyp.dessertbee.search.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.swyp.dessertbee.search.entity.enums.TrendingWindow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 시간 감쇠 슬라이딩 윈도우 기반 인기 검색어 집계
+ * - 검색어를 1분/1시간 버킷 ZSET에 기록 (버킷은 TTL로 자연 소멸, 자정 초기화 없음)
+ * - 매 분 구간별 버킷을 ZUNIONSTORE(WEIGHTS = 지수 감쇠)로 합산해 상위 N개 스냅샷을 미리 만들어 둠
+ * - 순위 변동은 일정 주기마다 보관하는 기준 스냅샷과 비교
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingSearchEngine {
+
+    /** 스냅샷에 유지할 상위 검색어 수 */
+    public static final int SNAPSHOT_SIZE = 50;
+
+    /** 순위 변동 비교용 기준 스냅샷 교체 주기(분) */
+    private static final long BASELINE_INTERVAL_MINUTES = 10;
+
+    private static final String KEY_PREFIX = "popular_search:";
+    private static final String MINUTE_BUCKET_PREFIX = KEY_PREFIX + "minute:";
+    private static final String HOUR_BUCKET_PREFIX = KEY_PREFIX + "hour:";
+    private static final String RANKING_PREFIX = KEY_PREFIX + "ranking:";
+    private static final String PERSISTED_HOUR_KEY = KEY_PREFIX + "persisted_hour";
+
+    private static final Duration MINUTE_BUCKET_TTL = Duration.ofHours(2);
+    private static final Duration HOUR_BUCKET_TTL = Duration.ofHours(26);
+
+    /**
+     * 스냅샷 생성 (KEYS[1]: 임시 키, KEYS[2]: 현재 스냅샷, KEYS[3]: 기준 스냅샷, KEYS[4]: 갱신 시간,
+     * KEYS[5]: 마지막으로 기준 스냅샷을 교체한 주기 번호, KEYS[6..]: 버킷)
+     * ARGV: 스냅샷 크기, 현재 기준 스냅샷 주기 번호, 갱신 시간, 버킷별 가중치...
+     * 임시 키에 가중 합산 후 상위 N개만 남기고 현재 스냅샷과 교체 (읽는 쪽에서 빈 스냅샷이 보이지 않도록)
+     * 기준 스냅샷은 현재 주기 번호가 마지막 교체 주기보다 클 때만 교체
+     * (여러 인스턴스/재시도가 같은 주기에 실행돼도 한 번만 교체하고, 경계 분을 건너뛴 실행도 다음 실행에서 교체)
+     */
+    private static final RedisScript<Long> BUILD_SNAPSHOT_SCRIPT = new DefaultRedisScript<>(
+            "local args = {KEYS[1], #KEYS - 5} " +
+            "for i = 6, #KEYS do args[#args + 1] = KEYS[i] end " +
+            "args[#args + 1] = 'WEIGHTS' " +
+            "for i = 4, #ARGV do args[#args + 1] = ARGV[i] end " +
+            "local size = redis.call('ZUNIONSTORE', unpack(args)) " +
+            "local limit = tonumber(ARGV[1]) " +
+            "if size > limit then redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -limit - 1) end " +
+            "local epoch = tonumber(ARGV[2]) " +
+            "local rotated = tonumber(redis.call('GET', KEYS[5]) or '-1') " +
+            "if epoch > rotated then " +
+            "  if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('RENAME', KEYS[2], KEYS[3]) end " +
+            "  redis.call('SET', KEYS[5], ARGV[2]) " +
+            "end " +
+            "if size > 0 then redis.call('RENAME', KEYS[1], KEYS[2]) else redis.call('DEL', KEYS[2]) end " +
+            "redis.call('SET', KEYS[4], ARGV[3]) " +
+            "return math.min(size, limit)",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 검색어 1회 기록 (현재 분/시간 버킷)
+     */
+    public void record(String keyword) {
+        long epochMinute = currentEpochMinute();
+        byte[] minuteKey = bytes(MINUTE_BUCKET_PREFIX + epochMinute);
+        byte[] hourKey = bytes(HOUR_BUCKET_PREFIX + epochMinute / 60);
+        byte[] member = bytes(keyword);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zIncrBy(minuteKey, 1, member);
+            connection.keyCommands().expire(minuteKey, MINUTE_BUCKET_TTL.toSeconds());
+            connection.zSetCommands().zIncrBy(hourKey, 1, member);
+            connection.keyCommands().expire(hourKey, HOUR_BUCKET_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    /**
+     * 모든 구간의 상위 N개 스냅샷 갱신
+     */
+    public void refreshSnapshots() {
+        long epochMinute = currentEpochMinute();
+        long baselineEpoch = epochMinute / BASELINE_INTERVAL_MINUTES;
+        String updatedAt = Instant.now().toString();
+
+        for (TrendingWindow window : TrendingWindow.values()) {
+            long current = (window == TrendingWindow.HOUR) ? epochMinute : epochMinute / 60;
+            String bucketPrefix = (window == TrendingWindow.HOUR) ? MINUTE_BUCKET_PREFIX : HOUR_BUCKET_PREFIX;
+
+            List<String> keys = new ArrayList<>(List.of(
+                    rankingKey(window) + ":tmp", rankingKey(window), baselineKey(window), updatedAtKey(window),
+                    baselineEpochKey(window)));
+            List<String> args = new ArrayList<>(List.of(
+                    String.valueOf(SNAPSHOT_SIZE), String.valueOf(baselineEpoch), updatedAt));
+            for (int age = 0; age < window.getBucketCount(); age++) {
+                keys.add(bucketPrefix + (current - age));
+                args.add(String.valueOf(window.weightOf(age)));
+            }
+
+            Long size = redisTemplate.execute(BUILD_SNAPSHOT_SCRIPT, keys, args.toArray());
+            log.debug("인기 검색어 스냅샷 갱신 - 구간: {}, 검색어 수: {}", window, size);
+        }
+    }
+
+    /**
+     * 현재 스냅샷(상위 N개, 점수 = 감쇠 가중 검색 횟수), 기준 스냅샷 순위, 갱신 시간을 한 번의 파이프라인으로 조회
+     */
+    @SuppressWarnings("unchecked")
+    public TrendingSnapshot readSnapshot(TrendingWindow window) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRevRangeWithScores(bytes(rankingKey(window)), 0, SNAPSHOT_SIZE - 1);
+            connection.zSetCommands().zRevRange(bytes(baselineKey(window)), 0, -1);
+            connection.stringCommands().get(bytes(updatedAtKey(window)));
+            return null;
+        });
+
+        Set<ZSetOperations.TypedTuple<String>> ranking = (Set<ZSetOperations.TypedTuple<String>>) results.get(0);
+        Set<String> baseline = (Set<String>) results.get(1);
+
+        Map<String, Integer> baselineRanks = new HashMap<>();
+        if (baseline != null) {
+            int rank = 1;
+            for (String keyword : baseline) {
+                baselineRanks.put(keyword, rank++);
+            }
+        }
+        return new TrendingSnapshot(
+                (ranking != null) ? new ArrayList<>(ranking) : List.of(),
+                baselineRanks,
+                (String) results.get(2));
+    }
+
+    /**
+     * 1시간 버킷의 검색어별 검색 횟수
+     */
+    public Set<ZSetOperations.TypedTuple<String>> readHourBucket(long epochHour) {
+        return redisTemplate.opsForZSet().rangeWithScores(HOUR_BUCKET_PREFIX + epochHour, 0, -1);
+    }
+
+    /** DB에 반영 완료된 마지막 시간 버킷, 없으면 null */
+    public Long getPersistedHour() {
+        String value = redisTemplate.opsForValue().get(PERSISTED_HOUR_KEY);
+        return (value != null) ? Long.valueOf(value) : null;
+    }
+
+    public void markPersisted(long epochHour) {
+        redisTemplate.opsForValue().set(PERSISTED_HOUR_KEY, String.valueOf(epochHour));
+    }
+
+    public long currentEpochHour() {
+        return currentEpochMinute() / 60;
+    }
+
+    /**
+     * 버킷/스냅샷 전체 삭제 (테스트용)
+     */
+    public void clear() {
+        long epochMinute = currentEpochMinute();
+        List<String> keys = new ArrayList<>();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            keys.addAll(List.of(rankingKey(window), baselineKey(window), updatedAtKey(window), baselineEpochKey(window)));
+        }
+        for (long minute = epochMinute - MINUTE_BUCKET_TTL.toMinutes(); minute <= epochMinute; minute++) {
+            keys.add(MINUTE_BUCKET_PREFIX + minute);
+        }
+        for (long hour = epochMinute / 60 - HOUR_BUCKET_TTL.toHours(); hour <= epochMinute / 60; hour++) {
+            keys.add(HOUR_BUCKET_PREFIX + hour);
+        }
+        redisTemplate.delete(keys);
+    }
+
+    private long currentEpochMinute() {
+        return Instant.now().getEpochSecond() / 60;
+    }
+
+    private String rankingKey(TrendingWindow window) {
+        return RANKING_PREFIX + window.name().toLowerCase();
+    }
+
+    private String baselineKey(TrendingWindow window) {
+        return rankingKey(window) + ":baseline";
+    }
+
+    private String baselineEpochKey(TrendingWindow window) {
+        return baselineKey(window) + ":epoch";
+    }
+
+    private String updatedAtKey(TrendingWindow window) {
+        return rankingKey(window) + ":updated_at";
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 인기 검색어 스냅샷
+     * @param ranking 순위순 검색어와 감쇠 가중 검색 횟수
+     * @param baselineRanks 기준 스냅샷의 검색어별 순위 (1위부터)
+     * @param updatedAt 스냅샷 갱신 시간 (ISO 8601), 없으면 null
+     */
+    public record TrendingSnapshot(List<ZSetOperations.TypedTuple<String>> ranking,
+                                   Map<String, Integer> baselineRanks,
+                                   String updatedAt) {
+    }
+}
@@ -0,0 +1,113 @@
+package org.swyp.dessertbee.search.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한국어 검색용 n-gram 토크나이저
+ * - 띄어쓰기 없이 붙은 복합어("수제마카롱전문점")에서도 부분 문자열이 검색되도록 음절 단위 1-gram/2-gram 으로 분해
+ * - 초성 검색("ㅁㅋㄹ")을 위해 한글 음절을 초성으로 바꾼 문자열의 n-gram 도 생성
+ */
+public final class KoreanNgramTokenizer {
+
+    private static final char HANGUL_SYLLABLE_START = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    /** 초성 하나당 음절 수 (중성 21 × 종성 28) */
+    private static final int SYLLABLES_PER_CHOSUNG = 588;
+
+    /** 초성 순서의 호환용 자모 */
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private KoreanNgramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 (단어별 1-gram + 2-gram, 중복 포함)
+     * @param includeChosung 초성 n-gram 포함 여부
+     */
+    public static List<String> tokenizeForIndex(String text, boolean includeChosung) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            addNgrams(word, tokens, true);
+            if (includeChosung && containsHangulSyllable(word)) {
+                addNgrams(toChosung(word), tokens, true);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 (단어별 2-gram, 한 글자 단어는 1-gram, 중복 제거)
+     * - 초성으로만 이루어진 검색어는 초성 n-gram 과 비교됨 (색인 시 초성 문자열도 같은 방식으로 분해하므로)
+     */
+    public static Set<String> tokenizeForQuery(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            addNgrams(word, tokens, word.length() == 1);
+        }
+        return new LinkedHashSet<>(tokens);
+    }
+
+    /**
+     * 한글 음절을 초성으로 변환 (그 외 문자는 그대로)
+     */
+    public static String toChosung(String word) {
+        StringBuilder builder = new StringBuilder(word.length());
+        for (char c : word.toCharArray()) {
+            if (c >= HANGUL_SYLLABLE_START && c <= HANGUL_SYLLABLE_END) {
+                builder.append(CHOSUNG[(c - HANGUL_SYLLABLE_START) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void addNgrams(String word, List<String> tokens, boolean includeUnigrams) {
+        for (int i = 0; i < word.length(); i++) {
+            if (includeUnigrams) {
+                tokens.add(word.substring(i, i + 1));
+            }
+            if (i + 1 < word.length()) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 정규화(NFC, 소문자) 후 글자/숫자가 아닌 문자를 기준으로 단어 분리
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) return words;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (char c : normalized.toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    private static boolean containsHangulSyllable(String word) {
+        for (char c : word.toCharArray()) {
+            if (c >= HANGUL_SYLLABLE_START && c <= HANGUL_SYLLABLE_END) return true;
+        }
+        return false;
+    }
+}
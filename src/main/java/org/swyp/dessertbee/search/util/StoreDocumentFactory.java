@@ -7,7 +7,7 @@ import org.swyp.dessertbee.store.menu.repository.MenuRepository;
 import org.swyp.dessertbee.store.store.entity.Store;
 import org.swyp.dessertbee.store.tag.repository.StoreTagRelationRepository;
 
-import java.util.List;
+import java.util.*;
 
 @Component
 @RequiredArgsConstructor
@@ -30,4 +30,39 @@ public class StoreDocumentFactory {
                 .deleted(store.getDeletedAt() != null)
                 .build();
     }
+
+    /**
+     * 가게 행(ID, UUID, 이름, 주소) 한 페이지의 문서 일괄 생성 (태그/메뉴는 페이지 단위로 한 번씩 조회)
+     */
+    public List<StoreDocument> fromStoreRows(List<Object[]> storeRows) {
+        List<Long> storeIds = storeRows.stream().map(row -> (Long) row[0]).toList();
+        if (storeIds.isEmpty()) return Collections.emptyList();
+
+        Map<Long, List<String>> tagNamesByStoreId = groupByStoreId(storeTagRelationRepository.findStoreIdAndTagNamesByStoreIds(storeIds));
+        Map<Long, List<String>> menuNamesByStoreId = groupByStoreId(menuRepository.findStoreIdAndMenuNamesByStoreIds(storeIds));
+
+        List<StoreDocument> documents = new ArrayList<>(storeRows.size());
+        for (Object[] row : storeRows) {
+            Long storeId = (Long) row[0];
+            documents.add(StoreDocument.builder()
+                    .storeId(storeId)
+                    .storeUuid((UUID) row[1])
+                    .storeName((String) row[2])
+                    .address((String) row[3])
+                    .tagNames(tagNamesByStoreId.getOrDefault(storeId, Collections.emptyList()))
+                    .menuNames(menuNamesByStoreId.getOrDefault(storeId, Collections.emptyList()))
+                    .deleted(false)
+                    .build());
+        }
+        return documents;
+    }
+
+    private Map<Long, List<String>> groupByStoreId(List<Object[]> rows) {
+        Map<Long, List<String>> namesByStoreId = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] == null) continue;
+            namesByStoreId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return namesByStoreId;
+    }
 }
@@ -1,10 +1,48 @@
 package org.swyp.dessertbee.statistics.common;
 
-import java.time.LocalDateTime;
+import org.swyp.dessertbee.statistics.store.entity.enums.PeriodType;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 가게 통계 Redis 키 생성
+ * - 날짜/시간대별 Hash 버킷 하나에 {action}:{category}:{storeId} 필드로 카운트를 누적
+ * - 집계 시 KEYS 패턴 검색 없이 하루치 버킷 키(24개)를 바로 계산할 수 있음
+ * - 집계 중인 버킷은 반영 중 키(stat:flushing:*)로 옮겨, 그 사이 들어온 기록은 새 버킷에 쌓이도록 함
+ * - 순 방문자는 가게/기간별 HyperLogLog 키로 관리 (키당 최대 약 12KB)
+ */
 public class RedisStatKeyBuilder {
-    public static String build(String actionType, String category, Long storeId) {
-        LocalDateTime now = LocalDateTime.now();
-        return String.format("stat:%s:%s:%s:%d:%02d", actionType, category, now.toLocalDate(), storeId, now.getHour());
+
+    private static final String BUCKET_PREFIX = "stat:bucket:";
+    private static final String FLUSHING_PREFIX = "stat:flushing:";
+    private static final String UNIQUE_VIEWER_PREFIX = "stat:uv:";
+
+    /** 시간대별 통계 버킷 키: stat:bucket:{date}:{hour} */
+    public static String bucketKey(LocalDate date, int hour) {
+        return String.format("%s%s:%02d", BUCKET_PREFIX, date, hour);
+    }
+
+    /** 집계(DB 반영) 중인 버킷 키: stat:flushing:{date}:{hour} */
+    public static String flushingKey(LocalDate date, int hour) {
+        return String.format("%s%s:%02d", FLUSHING_PREFIX, date, hour);
+    }
+
+    /** 하루치 시간대별 버킷 키 목록 (00 ~ 23) */
+    public static List<String> bucketKeysOf(LocalDate date) {
+        return IntStream.range(0, 24)
+                .mapToObj(hour -> bucketKey(date, hour))
+                .toList();
+    }
+
+    /** 버킷 내 필드: {action}:{category}:{storeId} */
+    public static String field(String actionType, String category, Long storeId) {
+        return String.format("%s:%s:%d", actionType, category, storeId);
+    }
+
+    /** 순 방문자 HyperLogLog 키: stat:uv:{periodType}:{periodStart}:{storeId} */
+    public static String uniqueViewerKey(PeriodType periodType, LocalDate periodStart, Long storeId) {
+        return String.format("%s%s:%s:%d", UNIQUE_VIEWER_PREFIX, periodType, periodStart, storeId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package org.swyp.dessertbee.statistics.common;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 가게 행동 통계 카운트 누적기
+ * - Redis 버킷 필드({action}:{category})별 증감값을 메모리에서 합산
+ */
+@Getter
+public class StoreStatCounts {
+
+    /** 집계 대상 {action}:{category} 조합 */
+    public static final List<String> ACTIONS = List.of(
+            "view:store", "save:store", "review:store", "review:comm", "coupon:used", "mate:comm"
+    );
+
+    private int viewCount;
+    private int saveCount;
+    private int reviewStoreCount;
+    private int reviewCommCount;
+    private int couponUsedCount;
+    private int mateCount;
+
+    /** 저장된 통계 값으로 누적기 생성 */
+    public static StoreStatCounts of(int viewCount, int saveCount, int reviewStoreCount,
+                                     int reviewCommCount, int couponUsedCount, int mateCount) {
+        StoreStatCounts counts = new StoreStatCounts();
+        counts.viewCount = viewCount;
+        counts.saveCount = saveCount;
+        counts.reviewStoreCount = reviewStoreCount;
+        counts.reviewCommCount = reviewCommCount;
+        counts.couponUsedCount = couponUsedCount;
+        counts.mateCount = mateCount;
+        return counts;
+    }
+
+    /** action/category 조합에 해당하는 카운트에 delta 반영 (알 수 없는 조합은 무시) */
+    public void add(String action, String category, int delta) {
+        switch (action + ":" + category) {
+            case "view:store" -> viewCount += delta;
+            case "save:store" -> saveCount += delta;
+            case "review:store" -> reviewStoreCount += delta;
+            case "review:comm" -> reviewCommCount += delta;
+            case "coupon:used" -> couponUsedCount += delta;
+            case "mate:comm" -> mateCount += delta;
+        }
+    }
+
+    /** 다른 누적기의 값을 합산 */
+    public void merge(StoreStatCounts other) {
+        viewCount += other.viewCount;
+        saveCount += other.saveCount;
+        reviewStoreCount += other.reviewStoreCount;
+        reviewCommCount += other.reviewCommCount;
+        couponUsedCount += other.couponUsedCount;
+        mateCount += other.mateCount;
+    }
+}
@@ -0,0 +1,104 @@
+package org.swyp.dessertbee.statistics.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.swyp.dessertbee.statistics.store.entity.enums.PeriodType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 아직 DB에 반영되지 않은(Redis 버킷에 남아있는) 가게 통계 조회
+ * - 반영이 끝난 버킷은 삭제되므로, 남아있는 버킷 값을 DB 값에 더하면 중복 없이 "오늘 현재까지" 통계가 됨
+ * - 집계 중인 버킷(stat:flushing:*)은 DB 커밋 직후와 겹치면 중복 합산되므로 읽지 않음
+ * - 버킷 TTL 내에서 미반영 가능성이 있는 어제/오늘만 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreStatLiveReader {
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 기간 내 미반영 통계를 날짜 → 시간대 → 카운트 형태로 조회
+     */
+    public Map<LocalDate, Map<Integer, StoreStatCounts>> readUnflushed(Long storeId, LocalDate from, LocalDate to) {
+        List<LocalDate> dates = liveDatesIn(from, to);
+
+        Map<LocalDate, Map<Integer, StoreStatCounts>> result = new HashMap<>();
+        if (dates.isEmpty()) return result;
+
+        byte[][] fields = StoreStatCounts.ACTIONS.stream()
+                .map(action -> (action + ":" + storeId).getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+
+        // 날짜별 24개 버킷에서 해당 가게 필드만 한 번의 파이프라인으로 조회
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (LocalDate date : dates) {
+                for (String bucketKey : RedisStatKeyBuilder.bucketKeysOf(date)) {
+                    connection.hashCommands().hMGet(bucketKey.getBytes(StandardCharsets.UTF_8), fields);
+                }
+            }
+            return null;
+        });
+
+        int index = 0;
+        for (LocalDate date : dates) {
+            for (int hour = 0; hour < 24; hour++) {
+                List<?> hourValues = (List<?>) values.get(index++);
+                StoreStatCounts counts = toCounts(hourValues);
+                if (counts != null) {
+                    result.computeIfAbsent(date, d -> new HashMap<>()).put(hour, counts);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 기간 순 방문자 추정치 조회 (기간 HLL과 아직 병합되지 않은 어제/오늘 일간 HLL의 합집합)
+     * @param periodStart 기간 시작일 (일간: 해당일, 주간: 월요일, 월간: 1일)
+     * @return 기간에 어제/오늘이 포함되지 않으면 null
+     */
+    public Long countUniqueViewers(Long storeId, PeriodType periodType, LocalDate periodStart, LocalDate periodEnd) {
+        List<LocalDate> dates = liveDatesIn(periodStart, periodEnd);
+        if (dates.isEmpty()) return null;
+
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(RedisStatKeyBuilder.uniqueViewerKey(periodType, periodStart, storeId));
+        for (LocalDate date : dates) {
+            keys.add(RedisStatKeyBuilder.uniqueViewerKey(PeriodType.DAILY, date, storeId));
+        }
+        return redisTemplate.opsForHyperLogLog().size(keys.toArray(String[]::new));
+    }
+
+    // 버킷/일간 HLL이 아직 DB에 반영되지 않았을 수 있는 날짜 (어제, 오늘)
+    private List<LocalDate> liveDatesIn(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date : List.of(today.minusDays(1), today)) {
+            if (!date.isBefore(from) && !date.isAfter(to)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    private StoreStatCounts toCounts(List<?> hourValues) {
+        if (hourValues == null) return null;
+
+        StoreStatCounts counts = null;
+        for (int i = 0; i < StoreStatCounts.ACTIONS.size(); i++) {
+            Object value = hourValues.get(i);
+            if (value == null) continue;
+
+            if (counts == null) counts = new StoreStatCounts();
+            String[] actionCategory = StoreStatCounts.ACTIONS.get(i).split(":");
+            counts.add(actionCategory[0], actionCategory[1], Integer.parseInt(value.toString()));
+        }
+        return counts;
+    }
+}
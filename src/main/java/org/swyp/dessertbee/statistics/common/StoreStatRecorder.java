@@ -0,0 +1,150 @@
+package org.swyp.dessertbee.statistics.common;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swyp.dessertbee.statistics.store.entity.enums.PeriodType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가게 행동 통계 카운트를 날짜/시간대별 Redis Hash 버킷에 기록
+ * - 이벤트마다 Redis를 호출하지 않고 (버킷, 필드)별 LongAdder에 누적
+ * - 1초마다 누적된 증감값을 파이프라인(HINCRBY/EXPIRE)으로 한 번에 반영
+ * - 순 방문자는 가게/일자별로 사용자 UUID를 모아 같은 파이프라인에서 PFADD
+ * - 종료 시 남은 값을 반영하므로 유실 범위는 최대 반영 주기(1초) 이내
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreStatRecorder {
+
+    private static final Duration BUCKET_TTL = Duration.ofDays(3);
+
+    /** 시간대가 끝난 뒤 이 시간이 지나면 해당 버킷의 카운터를 버퍼에서 제거 */
+    private static final Duration STALE_AFTER = Duration.ofMinutes(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ConcurrentHashMap<BufferKey, LongAdder> buffer = new ConcurrentHashMap<>();
+
+    /** 일간 순 방문자 HLL 키별 미반영 사용자 UUID */
+    private final ConcurrentHashMap<String, Set<String>> viewerBuffer = new ConcurrentHashMap<>();
+
+    public void record(String actionType, String category, Long storeId, long delta) {
+        LocalDateTime now = LocalDateTime.now();
+        BufferKey key = new BufferKey(
+                RedisStatKeyBuilder.bucketKey(now.toLocalDate(), now.getHour()),
+                now.truncatedTo(ChronoUnit.HOURS).plusHours(1),
+                RedisStatKeyBuilder.field(actionType, category, storeId));
+
+        buffer.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 가게 순 방문자 기록 (일간 HyperLogLog 키에 PFADD 예정)
+     */
+    public void recordViewer(Long storeId, UUID userUuid) {
+        if (storeId == null || userUuid == null) return;
+
+        String key = RedisStatKeyBuilder.uniqueViewerKey(PeriodType.DAILY, LocalDate.now(), storeId);
+        // compute 안에서만 Set을 변경하여 flush 시 remove 와 경합해도 유실되지 않도록 함
+        viewerBuffer.compute(key, (k, viewers) -> {
+            Set<String> target = (viewers != null) ? viewers : new HashSet<>();
+            target.add(userUuid.toString());
+            return target;
+        });
+    }
+
+    /**
+     * 누적된 증감값을 Redis에 반영
+     */
+    @Scheduled(fixedDelayString = "${statistics.recorder.flush-interval-ms:1000}")
+    public void flush() {
+        if (buffer.isEmpty() && viewerBuffer.isEmpty()) return;
+
+        Map<BufferKey, Long> deltas = new HashMap<>();
+        LocalDateTime staleBefore = LocalDateTime.now().minus(STALE_AFTER);
+
+        for (Map.Entry<BufferKey, LongAdder> entry : buffer.entrySet()) {
+            BufferKey key = entry.getKey();
+
+            // 끝난 시간대의 카운터는 더 이상 증가하지 않으므로 버퍼에서 제거 후 반영
+            if (key.bucketEnd().isBefore(staleBefore)) {
+                buffer.remove(key);
+            }
+
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        }
+
+        Map<String, Set<String>> viewers = new HashMap<>();
+        for (String key : viewerBuffer.keySet()) {
+            Set<String> removed = viewerBuffer.remove(key);
+            if (removed != null && !removed.isEmpty()) {
+                viewers.put(key, removed);
+            }
+        }
+
+        if (deltas.isEmpty() && viewers.isEmpty()) return;
+
+        try {
+            Set<String> bucketKeys = new HashSet<>();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<BufferKey, Long> entry : deltas.entrySet()) {
+                    BufferKey key = entry.getKey();
+                    connection.hashCommands().hIncrBy(
+                            key.bucketKey().getBytes(StandardCharsets.UTF_8),
+                            key.field().getBytes(StandardCharsets.UTF_8),
+                            entry.getValue());
+                    bucketKeys.add(key.bucketKey());
+                }
+                for (String bucketKey : bucketKeys) {
+                    connection.keyCommands().expire(bucketKey.getBytes(StandardCharsets.UTF_8), BUCKET_TTL.toSeconds());
+                }
+                for (Map.Entry<String, Set<String>> entry : viewers.entrySet()) {
+                    byte[] viewerKey = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                    byte[][] values = entry.getValue().stream()
+                            .map(uuid -> uuid.getBytes(StandardCharsets.UTF_8))
+                            .toArray(byte[][]::new);
+                    connection.hyperLogLogCommands().pfAdd(viewerKey, values);
+                    connection.keyCommands().expire(viewerKey, BUCKET_TTL.toSeconds());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 반영되도록 버퍼에 되돌림
+            log.warn("[통계 기록] Redis 반영 실패 - 다음 주기에 재시도 (항목 수: {})", deltas.size() + viewers.size(), e);
+            deltas.forEach((key, delta) -> buffer.computeIfAbsent(key, k -> new LongAdder()).add(delta));
+            viewers.forEach((key, uuids) -> viewerBuffer.merge(key, uuids, (current, failed) -> {
+                current.addAll(failed);
+                return current;
+            }));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 카운트 반영
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+        log.info("[통계 기록] 종료 전 버퍼 반영 완료");
+    }
+
+    private record BufferKey(String bucketKey, LocalDateTime bucketEnd, String field) {
+    }
+}
@@ -3,220 +3,306 @@ package org.swyp.dessertbee.statistics.common.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import org.swyp.dessertbee.statistics.common.exception.StoreStatisticsLogExceptions.*;
-import org.swyp.dessertbee.statistics.store.entity.StoreStatisticsPeriodic;
-import org.swyp.dessertbee.statistics.store.entity.StoreStatisticsTrend;
+import org.swyp.dessertbee.statistics.common.RedisStatKeyBuilder;
+import org.swyp.dessertbee.statistics.common.StoreStatCounts;
 import org.swyp.dessertbee.statistics.store.entity.enums.PeriodType;
-import org.swyp.dessertbee.statistics.store.repository.StoreStatisticsPeriodRepository;
-import org.swyp.dessertbee.statistics.store.repository.StoreStatisticsTrendRepository;
+import org.swyp.dessertbee.statistics.store.repository.StoreStatisticsBatchRepository;
+import org.swyp.dessertbee.statistics.store.repository.StoreStatisticsBatchRepository.PeriodicUpsert;
+import org.swyp.dessertbee.statistics.store.repository.StoreStatisticsBatchRepository.TrendUpsert;
 import org.swyp.dessertbee.store.store.repository.StoreRepository;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.DayOfWeek;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
+/**
+ * 가게 통계 마이크로 배치 집계
+ * - 몇 분 간격으로 끝난 시간대 버킷을 DAILY / WEEKLY / MONTHLY 통계에 반영하고 버킷을 삭제
+ * - 버킷은 반영 중 키로 원자적으로 옮긴 뒤 읽고, DB 커밋 이후에 삭제 (읽는 도중 들어온 기록 유실 방지)
+ * - 자정에 하루치를 한 번에 몰아서 처리하지 않음
+ * - 아직 반영되지 않은 버킷은 StoreStatLiveReader가 조회 시점에 합산
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StoreStatisticsScheduler {
 
+    /** 시간대가 끝난 직후 도착하는 기록을 기다리는 유예 시간 */
+    private static final Duration FLUSH_GRACE = Duration.ofMinutes(1);
+    private static final String FLUSH_LOCK_KEY = "stat:flush:lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofMinutes(5);
+
+    /** 잠금 값이 자신의 것일 때만 삭제 (다른 인스턴스가 TTL 만료 후 얻은 잠금을 지우지 않도록) */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    /**
+     * 버킷(KEYS[2i-1])을 반영 중 키(KEYS[2i])로 옮기고 반영 중 키의 전체 필드 반환
+     * - 이전 집계가 실패해 반영 중 키가 남아있으면 덮어쓰지 않고 버킷 값을 더함 (다음 집계에서 재시도)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_BUCKETS_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for i = 1, #KEYS, 2 do " +
+            "  local bucket, flushing = KEYS[i], KEYS[i + 1] " +
+            "  if redis.call('EXISTS', bucket) == 1 then " +
+            "    if redis.call('EXISTS', flushing) == 1 then " +
+            "      local fields = redis.call('HGETALL', bucket) " +
+            "      for j = 1, #fields, 2 do " +
+            "        redis.call('HINCRBY', flushing, fields[j], fields[j + 1]) " +
+            "      end " +
+            "      redis.call('DEL', bucket) " +
+            "    else " +
+            "      redis.call('RENAME', bucket, flushing) " +
+            "    end " +
+            "  end " +
+            "  result[#result + 1] = redis.call('HGETALL', flushing) " +
+            "end " +
+            "return result",
+            List.class);
+
     private final StringRedisTemplate redisTemplate;
-    private final StoreStatisticsPeriodRepository repository;
     private final StoreRepository storeRepository;
-    private final StoreStatisticsTrendRepository trendRepository;
+    private final StoreStatisticsBatchRepository batchRepository;
 
     /**
-     * 매일 00:00 기준 전날 통계를 집계하여 DAILY / WEEKLY / MONTHLY 데이터로 저장
+     * 어제/오늘 중 끝난 시간대 버킷을 주기적으로 반영
      */
-    @Scheduled(cron = "0 0 0 * * *")
-    public void aggregatePeriodicStatistics() {
-        aggregatePeriodicStatistics(LocalDate.now().minusDays(1), false);
+    @Scheduled(fixedDelayString = "${statistics.flush.interval-ms:300000}",
+            initialDelayString = "${statistics.flush.initial-delay-ms:60000}")
+    public void flushCompletedBuckets() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(FLUSH_GRACE);
+
+        List<Bucket> candidates = new ArrayList<>();
+        for (LocalDate date : List.of(cutoff.toLocalDate().minusDays(1), cutoff.toLocalDate())) {
+            for (int hour = 0; hour < 24; hour++) {
+                if (!date.atStartOfDay().plusHours(hour + 1).isAfter(cutoff)) {
+                    candidates.add(new Bucket(date, hour));
+                }
+            }
+        }
+
+        flushWithLock(candidates);
     }
 
-    @Transactional
-    public void aggregatePeriodicStatistics(LocalDate baseDate, boolean force) {
-        // 동일 날짜 중복 집계 여부 확인
-        String redisKey = "stat:aggregated:" + baseDate;
-        if (!force && Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))) {
-            log.info("[통계 스케줄러] {} 이미 집계됨 - 중복 집계 방지", baseDate);
-            return;
+    /**
+     * 특정 날짜의 모든 시간대 버킷을 즉시 반영 (수동 집계용)
+     */
+    public void flushDate(LocalDate date) {
+        List<Bucket> candidates = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            candidates.add(new Bucket(date, hour));
         }
+        flushWithLock(candidates);
+    }
 
-        log.info("[통계 스케줄러] {} 기준 일간/주간/월간 통계 집계 시작", baseDate);
-
-        Map<Long, AggregatedStat> storeMap = new HashMap<>();
+    // 여러 인스턴스가 같은 버킷을 중복 반영하지 않도록 Redis 락 사용
+    private void flushWithLock(List<Bucket> candidates) {
+        if (candidates.isEmpty()) return;
 
-        Set<String> keys = redisTemplate.keys("stat:*:*:" + baseDate + ":*:*");
-        if (keys == null || keys.isEmpty()) {
-            log.info("[통계 스케줄러] 수집된 통계 키 없음");
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, lockValue, FLUSH_LOCK_TTL))) {
+            log.debug("[통계 스케줄러] 다른 인스턴스에서 집계 중 - 건너뜀");
             return;
         }
 
-        for (String key : keys) {
-            try {
-                String[] parts = key.split(":"); // stat:action:category:date:storeId:hour
-                if (parts.length != 6) continue;
+        try {
+            flush(candidates);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), lockValue);
+        }
+    }
 
-                String action = parts[1];
-                String category = parts[2];
-                LocalDate date = LocalDate.parse(parts[3]);
-                Long storeId = Long.parseLong(parts[4]);
-                int hour = Integer.parseInt(parts[5]);
+    /**
+     * 버킷을 메모리에서 (가게, 기간, 구간) 단위로 합산한 뒤 한 번에 upsert
+     * - 쿼리 수가 가게 수 × 시간대 × 행동 수가 아닌 배치 수에 비례
+     */
+    private void flush(List<Bucket> candidates) {
+        // 후보 버킷(Hash)을 반영 중 키로 옮기면서 한 번에 조회 (KEYS 패턴 검색 없음)
+        List<String> scriptKeys = new ArrayList<>(candidates.size() * 2);
+        for (Bucket bucket : candidates) {
+            scriptKeys.add(bucket.key());
+            scriptKeys.add(bucket.flushingKey());
+        }
+        List<?> buckets = redisTemplate.execute(CLAIM_BUCKETS_SCRIPT, scriptKeys);
+
+        Map<PeriodicKey, StoreStatCounts> periodicMap = new HashMap<>();
+        Map<TrendKey, StoreStatCounts> trendMap = new HashMap<>();
+        List<String> flushedKeys = new ArrayList<>();
+        Set<ViewedStore> viewedStores = new HashSet<>();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            List<?> fields = (List<?>) buckets.get(i); // [field1, value1, field2, value2, ...]
+            if (fields == null || fields.isEmpty()) continue;
+
+            Bucket bucket = candidates.get(i);
+            flushedKeys.add(bucket.flushingKey());
+
+            for (int j = 0; j + 1 < fields.size(); j += 2) {
+                String field = fields.get(j).toString();
+                try {
+                    String[] parts = field.split(":"); // action:category:storeId
+                    if (parts.length != 3) continue;
+
+                    String action = parts[0];
+                    String category = parts[1];
+                    Long storeId = Long.parseLong(parts[2]);
+
+                    int delta = Integer.parseInt(fields.get(j + 1).toString());
+
+                    if ("view".equals(action)) {
+                        viewedStores.add(new ViewedStore(storeId, bucket.date()));
+                    }
+
+                    for (PeriodType type : PeriodType.values()) {
+                        // 기간 통계 합산
+                        PeriodicKey periodicKey = new PeriodicKey(storeId, type, type.periodStartOf(bucket.date()));
+                        periodicMap.computeIfAbsent(periodicKey, key -> new StoreStatCounts()).add(action, category, delta);
+
+                        // 추이 통계 구간별 합산
+                        TrendKey trendKey = new TrendKey(storeId, bucket.date(), type, type.trendKeyOf(bucket.date(), bucket.hour()));
+                        trendMap.computeIfAbsent(trendKey, key -> new StoreStatCounts()).add(action, category, delta);
+                    }
+                } catch (Exception e) {
+                    log.error("[통계 스케줄러] 필드 처리 중 예외 발생: {} {}", bucket.flushingKey(), field, e);
+                }
+            }
+        }
 
-                int delta = Integer.parseInt(Objects.requireNonNull(redisTemplate.opsForValue().get(key)));
+        if (flushedKeys.isEmpty()) {
+            log.debug("[통계 스케줄러] 반영할 통계 버킷 없음");
+            return;
+        }
 
-                AggregatedStat stat = storeMap.computeIfAbsent(storeId, id -> new AggregatedStat());
+        // 평균 평점은 가게 목록 기준으로 한 번에 조회
+        Set<Long> storeIds = new HashSet<>();
+        periodicMap.keySet().forEach(key -> storeIds.add(key.storeId()));
+        Map<Long, BigDecimal> ratings = loadRoundedRatings(storeIds);
 
-                switch (action + ":" + category) {
-                    case "view:store" -> stat.view += delta;
-                    case "save:store" -> stat.save += delta;
-                    case "review:store" -> stat.reviewStore += delta;
-                    case "review:comm" -> stat.reviewComm += delta;
-                    case "coupon:used" -> stat.coupon += delta;
-                    case "mate:comm" -> stat.mate += delta;
-                }
+        List<TrendUpsert> trends = new ArrayList<>(trendMap.size());
+        for (Map.Entry<TrendKey, StoreStatCounts> entry : trendMap.entrySet()) {
+            TrendKey key = entry.getKey();
+            trends.add(new TrendUpsert(key.storeId(), key.date(), key.periodType(), key.displayKey(),
+                    entry.getValue(), ratings.get(key.storeId())));
+        }
 
-                // 추이 통계 저장
-                saveTrendStat(storeId, date, hour, action, category, delta);
+        Map<PeriodicKey, Integer> uniqueViewers = rollUpUniqueViewers(viewedStores);
 
-                redisTemplate.delete(key);
-            } catch (Exception e) {
-                log.error("[통계 스케줄러] 키 처리 중 예외 발생: {}", key, e);
-            }
+        List<PeriodicUpsert> periodics = new ArrayList<>(periodicMap.size());
+        for (Map.Entry<PeriodicKey, StoreStatCounts> entry : periodicMap.entrySet()) {
+            PeriodicKey key = entry.getKey();
+            periodics.add(new PeriodicUpsert(key.storeId(), key.date(), key.periodType(),
+                    entry.getValue(), ratings.get(key.storeId()), uniqueViewers.getOrDefault(key, 0)));
         }
 
-        // 누적된 값으로 PERIODIC 통계 저장
-        for (Map.Entry<Long, AggregatedStat> entry : storeMap.entrySet()) {
-            Long storeId = entry.getKey();
-            AggregatedStat stat = entry.getValue();
+        // 실패 시 반영 중 키가 남아 다음 집계에서 다시 반영됨
+        batchRepository.saveAggregation(trends, periodics);
 
-            BigDecimal averageRating = storeRepository.findAverageRatingByStoreId(storeId);
-            BigDecimal rounded = (averageRating != null ? averageRating.setScale(2, RoundingMode.HALF_UP) : null);
+        // DB 커밋이 끝난 반영 중 키만 비동기 삭제 (UNLINK)
+        redisTemplate.unlink(flushedKeys);
 
-            saveIfNotExists(storeId, baseDate, PeriodType.DAILY, stat, rounded);
-            saveOrUpdate(storeId, baseDate.with(DayOfWeek.MONDAY), PeriodType.WEEKLY, stat, rounded);
-            saveOrUpdate(storeId, baseDate.withDayOfMonth(1), PeriodType.MONTHLY, stat, rounded);
-        }
+        log.info("[통계 스케줄러] 통계 반영 완료 - 버킷 수: {}, 가게 수: {}, 추이 행 수: {}",
+                flushedKeys.size(), storeIds.size(), trends.size());
+    }
 
-        log.info("[통계 스케줄러] 통계 집계 완료 - 총 가게 수: {}", storeMap.size());
+    /**
+     * 일간 순 방문자 HLL을 주간/월간 HLL에 PFMERGE 한 뒤 기간별 추정치(PFCOUNT) 조회
+     * - HLL 합집합은 멱등이므로 같은 일자를 여러 번 병합해도 중복 집계되지 않음
+     */
+    private Map<PeriodicKey, Integer> rollUpUniqueViewers(Set<ViewedStore> viewedStores) {
+        Map<PeriodicKey, Integer> result = new HashMap<>();
+        if (viewedStores.isEmpty()) return result;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ViewedStore viewed : viewedStores) {
+                byte[] dailyKey = uniqueViewerKeyOf(PeriodType.DAILY, viewed);
+                for (PeriodType type : List.of(PeriodType.WEEKLY, PeriodType.MONTHLY)) {
+                    byte[] periodKey = uniqueViewerKeyOf(type, viewed);
+                    connection.hyperLogLogCommands().pfMerge(periodKey, periodKey, dailyKey);
+                    connection.keyCommands().expire(periodKey, uniqueViewerTtlOf(type).toSeconds());
+                }
+            }
+            return null;
+        });
+
+        List<PeriodicKey> keys = new ArrayList<>();
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ViewedStore viewed : viewedStores) {
+                for (PeriodType type : PeriodType.values()) {
+                    keys.add(new PeriodicKey(viewed.storeId(), type, type.periodStartOf(viewed.date())));
+                    connection.hyperLogLogCommands().pfCount(uniqueViewerKeyOf(type, viewed));
+                }
+            }
+            return null;
+        });
 
-        // 집계 완료 마킹 (1일 유지)
-        redisTemplate.opsForValue().set(redisKey, "done", Duration.ofDays(1));
+        for (int i = 0; i < keys.size(); i++) {
+            Object count = counts.get(i);
+            if (count instanceof Long value) {
+                result.merge(keys.get(i), value.intValue(), Math::max);
+            }
+        }
+        return result;
     }
 
-    private void saveIfNotExists(Long storeId, LocalDate date, PeriodType type, AggregatedStat stat, BigDecimal rating) {
-        boolean exists = repository.findByStoreIdAndDateAndPeriodType(storeId, date, type).isPresent();
-        if (exists) return;
-
-        // 소수점 둘째자리까지 반올림
-        BigDecimal roundedRating = rating != null ? rating.setScale(2, RoundingMode.HALF_UP) : null;
-
-        StoreStatisticsPeriodic newStat = StoreStatisticsPeriodic.builder()
-                .storeId(storeId)
-                .date(date)
-                .periodType(type)
-                .viewCount(stat.view)
-                .saveCount(stat.save)
-                .reviewStoreCount(stat.reviewStore)
-                .reviewCommCount(stat.reviewComm)
-                .couponUsedCount(stat.coupon)
-                .mateCount(stat.mate)
-                .averageRating(roundedRating)
-                .build();
-
-        repository.save(newStat);
+    private byte[] uniqueViewerKeyOf(PeriodType type, ViewedStore viewed) {
+        return RedisStatKeyBuilder.uniqueViewerKey(type, type.periodStartOf(viewed.date()), viewed.storeId())
+                .getBytes(StandardCharsets.UTF_8);
     }
 
-    private void saveOrUpdate(Long storeId, LocalDate date, PeriodType type, AggregatedStat stat, BigDecimal rating) {
-        StoreStatisticsPeriodic entity = repository.findByStoreIdAndDateAndPeriodType(storeId, date, type)
-                .orElseGet(() -> StoreStatisticsPeriodic.builder()
-                        .storeId(storeId)
-                        .date(date)
-                        .periodType(type)
-                        .viewCount(0)
-                        .saveCount(0)
-                        .reviewStoreCount(0)
-                        .reviewCommCount(0)
-                        .couponUsedCount(0)
-                        .mateCount(0)
-                        .averageRating(null)
-                        .build());
-
-        entity.addViewCount(stat.view);
-        entity.addSaveCount(stat.save);
-        entity.addReviewStoreCount(stat.reviewStore);
-        entity.addReviewCommCount(stat.reviewComm);
-        entity.addCouponUsedCount(stat.coupon);
-        entity.addMateCount(stat.mate);
-
-        if (rating != null) {
-            BigDecimal roundedRating = rating.setScale(2, RoundingMode.HALF_UP);
-            entity.updateAverageRating(roundedRating);
-        }
-
-        repository.save(entity);
+    // 기간이 끝난 뒤에도 마지막 일자 병합이 끝날 때까지 남아있도록 기간보다 길게 유지
+    private Duration uniqueViewerTtlOf(PeriodType type) {
+        return switch (type) {
+            case DAILY -> Duration.ofDays(3);
+            case WEEKLY -> Duration.ofDays(8);
+            case MONTHLY -> Duration.ofDays(32);
+        };
     }
 
-    // 추이 통계 저장
-    private void saveTrendStat(Long storeId, LocalDate date, int hour, String action, String category, int delta) {
-        BigDecimal storeRating = storeRepository.findAverageRatingByStoreId(storeId);
-        BigDecimal roundedRating = storeRating != null ? storeRating.setScale(2, RoundingMode.HALF_UP) : null;
-
-        for (PeriodType type : List.of(PeriodType.DAILY, PeriodType.WEEKLY, PeriodType.MONTHLY)) {
-            String displayKey = switch (type) {
-                case DAILY -> String.valueOf(hour / 2); // 0 ~ 11
-                case WEEKLY -> date.getDayOfWeek().toString(); // MON ~ SUN
-                case MONTHLY -> String.valueOf(date.getDayOfMonth()); // 1 ~ 31
-                default -> throw new InvalidPeriodTypeException();
-            };
-
-            // 기존 데이터 조회
-            Optional<StoreStatisticsTrend> existing = trendRepository.findByStoreIdAndDateAndPeriodTypeAndDisplayKey(
-                    storeId, date, type, displayKey
-            );
-
-            StoreStatisticsTrend trend = existing.orElseGet(() ->
-                    StoreStatisticsTrend.builder()
-                            .storeId(storeId)
-                            .date(date)
-                            .periodType(type)
-                            .displayKey(displayKey)
-                            .viewCount(0)
-                            .saveCount(0)
-                            .reviewStoreCount(0)
-                            .reviewCommCount(0)
-                            .couponUsedCount(0)
-                            .mateCount(0)
-                            .averageRating(roundedRating)
-                            .build()
-            );
-
-            switch (action + ":" + category) {
-                case "view:store" -> trend.addViewCount(delta);
-                case "save:store" -> trend.addSaveCount(delta);
-                case "review:store" -> trend.addReviewStoreCount(delta);
-                case "review:comm" -> trend.addReviewCommCount(delta);
-                case "coupon:used" -> trend.addCouponUsedCount(delta);
-                case "mate:comm" -> trend.addMateCount(delta);
-            }
+    private Map<Long, BigDecimal> loadRoundedRatings(Collection<Long> storeIds) {
+        Map<Long, BigDecimal> ratings = new HashMap<>();
+        if (storeIds.isEmpty()) return ratings;
 
-            // 평균 평점이 없는 경우에만 세팅 (계속 덮지 않도록)
-            if (trend.getAverageRating() == null && roundedRating != null) {
-                trend.updateAverageRating(roundedRating);
+        for (Object[] row : storeRepository.findAverageRatingsByStoreIds(storeIds)) {
+            BigDecimal rating = (BigDecimal) row[1];
+            if (rating != null) {
+                // 소수점 둘째자리까지 반올림
+                ratings.put((Long) row[0], rating.setScale(2, RoundingMode.HALF_UP));
             }
+        }
+        return ratings;
+    }
 
-            trendRepository.save(trend);
+    private record Bucket(LocalDate date, int hour) {
+        String key() {
+            return RedisStatKeyBuilder.bucketKey(date, hour);
         }
+
+        String flushingKey() {
+            return RedisStatKeyBuilder.flushingKey(date, hour);
+        }
+    }
+
+    private record PeriodicKey(Long storeId, PeriodType periodType, LocalDate date) {
+    }
+
+    private record ViewedStore(Long storeId, LocalDate date) {
     }
 
-    private static class AggregatedStat {
-        int view, save, reviewStore, reviewComm, coupon, mate;
+    private record TrendKey(Long storeId, LocalDate date, PeriodType periodType, String displayKey) {
     }
-}
\ No newline at end of file
+}
@@ -29,7 +29,7 @@ public class StoreStatisticsAdminController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
         LocalDate targetDate = (date != null) ? date : LocalDate.now().minusDays(1);
-        storeStatisticsScheduler.aggregatePeriodicStatistics(targetDate, true);
-        return targetDate + " 기준 통계 집계 완료 (강제 집계)";
+        storeStatisticsScheduler.flushDate(targetDate);
+        return targetDate + " 기준 통계 집계 완료";
     }
 }
@@ -31,7 +31,8 @@ public class StoreStatisticsController {
             - `DAILY`: 선택한 날짜 하루 (00시~24시 기준)  
             - `WEEKLY`: 선택한 날짜가 속한 주 (월~일 기준)  
             - `MONTHLY`: 선택한 날짜가 속한 월 전체 (1일~말일 기준)  
-            평균 평점은 리뷰가 존재할 경우에만 제공됩니다.
+            평균 평점은 리뷰가 존재할 경우에만 제공됩니다.  
+            오늘이 포함된 기간은 현재 시각까지의 통계가 함께 반영됩니다.
             """,
             parameters = {
                     @Parameter(name = "storeUuid", description = "가게 UUID", example = "550e8400-e29b-41d4-a716-446655440000"),
@@ -55,7 +56,8 @@ public class StoreStatisticsController {
         - `DAILY`: 2시간 단위 (00시~24시)  
         - `WEEKLY`: 요일 단위 (MON~SUN)  
         - `MONTHLY`: 날짜 단위 (1~31일)  
-        평균 평점은 해당 구간에 리뷰가 존재할 경우에만 제공됩니다.
+        평균 평점은 해당 구간에 리뷰가 존재할 경우에만 제공됩니다.  
+        오늘이 포함된 기간은 현재 시각까지의 통계가 함께 반영됩니다.
         """,
             parameters = {
                     @Parameter(name = "storeUuid", description = "가게 UUID", example = "550e8400-e29b-41d4-a716-446655440000"),
@@ -11,6 +11,9 @@ public record StoreStatisticsPeriodResponse(
         @Schema(description = "기간 내 총 가게 조회 수", example = "870")
         int totalViews,
 
+        @Schema(description = "기간 내 순 방문자 수 (로그인 사용자 기준 추정치)", example = "312")
+        int totalUniqueViewers,
+
         @Schema(description = "기간 내 총 가게 저장 수", example = "210")
         int totalSaves,
 
@@ -2,6 +2,7 @@ package org.swyp.dessertbee.statistics.store.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
+import org.swyp.dessertbee.statistics.common.StoreStatCounts;
 import org.swyp.dessertbee.statistics.store.entity.StoreStatisticsTrend;
 import org.swyp.dessertbee.statistics.store.entity.enums.PeriodType;
 
@@ -38,22 +39,33 @@ public record StoreStatisticsTrendResponse(
         int totalReviewCount
 ) {
         public static StoreStatisticsTrendResponse fromEntity(StoreStatisticsTrend trend, PeriodType periodType) {
+                StoreStatCounts counts = StoreStatCounts.of(
+                        trend.getViewCount(), trend.getSaveCount(), trend.getReviewStoreCount(),
+                        trend.getReviewCommCount(), trend.getCouponUsedCount(), trend.getMateCount());
+                return of(trend.getDisplayKey(), periodType, counts, trend.getAverageRating());
+        }
+
+        /**
+         * 저장된 추이 통계와 미반영 통계를 합산한 값으로 응답 생성
+         */
+        public static StoreStatisticsTrendResponse of(String trendKey, PeriodType periodType,
+                                                      StoreStatCounts counts, BigDecimal averageRating) {
                 String displayKey = switch (periodType) {
-                        case DAILY -> toTimeRange(trend.getDisplayKey());
-                        case WEEKLY -> capitalize(trend.getDisplayKey());
-                        case MONTHLY -> trend.getDisplayKey() + "일";
+                        case DAILY -> toTimeRange(trendKey);
+                        case WEEKLY -> capitalize(trendKey);
+                        case MONTHLY -> trendKey + "일";
                 };
 
                 return StoreStatisticsTrendResponse.builder()
                         .displayKey(displayKey)
-                        .viewCount(trend.getViewCount())
-                        .saveCount(trend.getSaveCount())
-                        .reviewStoreCount(trend.getReviewStoreCount())
-                        .reviewCommCount(trend.getReviewCommCount())
-                        .couponUsedCount(trend.getCouponUsedCount())
-                        .mateCount(trend.getMateCount())
-                        .averageRating(trend.getAverageRating() != null ? trend.getAverageRating() : BigDecimal.ZERO)
-                        .totalReviewCount(trend.getReviewStoreCount() + trend.getReviewCommCount())
+                        .viewCount(counts.getViewCount())
+                        .saveCount(counts.getSaveCount())
+                        .reviewStoreCount(counts.getReviewStoreCount())
+                        .reviewCommCount(counts.getReviewCommCount())
+                        .couponUsedCount(counts.getCouponUsedCount())
+                        .mateCount(counts.getMateCount())
+                        .averageRating(averageRating != null ? averageRating : BigDecimal.ZERO)
+                        .totalReviewCount(counts.getReviewStoreCount() + counts.getReviewCommCount())
                         .build();
         }
 
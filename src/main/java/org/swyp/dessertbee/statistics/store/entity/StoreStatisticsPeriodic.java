@@ -37,6 +37,9 @@ public class StoreStatisticsPeriodic {
     @Schema(description = "가게 조회 수", example = "120")
     private int viewCount;
 
+    @Schema(description = "가게 순 방문자 수 (HyperLogLog 추정치, 로그인 사용자 기준)", example = "64")
+    private int uniqueViewerCount;
+
     @Schema(description = "가게 저장 수", example = "35")
     private int saveCount;
 
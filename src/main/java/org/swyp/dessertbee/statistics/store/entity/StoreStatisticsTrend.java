@@ -10,7 +10,7 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "store_statistics_trend", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"storeId", "date", "periodType", "trendKey"})
+        @UniqueConstraint(columnNames = {"storeId", "date", "periodType", "displayKey"})
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
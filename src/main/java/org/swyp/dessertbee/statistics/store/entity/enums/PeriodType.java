@@ -1,7 +1,28 @@
 package org.swyp.dessertbee.statistics.store.entity.enums;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
 public enum PeriodType {
     DAILY,
     WEEKLY,
-    MONTHLY
+    MONTHLY;
+
+    /** 기간 통계 기준일 (일간: 해당일, 주간: 월요일, 월간: 1일) */
+    public LocalDate periodStartOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(DayOfWeek.MONDAY);
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    /** 추이 통계 구간 키 (일간: 2시간 단위 0 ~ 11, 주간: MONDAY ~ SUNDAY, 월간: 1 ~ 31) */
+    public String trendKeyOf(LocalDate date, int hour) {
+        return switch (this) {
+            case DAILY -> String.valueOf(hour / 2);
+            case WEEKLY -> date.getDayOfWeek().toString();
+            case MONTHLY -> String.valueOf(date.getDayOfMonth());
+        };
+    }
 }
@@ -6,7 +6,8 @@ import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.swyp.dessertbee.statistics.common.RedisStatKeyBuilder;
+import org.swyp.dessertbee.config.StatisticsAsyncConfig;
+import org.swyp.dessertbee.statistics.common.StoreStatRecorder;
 import org.swyp.dessertbee.statistics.store.event.CouponUseEvent;
 import org.swyp.dessertbee.statistics.common.exception.StoreStatisticsLogExceptions.*;
 
@@ -18,8 +19,9 @@ import java.time.Duration;
 public class CouponUseLogEventHandler {
 
     private final StringRedisTemplate redisTemplate;
+    private final StoreStatRecorder storeStatRecorder;
 
-    @Async
+    @Async(StatisticsAsyncConfig.STATISTICS_EVENT_EXECUTOR)
     @EventListener
     public void handleCouponUseLogAction(CouponUseEvent event) {
         try {
@@ -34,9 +36,7 @@ public class CouponUseLogEventHandler {
             redisTemplate.expire(redisKey, Duration.ofDays(3));
 
             // 시간별 통계 로그 저장
-            String statKey = RedisStatKeyBuilder.build("coupon","used", event.getStoreId());
-            redisTemplate.opsForValue().increment(statKey);
-            redisTemplate.expire(statKey, Duration.ofDays(3));
+            storeStatRecorder.record("coupon", "used", event.getStoreId(), 1);
         } catch (Exception e) {
             log.warn("[쿠폰 사용 로그] 저장 실패: storeId={}, userUuid={}, couponUuid={}", event.getStoreId(), event.getUserUuid(), event.getCouponUuid(), e);
             throw new CouponUseLogCreateFailedException();
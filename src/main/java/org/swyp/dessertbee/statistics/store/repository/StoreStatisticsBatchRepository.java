@@ -0,0 +1,103 @@
+package org.swyp.dessertbee.statistics.store.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.swyp.dessertbee.statistics.common.StoreStatCounts;
+import org.swyp.dessertbee.statistics.store.entity.enums.PeriodType;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 통계 집계 결과 일괄 반영
+ * - 미리 합산된 카운트를 INSERT ... ON DUPLICATE KEY UPDATE 배치로 저장 (행마다 조회/저장하지 않음)
+ * - 각 테이블의 유니크 키(store_id, date, period_type[, display_key])를 기준으로 upsert
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreStatisticsBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    /** 추이 통계: 카운트는 누적, 평균 평점은 비어있을 때만 채움 */
+    private static final String UPSERT_TREND_SQL =
+            "INSERT INTO store_statistics_trend " +
+            "(store_id, date, period_type, display_key, view_count, save_count, review_store_count, " +
+            "review_comm_count, coupon_used_count, mate_count, average_rating) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "view_count = view_count + VALUES(view_count), " +
+            "save_count = save_count + VALUES(save_count), " +
+            "review_store_count = review_store_count + VALUES(review_store_count), " +
+            "review_comm_count = review_comm_count + VALUES(review_comm_count), " +
+            "coupon_used_count = coupon_used_count + VALUES(coupon_used_count), " +
+            "mate_count = mate_count + VALUES(mate_count), " +
+            "average_rating = COALESCE(average_rating, VALUES(average_rating))";
+
+    /** 기간 통계(일간/주간/월간): 카운트는 누적, 평균 평점은 최신 값으로 갱신, 순 방문자는 HLL 추정치 중 큰 값 유지 */
+    private static final String UPSERT_PERIODIC_SQL =
+            "INSERT INTO store_statistics_periodic " +
+            "(store_id, date, period_type, view_count, save_count, review_store_count, " +
+            "review_comm_count, coupon_used_count, mate_count, average_rating, unique_viewer_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "view_count = view_count + VALUES(view_count), " +
+            "save_count = save_count + VALUES(save_count), " +
+            "review_store_count = review_store_count + VALUES(review_store_count), " +
+            "review_comm_count = review_comm_count + VALUES(review_comm_count), " +
+            "coupon_used_count = coupon_used_count + VALUES(coupon_used_count), " +
+            "mate_count = mate_count + VALUES(mate_count), " +
+            "average_rating = COALESCE(VALUES(average_rating), average_rating), " +
+            "unique_viewer_count = GREATEST(unique_viewer_count, VALUES(unique_viewer_count))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 추이/기간 통계를 하나의 트랜잭션으로 반영
+     */
+    @Transactional
+    public void saveAggregation(List<TrendUpsert> trends, List<PeriodicUpsert> periodics) {
+        jdbcTemplate.batchUpdate(UPSERT_TREND_SQL, trends, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.storeId());
+            ps.setDate(2, Date.valueOf(row.date()));
+            ps.setString(3, row.periodType().name());
+            ps.setString(4, row.displayKey());
+            setCounts(ps, 5, row.counts());
+            ps.setBigDecimal(11, row.averageRating());
+        });
+
+        jdbcTemplate.batchUpdate(UPSERT_PERIODIC_SQL, periodics, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.storeId());
+            ps.setDate(2, Date.valueOf(row.date()));
+            ps.setString(3, row.periodType().name());
+            setCounts(ps, 4, row.counts());
+            ps.setBigDecimal(10, row.averageRating());
+            ps.setInt(11, row.uniqueViewerCount());
+        });
+    }
+
+    private void setCounts(PreparedStatement ps, int start, StoreStatCounts counts) throws SQLException {
+        ps.setInt(start, counts.getViewCount());
+        ps.setInt(start + 1, counts.getSaveCount());
+        ps.setInt(start + 2, counts.getReviewStoreCount());
+        ps.setInt(start + 3, counts.getReviewCommCount());
+        ps.setInt(start + 4, counts.getCouponUsedCount());
+        ps.setInt(start + 5, counts.getMateCount());
+    }
+
+    /** 추이 통계 upsert 행 */
+    public record TrendUpsert(Long storeId, LocalDate date, PeriodType periodType, String displayKey,
+                              StoreStatCounts counts, BigDecimal averageRating) {
+    }
+
+    /** 기간 통계 upsert 행 */
+    public record PeriodicUpsert(Long storeId, LocalDate date, PeriodType periodType,
+                                 StoreStatCounts counts, BigDecimal averageRating, int uniqueViewerCount) {
+    }
+}
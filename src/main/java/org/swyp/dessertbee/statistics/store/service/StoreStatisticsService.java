@@ -2,6 +2,8 @@ package org.swyp.dessertbee.statistics.store.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.swyp.dessertbee.statistics.common.StoreStatCounts;
+import org.swyp.dessertbee.statistics.common.StoreStatLiveReader;
 import org.swyp.dessertbee.statistics.common.exception.StoreStatisticsLogExceptions.*;
 import org.swyp.dessertbee.statistics.store.dto.response.StoreStatisticsPeriodResponse;
 import org.swyp.dessertbee.statistics.store.dto.response.StoreStatisticsTrendResponse;
@@ -18,7 +20,9 @@ import java.math.RoundingMode;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -28,6 +32,7 @@ public class StoreStatisticsService {
     private final StoreStatisticsPeriodRepository storeStatisticsPeriodicRepository;
     private final StoreRepository storeRepository;
     private final StoreStatisticsTrendRepository trendRepository;
+    private final StoreStatLiveReader storeStatLiveReader;
 
     public StoreStatisticsPeriodResponse getStoreStatistics(UUID storeUuid, PeriodType periodType, LocalDate selectedDate) {
         Long storeId = storeRepository.findStoreIdByStoreUuid(storeUuid);
@@ -56,6 +61,7 @@ public class StoreStatisticsService {
         );
 
         int view = 0, save = 0, reviewStore = 0, reviewComm = 0, coupon = 0, mate = 0;
+        long uniqueViewers = 0;
         BigDecimal ratingSum = BigDecimal.ZERO;
         int ratingCount = 0;
 
@@ -66,6 +72,8 @@ public class StoreStatisticsService {
             reviewComm += stat.getReviewCommCount();
             coupon += stat.getCouponUsedCount();
             mate += stat.getMateCount();
+            // 순 방문자는 합산할 수 없으므로 기간 행의 값을 사용
+            uniqueViewers = Math.max(uniqueViewers, stat.getUniqueViewerCount());
 
             if (stat.getAverageRating() != null) {
                 ratingSum = ratingSum.add(stat.getAverageRating());
@@ -73,47 +81,102 @@ public class StoreStatisticsService {
             }
         }
 
+        // 아직 DB에 반영되지 않은 오늘(및 어제 마지막 시간대) 통계 합산
+        Map<LocalDate, Map<Integer, StoreStatCounts>> unflushed = storeStatLiveReader.readUnflushed(storeId, from, to);
+        for (Map<Integer, StoreStatCounts> hourly : unflushed.values()) {
+            for (StoreStatCounts live : hourly.values()) {
+                view += live.getViewCount();
+                save += live.getSaveCount();
+                reviewStore += live.getReviewStoreCount();
+                reviewComm += live.getReviewCommCount();
+                coupon += live.getCouponUsedCount();
+                mate += live.getMateCount();
+            }
+        }
+
+        // 아직 반영되지 않은 방문자를 포함한 순 방문자 추정치
+        Long liveUniqueViewers = storeStatLiveReader.countUniqueViewers(storeId, periodType, from, to);
+        if (liveUniqueViewers != null) {
+            uniqueViewers = Math.max(uniqueViewers, liveUniqueViewers);
+        }
+
         // 평균 평점 계산: 리뷰가 1개 이상일 때만
         BigDecimal avgRating = (ratingCount > 0)
                 ? ratingSum.divide(BigDecimal.valueOf(ratingCount), 2, RoundingMode.HALF_UP)
                 : null;
 
+        // 반영된 통계가 없고 미반영 통계만 있는 경우 현재 가게 평점 사용
+        if (avgRating == null && !unflushed.isEmpty()) {
+            avgRating = currentRating(storeId);
+        }
+
         int totalReview = reviewStore + reviewComm;
 
-        return new StoreStatisticsPeriodResponse(view, save, reviewStore, reviewComm, totalReview, coupon, mate, avgRating);
+        return new StoreStatisticsPeriodResponse(view, (int) uniqueViewers, save, reviewStore, reviewComm, totalReview, coupon, mate, avgRating);
     }
 
     public List<StoreStatisticsTrendResponse> getTrendStatistics(UUID storeUuid, PeriodType periodType, LocalDate selectedDate) {
         Long storeId = storeRepository.findStoreIdByStoreUuid(storeUuid);
         if (storeId == null) throw new InvalidStoreUuidException();
 
-        List<StoreStatisticsTrend> trends = switch (periodType) {
-            case DAILY -> trendRepository.findByStoreIdAndDateAndPeriodType(storeId, selectedDate, PeriodType.DAILY)
-                    .stream()
-                    .sorted(Comparator.comparing(t -> Integer.parseInt(t.getDisplayKey())))
-                    .toList();
+        LocalDate from, to;
+        Comparator<String> keyOrder;
 
+        switch (periodType) {
+            case DAILY -> {
+                from = selectedDate;
+                to = selectedDate;
+                keyOrder = Comparator.comparing(Integer::parseInt);
+            }
             case WEEKLY -> {
-                LocalDate monday = selectedDate.with(DayOfWeek.MONDAY);
-                LocalDate sunday = monday.plusDays(6);
-                yield trendRepository.findByStoreIdAndDateBetweenAndPeriodType(storeId, monday, sunday, PeriodType.WEEKLY)
-                        .stream()
-                        .sorted(Comparator.comparing(t -> DayOfWeek.valueOf(t.getDisplayKey())))
-                        .toList();
+                from = selectedDate.with(DayOfWeek.MONDAY);
+                to = from.plusDays(6);
+                keyOrder = Comparator.comparing(DayOfWeek::valueOf);
             }
-
             case MONTHLY -> {
-                LocalDate firstDay = selectedDate.withDayOfMonth(1);
-                LocalDate lastDay = selectedDate.withDayOfMonth(selectedDate.lengthOfMonth());
-                yield trendRepository.findByStoreIdAndDateBetweenAndPeriodType(storeId, firstDay, lastDay, PeriodType.MONTHLY)
-                        .stream()
-                        .sorted(Comparator.comparing(t -> Integer.parseInt(t.getDisplayKey())))
-                        .toList();
+                from = selectedDate.withDayOfMonth(1);
+                to = selectedDate.withDayOfMonth(selectedDate.lengthOfMonth());
+                keyOrder = Comparator.comparing(Integer::parseInt);
             }
-        };
+            default -> throw new InvalidPeriodTypeException();
+        }
 
-        return trends.stream()
-                .map(trend -> StoreStatisticsTrendResponse.fromEntity(trend, periodType))
+        List<StoreStatisticsTrend> trends = (periodType == PeriodType.DAILY)
+                ? trendRepository.findByStoreIdAndDateAndPeriodType(storeId, selectedDate, PeriodType.DAILY)
+                : trendRepository.findByStoreIdAndDateBetweenAndPeriodType(storeId, from, to, periodType);
+
+        Map<String, StoreStatCounts> merged = new HashMap<>();
+        Map<String, BigDecimal> ratings = new HashMap<>();
+        for (StoreStatisticsTrend trend : trends) {
+            merged.computeIfAbsent(trend.getDisplayKey(), key -> new StoreStatCounts())
+                    .merge(StoreStatCounts.of(trend.getViewCount(), trend.getSaveCount(), trend.getReviewStoreCount(),
+                            trend.getReviewCommCount(), trend.getCouponUsedCount(), trend.getMateCount()));
+            if (trend.getAverageRating() != null) {
+                ratings.putIfAbsent(trend.getDisplayKey(), trend.getAverageRating());
+            }
+        }
+
+        // 아직 DB에 반영되지 않은 시간대 통계를 해당 구간에 합산
+        Map<LocalDate, Map<Integer, StoreStatCounts>> unflushed = storeStatLiveReader.readUnflushed(storeId, from, to);
+        BigDecimal liveRating = unflushed.isEmpty() ? null : currentRating(storeId);
+        unflushed.forEach((date, hourly) -> hourly.forEach((hour, live) -> {
+            String trendKey = periodType.trendKeyOf(date, hour);
+            merged.computeIfAbsent(trendKey, key -> new StoreStatCounts()).merge(live);
+            if (liveRating != null) {
+                ratings.putIfAbsent(trendKey, liveRating);
+            }
+        }));
+
+        return merged.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(keyOrder))
+                .map(entry -> StoreStatisticsTrendResponse.of(
+                        entry.getKey(), periodType, entry.getValue(), ratings.get(entry.getKey())))
                 .toList();
     }
+
+    // 현재 가게 평균 평점 (소수점 둘째자리 반올림)
+    private BigDecimal currentRating(Long storeId) {
+        BigDecimal rating = storeRepository.findAverageRatingByStoreId(storeId);
+        return rating != null ? rating.setScale(2, RoundingMode.HALF_UP) : null;
+    }
 }
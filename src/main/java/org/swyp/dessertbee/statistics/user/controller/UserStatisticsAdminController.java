@@ -3,12 +3,14 @@ package org.swyp.dessertbee.statistics.user.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.swyp.dessertbee.statistics.user.dto.response.*;
 import org.swyp.dessertbee.statistics.user.service.UserStatisticsAdminService;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -109,5 +111,22 @@ public class UserStatisticsAdminController {
     public ResponseEntity<Long> getMAU(@RequestParam String month) {
         return ResponseEntity.ok(userStatisticsAdminService.getMAU(month));
     }
-}
 
+    // 임의 기간 활성 사용자 수
+    @Operation(summary = "기간 활성 사용자 수 조회", description = "기간 내 하루라도 활성인 사용자 수 (최근 92일 이내)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/active-users")
+    public ResponseEntity<Long> getActiveUsers(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(userStatisticsAdminService.getActiveUsers(from, to));
+    }
+
+    // 코호트 잔존율
+    @Operation(summary = "코호트 잔존율 조회", description = "기준일 활성 사용자 중 1~days일 후에도 활성인 사용자 비율 (days 최대 30)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/retention")
+    public ResponseEntity<CohortRetentionResponseDto> getRetention(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cohortDate,
+                                                                   @RequestParam(defaultValue = "7") int days) {
+        return ResponseEntity.ok(userStatisticsAdminService.getRetention(cohortDate, days));
+    }
+}
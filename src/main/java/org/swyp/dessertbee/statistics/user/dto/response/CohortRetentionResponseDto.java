@@ -0,0 +1,19 @@
+package org.swyp.dessertbee.statistics.user.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class CohortRetentionResponseDto {
+    private LocalDate cohortDate;       // 코호트 기준일
+    private long cohortSize;            // 기준일 활성 사용자 수
+    private List<RetentionDto> retention;
+
+    public CohortRetentionResponseDto(LocalDate cohortDate, long cohortSize, List<RetentionDto> retention) {
+        this.cohortDate = cohortDate;
+        this.cohortSize = cohortSize;
+        this.retention = retention;
+    }
+}
@@ -0,0 +1,20 @@
+package org.swyp.dessertbee.statistics.user.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class RetentionDto {
+    private int dayOffset;          // 기준일로부터 경과 일수
+    private LocalDate date;         // 재방문 확인 날짜
+    private long retainedCount;     // 기준일 활성 사용자 중 해당 날짜에도 활성인 사용자 수
+    private double retentionRate;   // 잔존율 (0 ~ 1)
+
+    public RetentionDto(int dayOffset, LocalDate date, long retainedCount, double retentionRate) {
+        this.dayOffset = dayOffset;
+        this.date = date;
+        this.retainedCount = retainedCount;
+        this.retentionRate = retentionRate;
+    }
+}
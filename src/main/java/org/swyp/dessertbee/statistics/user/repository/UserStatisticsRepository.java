@@ -1,8 +1,8 @@
 package org.swyp.dessertbee.statistics.user.repository;
 
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 import org.swyp.dessertbee.statistics.user.dto.response.UserStatisticsResponseDto;
 import org.swyp.dessertbee.user.entity.UserEntity;
 
@@ -17,17 +17,16 @@ public interface UserStatisticsRepository  extends Repository<UserEntity, Long>
             "JOIN ur.role r")
     List<UserStatisticsResponseDto> findAllUsersWithRoles();
 
-    @Query("SELECT COUNT(u) FROM UserEntity u WHERE u.createdAt BETWEEN :startOfDay AND :endOfDay")
-    long countNewUsersByDay(@Param("startOfDay") LocalDateTime startOfDay,
-                            @Param("endOfDay") LocalDateTime endOfDay);
-
-    @Query("SELECT COUNT(u) FROM UserEntity u WHERE u.createdAt BETWEEN :weekStart AND :weekEnd")
-    long countNewUsersByWeek(@Param("weekStart") LocalDateTime weekStart,
-                             @Param("weekEnd") LocalDateTime weekEnd);
-
-    @Query("SELECT COUNT(u) FROM UserEntity u WHERE u.createdAt BETWEEN :monthStart AND :monthEnd")
-    long countNewUsersByMonth(@Param("monthStart") LocalDateTime monthStart,
-                              @Param("monthEnd") LocalDateTime monthEnd);
+    /**
+     * 기간 내 일자별 신규 가입자 수 (가입일, 가입자 수)
+     * - idx_user_created_at 범위 조건으로 한 번에 집계
+     */
+    @Query(value = "SELECT DATE(u.created_at) AS created_date, COUNT(*) AS user_count " +
+            "FROM user u " +
+            "WHERE u.created_at >= :start AND u.created_at < :end " +
+            "GROUP BY DATE(u.created_at)", nativeQuery = true)
+    List<Object[]> countNewUsersGroupByDate(@Param("start") LocalDateTime start,
+                                            @Param("end") LocalDateTime end);
 
     @Query("SELECT COUNT(DISTINCT ur.user.id) " +
             "FROM UserRoleEntity ur " +
@@ -2,6 +2,7 @@ package org.swyp.dessertbee.statistics.user.service;
 
 import org.swyp.dessertbee.statistics.user.dto.response.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface UserStatisticsAdminService {
@@ -20,4 +21,6 @@ public interface UserStatisticsAdminService {
     long getDAU(String date);
     long getWAU(String week);
     long getMAU(String month);
+    long getActiveUsers(LocalDate from, LocalDate to);
+    CohortRetentionResponseDto getRetention(LocalDate cohortDate, int days);
 }
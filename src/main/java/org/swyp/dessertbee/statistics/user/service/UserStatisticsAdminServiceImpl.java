@@ -1,7 +1,10 @@
 package org.swyp.dessertbee.statistics.user.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.swyp.dessertbee.common.exception.BusinessException;
@@ -9,21 +12,40 @@ import org.swyp.dessertbee.common.exception.ErrorCode;
 import org.swyp.dessertbee.common.util.YearWeek;
 import org.swyp.dessertbee.statistics.user.dto.response.*;
 import org.swyp.dessertbee.statistics.user.repository.UserStatisticsRepository;
+import org.swyp.dessertbee.user.repository.UserRepository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserStatisticsAdminServiceImpl implements UserStatisticsAdminService {
 
     private final UserStatisticsRepository userStatisticsRepository;
-    private final RedisTemplate redisTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+
+    private static final String DAILY_ACTIVE_PREFIX = "active:bitmap:daily:";
+    private static final String MONTHLY_ACTIVE_PREFIX = "active:bitmap:monthly:";
+    private static final String TEMP_BITMAP_PREFIX = "active:bitmap:tmp:";
+    private static final Duration DAILY_ACTIVE_TTL = Duration.ofDays(92);
+    private static final Duration MONTHLY_ACTIVE_TTL = Duration.ofDays(400);
+    private static final int MAX_RETENTION_DAYS = 30;
+
+    /** 지난 달의 일자별 신규 가입자 수 (YearMonth → 일자별 가입자 수) */
+    private final Map<YearMonth, Map<LocalDate, Long>> closedMonthCache = new ConcurrentHashMap<>();
 
     private static final int CURRENT_YEAR = LocalDate.now().getYear();
     private static final int MIN_YEAR = 1900;
@@ -68,6 +90,8 @@ public class UserStatisticsAdminServiceImpl implements UserStatisticsAdminServic
 
     /**
      * 신규 가입자 수 조회
+     * - 조회 범위의 일자별 가입자 수를 GROUP BY 쿼리 한 번으로 가져와 일/주/월 단위로 묶음
+     * - 이미 지난 달의 일자별 집계는 바뀌지 않으므로 메모리에 보관하여 재사용
      */
     /** 일 단위 조회 (특정 연도, 특정 월, 특정 일) */
     @Transactional(readOnly = true)
@@ -76,17 +100,13 @@ public class UserStatisticsAdminServiceImpl implements UserStatisticsAdminServic
         validateYear(year);
         validateMonth(month);
 
-        List<DailyUserCountDto> result = new ArrayList<>();
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        int daysInMonth = startDate.lengthOfMonth();
-
-        for (int day = 1; day <= daysInMonth; day++) {
-            LocalDate date = LocalDate.of(year, month, day);
-            LocalDateTime startDateTime = date.atStartOfDay();
-            LocalDateTime endDateTime = date.atTime(23, 59, 59);
+        YearMonth yearMonth = YearMonth.of(year, month);
+        Map<LocalDate, Long> dailyCounts = getDailyNewUserCounts(yearMonth, yearMonth);
 
-            long count = userStatisticsRepository.countNewUsersByDay(startDateTime, endDateTime);
-            result.add(new DailyUserCountDto(date, count)); // 날짜와 수 함께 반환
+        List<DailyUserCountDto> result = new ArrayList<>();
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            LocalDate date = yearMonth.atDay(day);
+            result.add(new DailyUserCountDto(date, dailyCounts.getOrDefault(date, 0L))); // 날짜와 수 함께 반환
         }
 
         return result;
@@ -99,19 +119,20 @@ public class UserStatisticsAdminServiceImpl implements UserStatisticsAdminServic
         validateYear(year);
         validateMonth(month);
 
+        YearMonth yearMonth = YearMonth.of(year, month);
+        Map<LocalDate, Long> dailyCounts = getDailyNewUserCounts(yearMonth, yearMonth);
+
         List<WeeklyUserCountDto> result = new ArrayList<>();
 
-        LocalDate firstDayOfMonth = LocalDate.of(year, month, 1);
-        LocalDate lastDayOfMonth = firstDayOfMonth.with(TemporalAdjusters.lastDayOfMonth());
+        LocalDate firstDayOfMonth = yearMonth.atDay(1);
+        LocalDate lastDayOfMonth = yearMonth.atEndOfMonth();
 
         int weekNumber = 1;
 
         // 첫 주: 1일부터 시작해서 그 주의 일요일까지
         LocalDate firstSunday = firstDayOfMonth.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
-        LocalDateTime firstStart = firstDayOfMonth.atStartOfDay();
-        LocalDateTime firstEnd = firstSunday.atTime(23, 59, 59);
-        long firstWeekCount = userStatisticsRepository.countNewUsersByWeek(firstStart, firstEnd);
-        result.add(new WeeklyUserCountDto(weekNumber++, firstDayOfMonth, firstSunday, firstWeekCount));
+        result.add(new WeeklyUserCountDto(weekNumber++, firstDayOfMonth, firstSunday,
+                sumBetween(dailyCounts, firstDayOfMonth, firstSunday)));
 
         //  이후 주: 월요일부터 일요일까지
         LocalDate weekStart = firstSunday.plusDays(1); // 다음 주 월요일
@@ -121,11 +142,8 @@ public class UserStatisticsAdminServiceImpl implements UserStatisticsAdminServic
                 weekEnd = lastDayOfMonth;
             }
 
-            LocalDateTime startDateTime = weekStart.atStartOfDay();
-            LocalDateTime endDateTime = weekEnd.atTime(23, 59, 59);
-
-            long count = userStatisticsRepository.countNewUsersByWeek(startDateTime, endDateTime);
-            result.add(new WeeklyUserCountDto(weekNumber++, weekStart, weekEnd, count));
+            result.add(new WeeklyUserCountDto(weekNumber++, weekStart, weekEnd,
+                    sumBetween(dailyCounts, weekStart, weekEnd)));
 
             weekStart = weekStart.plusWeeks(1);
         }
@@ -138,47 +156,203 @@ public class UserStatisticsAdminServiceImpl implements UserStatisticsAdminServic
         //날짜 입력값 유효성 검사
         validateYear(year);
 
-        List<MonthlyUserCountDto> result = new ArrayList<>();
+        Map<LocalDate, Long> dailyCounts = getDailyNewUserCounts(YearMonth.of(year, 1), YearMonth.of(year, 12));
 
+        long[] monthlyCounts = new long[12];
+        dailyCounts.forEach((date, count) -> monthlyCounts[date.getMonthValue() - 1] += count);
+
+        List<MonthlyUserCountDto> result = new ArrayList<>();
         for (int month = 1; month <= 12; month++) {
-            LocalDate startDate = LocalDate.of(year, month, 1);
-            LocalDateTime startDateTime = startDate.atStartOfDay();
-            LocalDateTime endDateTime = startDate.with(TemporalAdjusters.lastDayOfMonth()).atTime(23, 59, 59);
+            result.add(new MonthlyUserCountDto(month, monthlyCounts[month - 1]));
+        }
+
+        return result;
+    }
+
+    /**
+     * 월 범위(from ~ to)의 일자별 신규 가입자 수
+     * 캐시에 없는 첫 달부터 마지막 달까지를 한 번의 쿼리로 조회하고, 지난 달은 캐시에 보관
+     */
+    private Map<LocalDate, Long> getDailyNewUserCounts(YearMonth from, YearMonth to) {
+        Map<LocalDate, Long> result = new HashMap<>();
+
+        YearMonth firstMissing = null;
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            Map<LocalDate, Long> cached = closedMonthCache.get(ym);
+            if (cached != null) {
+                result.putAll(cached);
+            } else if (firstMissing == null) {
+                firstMissing = ym;
+            }
+        }
+        if (firstMissing == null) return result;
 
-            long userCount = userStatisticsRepository.countNewUsersByMonth(startDateTime, endDateTime);
-            result.add(new MonthlyUserCountDto(month, userCount));
+        List<Object[]> rows = userStatisticsRepository.countNewUsersGroupByDate(
+                firstMissing.atDay(1).atStartOfDay(), to.plusMonths(1).atDay(1).atStartOfDay());
+
+        Map<YearMonth, Map<LocalDate, Long>> loaded = new HashMap<>();
+        for (Object[] row : rows) {
+            LocalDate date = (row[0] instanceof java.sql.Date sqlDate) ? sqlDate.toLocalDate() : (LocalDate) row[0];
+            long count = ((Number) row[1]).longValue();
+            result.put(date, count);
+            loaded.computeIfAbsent(YearMonth.from(date), ym -> new HashMap<>()).put(date, count);
+        }
+
+        // 이번 달 이전의 집계만 캐시 (가입 시각 기준이라 이후에 바뀌지 않음)
+        YearMonth currentMonth = YearMonth.now();
+        for (YearMonth ym = firstMissing; !ym.isAfter(to) && ym.isBefore(currentMonth); ym = ym.plusMonths(1)) {
+            closedMonthCache.putIfAbsent(ym, Map.copyOf(loaded.getOrDefault(ym, Map.of())));
         }
 
         return result;
     }
 
+    private long sumBetween(Map<LocalDate, Long> dailyCounts, LocalDate start, LocalDate end) {
+        long sum = 0;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            sum += dailyCounts.getOrDefault(date, 0L);
+        }
+        return sum;
+    }
+
     /**
-    활성 사용자 수 조회
-    */
-    //TODO : 만료시간 명시
-    /** 사용자 활동 추적 - 로그인 시 */
+     * 사용자 활동 추적 - 로그인 시
+     * - 일자별 Redis 비트맵(offset = 사용자 숫자 ID)에 기록하여 사용자 수와 무관하게 (최대 ID / 8) 바이트만 사용
+     * - 주간/임의 기간은 일자 비트맵을 BITOP OR 한 뒤 BITCOUNT, 잔존율은 BITOP AND 로 계산
+     * - 월간 비트맵은 일자 비트맵보다 오래 보관하여 지난 MAU 조회에 사용
+     * - 로그인 흐름에서 호출되므로 사용자 조회/Redis 기록 실패는 로그만 남기고 넘어감
+     */
     public void trackUserActivity(String userUuid) {
+        Long userId;
+        try {
+            userId = userRepository.findIdByUserUuid(UUID.fromString(userUuid));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (userId == null) {
+            log.warn("활성 사용자 기록 건너뜀 - 사용자를 찾을 수 없음: {}", userUuid);
+            return;
+        }
+
         LocalDate today = LocalDate.now();
-        String week = YearWeek.from(today);
-        YearMonth month = YearMonth.from(today);
+        String dailyKey = DAILY_ACTIVE_PREFIX + today;
+        String monthlyKey = MONTHLY_ACTIVE_PREFIX + YearMonth.from(today);
 
-        redisTemplate.opsForSet().add("active:daily:" + today, userUuid);
-        redisTemplate.opsForSet().add("active:weekly:" + week, userUuid);
-        redisTemplate.opsForSet().add("active:monthly:" + month, userUuid);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().setBit(toBytes(dailyKey), userId, true);
+                connection.keyCommands().expire(toBytes(dailyKey), DAILY_ACTIVE_TTL.toSeconds());
+                connection.stringCommands().setBit(toBytes(monthlyKey), userId, true);
+                connection.keyCommands().expire(toBytes(monthlyKey), MONTHLY_ACTIVE_TTL.toSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("활성 사용자 기록 실패 - userUuid: {}, 사유: {}", userUuid, e.getMessage());
+        }
     }
-    //TODO
-    /** DAU : 일일 활성 사용자 수 */
+
+    /** DAU : 일일 활성 사용자 수 (yyyy-MM-dd) */
     public long getDAU(String date) {
-        return redisTemplate.opsForSet().size("active:daily:" + date);
+        return bitCount(DAILY_ACTIVE_PREFIX + parseDate(date));
     }
-    //TODO
-    /** WAU : 주간 활성 사용자 수 */
+
+    /** WAU : 주간 활성 사용자 수 (yyyy-Www) */
     public long getWAU(String week) {
-        return redisTemplate.opsForSet().size("active:weekly:" + week);
+        LocalDate weekStart = YearWeek.startOf(week);
+        return getActiveUsers(weekStart, weekStart.plusDays(6));
     }
-    //TODO
-    /** MAU : 월간 활성 사용자 수 */
+
+    /** MAU : 월간 활성 사용자 수 (yyyy-MM) */
     public long getMAU(String month) {
-        return redisTemplate.opsForSet().size("active:monthly:" + month);
+        try {
+            return bitCount(MONTHLY_ACTIVE_PREFIX + YearMonth.parse(month));
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /** 임의 기간 활성 사용자 수 (기간 내 하루라도 활성인 사용자) */
+    public long getActiveUsers(LocalDate from, LocalDate to) {
+        LocalDate end = resolveActiveRangeEnd(from, to);
+        if (from.equals(end)) {
+            return bitCount(DAILY_ACTIVE_PREFIX + from);
+        }
+
+        List<String> dailyKeys = from.datesUntil(end.plusDays(1))
+                .map(date -> DAILY_ACTIVE_PREFIX + date)
+                .toList();
+        return bitOpCount(RedisStringCommands.BitOperation.OR, dailyKeys);
+    }
+
+    /** 코호트 잔존율 : 기준일 활성 사용자 중 N일 후에도 활성인 사용자 비율 (1 ~ days 일) */
+    public CohortRetentionResponseDto getRetention(LocalDate cohortDate, int days) {
+        if (days < 1 || days > MAX_RETENTION_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_RANGE);
+        }
+        resolveActiveRangeEnd(cohortDate, cohortDate.plusDays(days));
+
+        String cohortKey = DAILY_ACTIVE_PREFIX + cohortDate;
+        long cohortSize = bitCount(cohortKey);
+
+        List<RetentionDto> retention = new ArrayList<>();
+        for (int offset = 1; offset <= days; offset++) {
+            LocalDate date = cohortDate.plusDays(offset);
+            long retained = (cohortSize == 0) ? 0
+                    : bitOpCount(RedisStringCommands.BitOperation.AND, List.of(cohortKey, DAILY_ACTIVE_PREFIX + date));
+            double rate = (cohortSize == 0) ? 0.0 : (double) retained / cohortSize;
+            retention.add(new RetentionDto(offset, date, retained, rate));
+        }
+
+        return new CohortRetentionResponseDto(cohortDate, cohortSize, retention);
+    }
+
+    private long bitCount(String key) {
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.stringCommands().bitCount(toBytes(key)));
+        return count != null ? count : 0L;
+    }
+
+    // 결과를 임시 키에 저장하고 BITCOUNT 후 삭제
+    private long bitOpCount(RedisStringCommands.BitOperation operation, List<String> keys) {
+        String destKey = TEMP_BITMAP_PREFIX + UUID.randomUUID();
+        byte[][] sourceKeys = keys.stream().map(this::toBytes).toArray(byte[][]::new);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().bitOp(operation, toBytes(destKey), sourceKeys);
+            connection.stringCommands().bitCount(toBytes(destKey));
+            connection.keyCommands().unlink(toBytes(destKey));
+            return null;
+        });
+
+        return (results.size() > 1 && results.get(1) instanceof Long count) ? count : 0L;
+    }
+
+    /**
+     * 활성 사용자 조회 기간 검증
+     * - 종료일이 시작일보다 앞서거나 시작일이 미래면 거부, 미래의 종료일은 오늘로 제한
+     * - 일자 비트맵 보관 기간(92일)을 벗어나는 시작일은 거부하므로 조회 기간도 최대 92일
+     * @return 오늘로 제한된 종료일
+     */
+    private LocalDate resolveActiveRangeEnd(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        if (from == null || to == null || to.isBefore(from) || from.isAfter(today)) {
+            throw new BusinessException(ErrorCode.INVALID_RANGE);
+        }
+        if (from.isBefore(today.minusDays(DAILY_ACTIVE_TTL.toDays() - 1))) {
+            throw new BusinessException(ErrorCode.INVALID_RANGE);
+        }
+        return to.isAfter(today) ? today : to;
+    }
+
+    private LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private byte[] toBytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
     }
 }
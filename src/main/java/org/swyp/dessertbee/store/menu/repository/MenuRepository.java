@@ -23,4 +23,15 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     @Query("SELECT m.name FROM Menu m WHERE m.storeId = :storeId AND m.deletedAt IS NULL")
     List<String> findMenuNamesByStoreId(@Param("storeId") Long storeId);
 
+    // 여러 가게 ID를 기반으로 (가게 ID, 메뉴 이름) 목록 일괄 조회
+    @Query("SELECT m.storeId, m.name FROM Menu m WHERE m.storeId IN :storeIds AND m.deletedAt IS NULL")
+    List<Object[]> findStoreIdAndMenuNamesByStoreIds(@Param("storeIds") List<Long> storeIds);
+
+    // 검색어 자동완성 인덱스 적재용 전체 (가게 ID, 메뉴 이름) 조회
+    @Query("SELECT m.storeId, m.name FROM Menu m WHERE m.deletedAt IS NULL")
+    List<Object[]> findAllStoreIdAndMenuNames();
+
+    @Query("SELECT m.storeId FROM Menu m WHERE m.menuId = :menuId")
+    Long findStoreIdByMenuId(@Param("menuId") Long menuId);
+
 }
\ No newline at end of file
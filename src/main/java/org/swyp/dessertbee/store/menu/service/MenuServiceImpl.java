@@ -14,6 +14,8 @@ import org.swyp.dessertbee.store.menu.dto.request.MenuCreateRequest;
 import org.swyp.dessertbee.store.menu.dto.response.MenuResponse;
 import org.swyp.dessertbee.store.menu.entity.Menu;
 import org.swyp.dessertbee.store.menu.repository.MenuRepository;
+import org.swyp.dessertbee.store.store.event.StoreChangePublisher;
+import org.swyp.dessertbee.store.store.event.StoreChangeType;
 import org.swyp.dessertbee.store.store.repository.StoreRepository;
 
 import java.util.List;
@@ -30,7 +32,7 @@ public class MenuServiceImpl implements MenuService {
     private final MenuRepository menuRepository;
     private final ImageService imageService;
     private final StoreRepository storeRepository;
-    //private final StoreSearchService storeSearchService;
+    private final StoreChangePublisher storeChangePublisher;
 
     /** 파일명 재정의 */
     private MultipartFile renameFile(MultipartFile file, String menuName) {
@@ -98,13 +100,13 @@ public class MenuServiceImpl implements MenuService {
                     .build();
             menuRepository.save(menu);
 
-            //storeSearchService.indexStore(storeId);
-
             // 이미지 파일이 있는 경우 재정의된 파일명으로 업로드
             if (file != null) {
                 MultipartFile renamedFile = renameFile(file, menu.getName());
                 imageService.uploadAndSaveImage(renamedFile, ImageType.MENU, menu.getMenuId(), "menu/" + menu.getMenuId());
             }
+
+            storeChangePublisher.publish(storeId, StoreChangeType.MENU);
         } catch (MenuCreationFailedException e){
             log.warn("단일 메뉴 추가 실패 - 가게 Uuid: {}, 사유: {}", storeUuid, e.getMessage());
             throw e;
@@ -149,6 +151,8 @@ public class MenuServiceImpl implements MenuService {
                     }
                 }
             }
+
+            storeChangePublisher.publish(storeId, StoreChangeType.MENU);
         } catch (MenuCreationFailedException e){
             log.warn("메뉴 전체 등록 실패 - 가게 Uuid: {}, 사유: {}", storeUuid, e.getMessage());
             throw e;
@@ -177,6 +181,8 @@ public class MenuServiceImpl implements MenuService {
                 MultipartFile renamedFile = renameFile(file, menu.getName());
                 imageService.updateImage(ImageType.MENU, menuId, renamedFile, "menu/" + menuId);
             }
+
+            storeChangePublisher.publish(storeId, StoreChangeType.MENU);
         } catch (MenuUpdateFailedException e){
             log.warn("단일 메뉴 수정 실패 - 가게 Uuid: {}, 메뉴 Uuid: {}, 사유: {}", storeUuid, menuUuid, e.getMessage());
             throw e;
@@ -197,8 +203,9 @@ public class MenuServiceImpl implements MenuService {
 
             menu.softDelete();
             menuRepository.save(menu);
-            //storeSearchService.indexStore(storeId);
             imageService.deleteImagesByRefId(ImageType.MENU, menuId);
+
+            storeChangePublisher.publish(storeId, StoreChangeType.MENU);
         } catch (MenuDeleteFailedException e){
             log.warn("단일 메뉴 삭제 실패 - 가게 Uuid: {}, 메뉴 Uuid: {}, 사유: {}", storeUuid, menuUuid, e.getMessage());
             throw e;
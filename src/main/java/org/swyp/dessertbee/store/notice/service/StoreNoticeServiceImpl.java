@@ -10,6 +10,8 @@ import org.swyp.dessertbee.store.notice.entity.StoreNotice;
 import org.swyp.dessertbee.store.notice.repository.StoreNoticeRepository;
 import org.swyp.dessertbee.store.notice.exception.StoreNoticeExceptions.*;
 import org.swyp.dessertbee.store.store.exception.StoreExceptions.*;
+import org.swyp.dessertbee.store.store.event.StoreChangePublisher;
+import org.swyp.dessertbee.store.store.event.StoreChangeType;
 import org.swyp.dessertbee.store.store.repository.StoreRepository;
 
 import java.util.List;
@@ -26,6 +28,7 @@ public class StoreNoticeServiceImpl implements StoreNoticeService{
 
     private final StoreNoticeRepository storeNoticeRepository;
     private final StoreRepository storeRepository;
+    private final StoreChangePublisher storeChangePublisher;
 
     /** 공지 추가 */
     @Override
@@ -44,6 +47,7 @@ public class StoreNoticeServiceImpl implements StoreNoticeService{
                     .build();
 
             storeNoticeRepository.save(notice);
+            storeChangePublisher.publish(storeId, StoreChangeType.NOTICE);
         } catch (StoreNoticeCreationFailedException e){
             log.warn("가게 공지 추가 실패 - 사유: {}", e.getMessage());
             throw e;
@@ -156,6 +160,7 @@ public class StoreNoticeServiceImpl implements StoreNoticeService{
             }
 
             notice.update(request.title(), request.content(), request.tag());
+            storeChangePublisher.publish(storeId, StoreChangeType.NOTICE);
 
             return new StoreNoticeResponse(
                     notice.getNoticeId(),
@@ -190,6 +195,7 @@ public class StoreNoticeServiceImpl implements StoreNoticeService{
             }
 
             notice.softDelete();
+            storeChangePublisher.publish(storeId, StoreChangeType.NOTICE);
 
         } catch (StoreNoticeNotFoundException | InvalidStoreUuidException | StoreNoticeDeleteFailedException e) {
             log.warn("공지 삭제 실패 - storeUuid: {}, noticeId: {}, 사유: {}", storeUuid, noticeId, e.getMessage());
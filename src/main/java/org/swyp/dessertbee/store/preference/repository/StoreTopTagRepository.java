@@ -33,6 +33,8 @@ public interface StoreTopTagRepository extends JpaRepository<StoreTopTag, Long>
     """, nativeQuery = true)
     List<TopPreferenceTagResponse> findAllTagsByStoreId(@Param("storeId") Long storeId);
 
+    List<StoreTopTag> findByTagRankLessThanEqual(Integer tagRank);
+
     @Modifying
     @Transactional
     @Query(value = "TRUNCATE TABLE store_top_tag", nativeQuery = true)
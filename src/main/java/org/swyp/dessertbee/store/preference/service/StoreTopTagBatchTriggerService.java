@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.swyp.dessertbee.store.preference.service.StoreTopTagBatchService;
+import org.swyp.dessertbee.store.store.index.StoreGeoIndex;
 
 @Service
 @RequiredArgsConstructor
@@ -11,11 +12,13 @@ import org.swyp.dessertbee.store.preference.service.StoreTopTagBatchService;
 public class StoreTopTagBatchTriggerService {
 
     private final StoreTopTagBatchService storeTopTagBatchService;
+    private final StoreGeoIndex storeGeoIndex;
 
     public void executeBatch() {
         try {
             log.info("[수동/자동 트리거] store_top_tag 배치 시작");
             storeTopTagBatchService.refreshStoreTopTags();
+            storeGeoIndex.reloadTopTags();
             log.info("[수동/자동 트리거] store_top_tag 배치 종료");
         } catch (Exception e) {
             log.error("[수동/자동 트리거] store_top_tag 배치 실패", e);
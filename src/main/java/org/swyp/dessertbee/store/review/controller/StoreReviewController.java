@@ -1,7 +1,7 @@
 package org.swyp.dessertbee.store.review.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +14,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.swyp.dessertbee.common.annotation.ApiErrorResponses;
+import org.swyp.dessertbee.common.dto.CursorPageResponse;
 import org.swyp.dessertbee.common.dto.ReportRequest;
 import org.swyp.dessertbee.common.exception.ErrorCode;
 import org.swyp.dessertbee.store.review.dto.request.StoreReviewCreateRequest;
@@ -71,13 +72,16 @@ public class StoreReviewController {
     }
 
     /** 특정 가게 리뷰 조회 */
-    @Operation(summary = "한줄 리뷰 조회 (completed)", description = "한줄 리뷰를 조회합니다.")
+    @Operation(summary = "한줄 리뷰 조회 (completed)", description = "한줄 리뷰를 최신순으로 커서 기반 페이지 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @ApiResponse( responseCode = "200", description = "한줄리뷰 조회성공",
-            content = @Content(array = @ArraySchema(schema = @Schema(implementation = StoreReviewResponse.class))))
-    @ApiErrorResponses({ErrorCode.INVALID_STORE_UUID, ErrorCode.STORE_REVIEW_SERVICE_ERROR})
+            content = @Content(schema = @Schema(implementation = CursorPageResponse.class)))
+    @ApiErrorResponses({ErrorCode.INVALID_STORE_UUID, ErrorCode.STORE_REVIEW_SERVICE_ERROR, ErrorCode.INVALID_INPUT_VALUE})
     @GetMapping
-    public ResponseEntity<List<StoreReviewResponse>> getReviews(@PathVariable UUID storeUuid) {
-        List<StoreReviewResponse> reviews = storeReviewService.getReviewsByStoreUuid(storeUuid);
+    public ResponseEntity<CursorPageResponse<StoreReviewResponse>> getReviews(
+            @PathVariable UUID storeUuid,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<StoreReviewResponse> reviews = storeReviewService.getReviewsByStoreUuid(storeUuid, cursor, size);
         return ResponseEntity.ok(reviews);
     }
 
@@ -12,6 +12,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import org.swyp.dessertbee.store.review.entity.StoreReview;
+import org.swyp.dessertbee.user.dto.response.ReviewerProfileResponse;
 import org.swyp.dessertbee.user.entity.UserEntity;
 
 import java.math.BigDecimal;
@@ -81,4 +82,23 @@ public class StoreReviewResponse {
                 .images(images)
                 .build();
     }
+
+    public static StoreReviewResponse fromEntity(StoreReview review, ReviewerProfileResponse reviewer, List<String> images) {
+        if (review.getReviewUuid() == null) {
+            throw new IllegalStateException("reviewUuid가 null입니다. 리뷰가 정상적으로 저장되었는지 확인해주세요.");
+        }
+
+        return StoreReviewResponse.builder()
+                .reviewUuid(review.getReviewUuid())
+                .storeId(review.getStoreId())
+                .userUuid(reviewer.getUserUuid())
+                .nickname(reviewer.getNickname())
+                .gender(reviewer.getGender())
+                .profileImage(reviewer.getProfileImage())
+                .content(review.getContent())
+                .rating(review.getRating())
+                .createdAt(review.getCreatedAt())
+                .images(images)
+                .build();
+    }
 }
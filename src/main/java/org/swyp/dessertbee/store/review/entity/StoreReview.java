@@ -15,7 +15,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "store_review")
+@Table(name = "store_review", indexes = {
+        @Index(name = "idx_store_review_store_created", columnList = "store_id, created_at, review_id")
+})
 public class StoreReview {
 
     @Id
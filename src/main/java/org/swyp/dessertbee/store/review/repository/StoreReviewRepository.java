@@ -1,5 +1,6 @@
 package org.swyp.dessertbee.store.review.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Repository;
 import org.swyp.dessertbee.store.review.entity.StoreReview;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +16,15 @@ import java.util.UUID;
 @Repository
 public interface StoreReviewRepository extends JpaRepository<StoreReview, Long> {
 
+    /**
+     * 조회자에게 보이는 리뷰 조건 (탈퇴하지 않은 작성자 + 조회자가 차단하지 않은 작성자, 비로그인 조회자는 차단 조건 없음)
+     * 페이지 조회와 전체 개수 조회가 같은 조건을 쓰도록 공유
+     */
+    String VISIBLE_AUTHOR_CONDITION =
+            "AND EXISTS (SELECT 1 FROM UserEntity u WHERE u.userUuid = r.userUuid AND u.deletedAt IS NULL) " +
+            "AND NOT EXISTS (SELECT 1 FROM UserBlock ub " +
+            "WHERE ub.blockerUser.userUuid = :viewerUuid AND ub.blockedUser.userUuid = r.userUuid) ";
+
     /** 특정 가게의 평균 평점 조회 (리뷰가 없으면 0.0 반환) */
     @Query("SELECT COALESCE(AVG(r.rating), 0.0) FROM StoreReview r WHERE r.storeId = :storeId AND r.deletedAt IS NULL")
     BigDecimal findAverageRatingByStoreId(@Param("storeId") Long storeId);
@@ -27,8 +38,33 @@ public interface StoreReviewRepository extends JpaRepository<StoreReview, Long>
     @Query("SELECT r.reviewId FROM StoreReview r WHERE r.reviewUuid = :reviewUuid")
     Long findReviewIdByReviewUuid(@Param("reviewUuid") UUID reviewUuid);
 
-    @Query("SELECT COUNT(r) FROM StoreReview r WHERE r.storeId = :storeId AND r.deletedAt IS NULL")
-    int countByStoreIdAndDeletedAtIsNull(@Param("storeId") Long storeId);
+    /** 가게 한줄 리뷰 첫 페이지 조회 (created_at, review_id 내림차순, 조회자에게 보이는 리뷰만) */
+    @Query("SELECT r FROM StoreReview r WHERE r.storeId = :storeId AND r.deletedAt IS NULL " +
+            VISIBLE_AUTHOR_CONDITION +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<StoreReview> findFirstPageByStoreId(@Param("storeId") Long storeId,
+                                             @Param("viewerUuid") UUID viewerUuid,
+                                             Pageable pageable);
+
+    /** 가게 한줄 리뷰 커서 이후 페이지 조회 (keyset, 조회자에게 보이는 리뷰만) */
+    @Query("SELECT r FROM StoreReview r WHERE r.storeId = :storeId AND r.deletedAt IS NULL " +
+            VISIBLE_AUTHOR_CONDITION +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId)) " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<StoreReview> findPageByStoreIdAfter(@Param("storeId") Long storeId,
+                                             @Param("viewerUuid") UUID viewerUuid,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("reviewId") Long reviewId,
+                                             Pageable pageable);
+
+    /** 가게 한줄 리뷰 개수 (페이지 조회와 같은 조건) */
+    @Query("SELECT COUNT(r) FROM StoreReview r WHERE r.storeId = :storeId AND r.deletedAt IS NULL " +
+            VISIBLE_AUTHOR_CONDITION)
+    long countVisibleByStoreId(@Param("storeId") Long storeId, @Param("viewerUuid") UUID viewerUuid);
+
+    /** 여러 가게의 리뷰 개수 일괄 집계 (가게별로 그룹핑) */
+    @Query("SELECT r.storeId, COUNT(r) FROM StoreReview r WHERE r.storeId IN :storeIds AND r.deletedAt IS NULL GROUP BY r.storeId")
+    List<Object[]> countByStoreIdsGroupByStoreId(@Param("storeIds") List<Long> storeIds);
 
     /**
      * 특정 유저가 특정 가게에 "오늘" 날짜로 작성한 리뷰가 있는지 체크
@@ -1,6 +1,7 @@
 package org.swyp.dessertbee.store.review.service;
 
 import org.springframework.web.multipart.MultipartFile;
+import org.swyp.dessertbee.common.dto.CursorPageResponse;
 import org.swyp.dessertbee.common.dto.ReportRequest;
 import org.swyp.dessertbee.store.review.dto.request.StoreReviewCreateRequest;
 import org.swyp.dessertbee.store.review.dto.request.StoreReviewUpdateRequest;
@@ -18,8 +19,8 @@ public interface StoreReviewService {
     /** 리뷰 등록 */
     StoreReviewResponse createReview(UUID storeUuid, StoreReviewCreateRequest request, List<MultipartFile> images);
 
-    /** 특정 가게 리뷰 조회 */
-    List<StoreReviewResponse> getReviewsByStoreUuid(UUID storeUuid);
+    /** 특정 가게 리뷰 커서 페이지 조회 (최신순) */
+    CursorPageResponse<StoreReviewResponse> getReviewsByStoreUuid(UUID storeUuid, String cursor, int size);
 
     /** 리뷰 수정 */
     StoreReviewResponse updateReview(UUID storeUuid, UUID reviewUuid, StoreReviewUpdateRequest request, List<MultipartFile> newImages);
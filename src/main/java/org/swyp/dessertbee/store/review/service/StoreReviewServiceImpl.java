@@ -6,9 +6,11 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.swyp.dessertbee.common.dto.CursorPageResponse;
 import org.swyp.dessertbee.common.dto.ReportRequest;
 import org.swyp.dessertbee.common.entity.ImageType;
 import org.swyp.dessertbee.common.entity.ReportCategory;
+import org.swyp.dessertbee.common.exception.BusinessException;
 import org.swyp.dessertbee.common.repository.ReportRepository;
 import org.swyp.dessertbee.statistics.store.entity.enums.ReviewAction;
 import org.swyp.dessertbee.statistics.store.event.StoreReviewActionEvent;
@@ -19,6 +21,7 @@ import org.swyp.dessertbee.store.store.entity.Store;
 import org.swyp.dessertbee.store.store.exception.StoreExceptions.*;
 import org.swyp.dessertbee.store.review.exception.StoreReviewExceptions.*;
 import org.swyp.dessertbee.store.store.service.StoreService;
+import org.swyp.dessertbee.store.store.service.StoreSupportService;
 import org.swyp.dessertbee.user.exception.UserExceptions.*;
 import org.swyp.dessertbee.common.service.ImageService;
 import org.swyp.dessertbee.store.review.dto.request.StoreReviewCreateRequest;
@@ -53,6 +56,7 @@ public class StoreReviewServiceImpl implements StoreReviewService {
     private final StoreReviewReportRepository storeReviewReportRepository;
     private final ReportRepository reportRepository;
     private final UserBlockService userBlockService;
+    private final StoreSupportService storeSupportService;
 
     /** 오늘 작성한 리뷰 여부 확인 */
     public boolean hasTodayReview(UUID storeUuid, UUID userUuid) {
@@ -136,66 +140,18 @@ public class StoreReviewServiceImpl implements StoreReviewService {
         }
     }
 
-    /** 특정 가게 리뷰 조회 */
+    /** 특정 가게 리뷰 커서 페이지 조회 */
     @Override
-    public List<StoreReviewResponse> getReviewsByStoreUuid(UUID storeUuid) {
+    public CursorPageResponse<StoreReviewResponse> getReviewsByStoreUuid(UUID storeUuid, String cursor, int size) {
         try{
             Long storeId = storeRepository.findStoreIdByStoreUuid(storeUuid);
             if (storeId == null) {
                 throw new InvalidStoreUuidException();
             }
 
-            UserEntity currentUser = userService.getCurrentUser();
-            final List<UUID> blockedUserUuids = currentUser != null
-                    ? userBlockService.getBlockedUserUuids(currentUser.getUserUuid())
-                    : Collections.emptyList();
-            List<StoreReview> reviews = storeReviewRepository.findByStoreIdAndDeletedAtIsNull(storeId);
-
-            if (reviews.isEmpty()) {
-                return Collections.emptyList();
-            }
-
-            // Batch Fetch: 필요한 데이터 한 번에 조회
-            Set<UUID> userUuids = reviews.stream()
-                    .map(StoreReview::getUserUuid)
-                    .filter(uuid -> !blockedUserUuids.contains(uuid))
-                    .collect(Collectors.toSet());
-
-            // UserEntity를 UUID로 한 번에 조회
-            Map<UUID, UserEntity> userMap = userRepository.findByUserUuidIn(userUuids)
-                    .stream()
-                    .collect(Collectors.toMap(UserEntity::getUserUuid, u -> u));
-
-            // 리뷰 이미지를 Batch 조회
-            List<Long> reviewIds = reviews.stream()
-                    .map(StoreReview::getReviewId)
-                    .collect(Collectors.toList());
-            Map<Long, List<String>> reviewImagesMap = imageService.getImagesByTypeAndIds(ImageType.SHORT, reviewIds);
-
-            // 프로필 이미지를 Batch 조회
-            List<Long> userIds = userMap.values().stream()
-                    .map(UserEntity::getId)
-                    .collect(Collectors.toList());
-            Map<Long, List<String>> profileImagesMap = imageService.getImagesByTypeAndIds(ImageType.PROFILE, userIds);
-
-            // Map에서 데이터 조회하여 응답 생성 (추가 쿼리 없음)
-            return reviews.stream()
-                    .filter(review -> !blockedUserUuids.contains(review.getUserUuid()))
-                    .map(review -> {
-                        UserEntity reviewer = userMap.get(review.getUserUuid());
-                        if (reviewer == null) {
-                            return null; // 사용자 정보 없으면 스킵
-                        }
-
-                        List<String> images = reviewImagesMap.getOrDefault(review.getReviewId(), Collections.emptyList());
-                        List<String> profileImages = profileImagesMap.getOrDefault(reviewer.getId(), Collections.emptyList());
-                        String profileImage = profileImages.isEmpty() ? null : profileImages.get(0);
-
-                        return StoreReviewResponse.fromEntity(review, reviewer, profileImage, images);
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-        } catch (InvalidStoreUuidException | UserNotFoundException e) {
+            // 차단 사용자 필터링 및 작성자 프로필/이미지 일괄 조회 포함
+            return storeSupportService.getStoreReviewPage(storeId, cursor, size);
+        } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
             log.error("가게 한줄리뷰 조회 중 알 수 없는 오류", e);
@@ -290,17 +246,18 @@ public class StoreReviewServiceImpl implements StoreReviewService {
             UserEntity user = userService.getCurrentUser();
             List<StoreReview> reviews = storeReviewRepository.findByUserUuidOrderByCreatedAtDesc(user.getUserUuid());
 
+            // 썸네일은 대표 이미지 리스트 중 첫 번째, 리뷰 이미지도 첫 번째만 (각각 한 번에 조회)
+            Map<Long, String> storeThumbnails = imageService.getThumbnailsByTypeAndIds(ImageType.STORE,
+                    reviews.stream().map(StoreReview::getStoreId).toList());
+            Map<Long, String> reviewImages = imageService.getThumbnailsByTypeAndIds(ImageType.SHORT,
+                    reviews.stream().map(StoreReview::getReviewId).toList());
+
             List<UserReviewListResponse.UserReviewItem> items = reviews.stream().map(review -> {
                 Store store = storeRepository.findById(review.getStoreId())
                         .orElseThrow(StoreNotFoundException::new);
 
-                // 썸네일은 대표 이미지 리스트 중 첫 번째
-                List<String> storeImages = imageService.getImagesByTypeAndId(ImageType.STORE, store.getStoreId());
-                String thumbnail = storeImages.isEmpty() ? null : storeImages.get(0);
-
-                // 리뷰 이미지도 첫 번째만
-                List<String> reviewImages = imageService.getImagesByTypeAndId(ImageType.SHORT, review.getReviewId());
-                String reviewImage = reviewImages.isEmpty() ? null : reviewImages.get(0);
+                String thumbnail = storeThumbnails.get(store.getStoreId());
+                String reviewImage = reviewImages.get(review.getReviewId());
 
                 return UserReviewListResponse.UserReviewItem.builder()
                         .reviewUuid(review.getReviewUuid())
@@ -262,8 +262,14 @@ public class UserStoreServiceImpl implements UserStoreService {
             UserStoreList list = userStoreListRepository.findById(listId)
                     .orElseThrow(StoreListNotFoundException::new);
 
+            List<SavedStore> savedStores = savedStoreRepository.findByUserStoreList(list);
+
+            // 저장된 가게들의 이미지를 한 번에 조회
+            Map<Long, List<String>> imageUrlsByStoreId = imageService.getImagesByTypeAndIds(ImageType.STORE,
+                    savedStores.stream().map(savedStore -> savedStore.getStore().getStoreId()).distinct().toList());
+
             // 해당 리스트에 저장된 가게 정보 매핑
-            List<SavedStoreResponse> storeData = savedStoreRepository.findByUserStoreList(list).stream()
+            List<SavedStoreResponse> storeData = savedStores.stream()
                     .map(savedStore -> SavedStoreResponse.builder()
                             .userUuid(list.getUser().getUserUuid())
                             .storeUuid(savedStore.getStore().getStoreUuid())
@@ -273,7 +279,7 @@ public class UserStoreServiceImpl implements UserStoreService {
                             .storeAddress(savedStore.getStore().getAddress())
                             .latitude(savedStore.getStore().getLatitude())
                             .longitude(savedStore.getStore().getLongitude())
-                            .imageUrls(imageService.getImagesByTypeAndId(ImageType.STORE, savedStore.getStore().getStoreId()))
+                            .imageUrls(imageUrlsByStoreId.getOrDefault(savedStore.getStore().getStoreId(), Collections.emptyList()))
                             .userPreferences(savedStore.getUserPreferences())
                             .build())
                     .collect(Collectors.toList());
@@ -16,6 +16,9 @@ public interface StoreHolidayRepository extends JpaRepository<StoreHoliday, Long
     @Query("SELECT h FROM StoreHoliday h WHERE h.storeId = :storeId")
     List<StoreHoliday> findByStoreId(@Param("storeId") Long storeId);
 
+    @Query("SELECT h FROM StoreHoliday h WHERE h.storeId IN :storeIds")
+    List<StoreHoliday> findByStoreIdIn(@Param("storeIds") List<Long> storeIds);
+
     @Transactional
     @Modifying
     @Query("DELETE FROM StoreHoliday h WHERE h.storeId = :storeId")
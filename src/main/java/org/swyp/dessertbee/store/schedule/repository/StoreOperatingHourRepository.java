@@ -16,6 +16,12 @@ public interface StoreOperatingHourRepository extends JpaRepository<StoreOperati
     @Query("SELECT o FROM StoreOperatingHour o WHERE o.storeId = :storeId")
     List<StoreOperatingHour> findByStoreId(@Param("storeId") Long storeId);
 
+    /**
+     * 여러 매장의 영업시간 일괄 조회
+     */
+    @Query("SELECT o FROM StoreOperatingHour o WHERE o.storeId IN :storeIds")
+    List<StoreOperatingHour> findByStoreIdIn(@Param("storeIds") List<Long> storeIds);
+
     @Transactional
     @Modifying
     @Query("DELETE FROM StoreOperatingHour o WHERE o.storeId = :storeId")
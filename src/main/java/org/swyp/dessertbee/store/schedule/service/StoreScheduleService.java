@@ -7,16 +7,25 @@ import org.swyp.dessertbee.store.store.entity.Store;
 import org.swyp.dessertbee.store.schedule.entity.StoreHoliday;
 
 import java.util.List;
+import java.util.Map;
 
 public interface StoreScheduleService {
     /**
      * 운영 시간 조회 및 변환
      */
     List<OperatingHourResponse> getOperatingHoursResponse(Long storeId);
+    /**
+     * 여러 가게의 운영 시간 일괄 조회 및 변환 (가게 ID별)
+     */
+    Map<Long, List<OperatingHourResponse>> getOperatingHoursResponses(List<Long> storeIds);
     /**
      * 휴무일 조회 및 변환
      */
     List<HolidayResponse> getHolidaysResponse(Long storeId);
+    /**
+     * 여러 가게의 휴무일 일괄 조회 및 변환 (가게 ID별)
+     */
+    Map<Long, List<HolidayResponse>> getHolidaysResponses(List<Long> storeIds);
     /**
      * 영업 시간 저장/갱신
      */
@@ -10,6 +10,8 @@ import org.swyp.dessertbee.store.schedule.dto.BreakTimeResponse;
 import org.swyp.dessertbee.store.schedule.dto.HolidayResponse;
 import org.swyp.dessertbee.store.schedule.dto.OperatingHourResponse;
 import org.swyp.dessertbee.store.store.entity.Store;
+import org.swyp.dessertbee.store.store.event.StoreChangePublisher;
+import org.swyp.dessertbee.store.store.event.StoreChangeType;
 import org.swyp.dessertbee.store.schedule.entity.StoreBreakTime;
 import org.swyp.dessertbee.store.schedule.entity.StoreHoliday;
 import org.swyp.dessertbee.store.schedule.entity.StoreOperatingHour;
@@ -25,6 +27,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,6 +38,9 @@ public class StoreScheduleServiceImpl implements StoreScheduleService {
     private final StoreOperatingHourRepository storeOperatingHourRepository;
     private final StoreBreakTimeRepository storeBreakTimeRepository;
     private final StoreHolidayRepository storeHolidayRepository;
+    private final StoreChangePublisher storeChangePublisher;
+
+    private static final DateTimeFormatter HOLIDAY_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd");
 
     /**
      * 운영 시간 조회 및 변환 메서드
@@ -47,41 +54,88 @@ public class StoreScheduleServiceImpl implements StoreScheduleService {
                     // 휴게시간 조회
                     List<BreakTimeResponse> breakTimes = storeBreakTimeRepository.findByOperatingHourId(o.getId())
                             .stream()
-                            .map(b -> BreakTimeResponse.builder()
-                                    .startTime(b.getStartTime())
-                                    .endTime(b.getEndTime())
-                                    .build())
+                            .map(this::toBreakTimeResponse)
                             .toList();
 
-                    return OperatingHourResponse.builder()
-                            .dayOfWeek(o.getDayOfWeek())
-                            .openingTime(o.getOpeningTime())
-                            .closingTime(o.getClosingTime())
-                            .lastOrderTime(o.getLastOrderTime())
-                            .isClosed(o.getIsClosed())
-                            .regularClosureType(o.getRegularClosureType() != null ? o.getRegularClosureType().name() : null)
-                            .regularClosureWeeks(o.getRegularClosureWeeks())
-                            .breakTimes(breakTimes)
-                            .build();
+                    return toOperatingHourResponse(o, breakTimes);
                 })
                 .toList();
     }
 
+    /**
+     * 여러 가게의 운영 시간 일괄 조회 및 변환 메서드 (영업시간, 휴게시간 각 1회 조회)
+     */
+    @Override
+    public Map<Long, List<OperatingHourResponse>> getOperatingHoursResponses(List<Long> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) return Collections.emptyMap();
+
+        List<StoreOperatingHour> operatingHours = storeOperatingHourRepository.findByStoreIdIn(storeIds);
+        if (operatingHours.isEmpty()) return Collections.emptyMap();
+
+        // 휴게시간을 영업시간 ID 기준으로 묶기
+        Map<Long, List<BreakTimeResponse>> breakTimesByHourId = storeBreakTimeRepository
+                .findByOperatingHourIdIn(operatingHours.stream().map(StoreOperatingHour::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(StoreBreakTime::getOperatingHourId,
+                        Collectors.mapping(this::toBreakTimeResponse, Collectors.toList())));
+
+        return operatingHours.stream()
+                .collect(Collectors.groupingBy(StoreOperatingHour::getStoreId,
+                        Collectors.mapping(o -> toOperatingHourResponse(o,
+                                        breakTimesByHourId.getOrDefault(o.getId(), Collections.emptyList())),
+                                Collectors.toList())));
+    }
+
     /**
      * 휴무일 조회 및 변환 메서드
      */
     @Override
     public List<HolidayResponse> getHolidaysResponse(Long storeId) {
         List<StoreHoliday> holidays = storeHolidayRepository.findByStoreId(storeId);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd");
 
         if (holidays.isEmpty()) return Collections.emptyList();
 
+        return toHolidayResponses(holidays);
+    }
+
+    /**
+     * 여러 가게의 휴무일 일괄 조회 및 변환 메서드
+     */
+    @Override
+    public Map<Long, List<HolidayResponse>> getHolidaysResponses(List<Long> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) return Collections.emptyMap();
+
+        return storeHolidayRepository.findByStoreIdIn(storeIds).stream()
+                .collect(Collectors.groupingBy(StoreHoliday::getStoreId,
+                        Collectors.collectingAndThen(Collectors.toList(), this::toHolidayResponses)));
+    }
+
+    private OperatingHourResponse toOperatingHourResponse(StoreOperatingHour o, List<BreakTimeResponse> breakTimes) {
+        return OperatingHourResponse.builder()
+                .dayOfWeek(o.getDayOfWeek())
+                .openingTime(o.getOpeningTime())
+                .closingTime(o.getClosingTime())
+                .lastOrderTime(o.getLastOrderTime())
+                .isClosed(o.getIsClosed())
+                .regularClosureType(o.getRegularClosureType() != null ? o.getRegularClosureType().name() : null)
+                .regularClosureWeeks(o.getRegularClosureWeeks())
+                .breakTimes(breakTimes)
+                .build();
+    }
+
+    private BreakTimeResponse toBreakTimeResponse(StoreBreakTime b) {
+        return BreakTimeResponse.builder()
+                .startTime(b.getStartTime())
+                .endTime(b.getEndTime())
+                .build();
+    }
+
+    private List<HolidayResponse> toHolidayResponses(List<StoreHoliday> holidays) {
         return holidays.stream()
                 .sorted(Comparator.comparing(StoreHoliday::getStartDate))
                 .map(h -> HolidayResponse.builder()
-                        .startDate(h.getStartDate().format(formatter))
-                        .endDate(h.getEndDate().format(formatter))
+                        .startDate(h.getStartDate().format(HOLIDAY_DATE_FORMATTER))
+                        .endDate(h.getEndDate().format(HOLIDAY_DATE_FORMATTER))
                         .reason(h.getReason())
                         .build())
                 .toList();
@@ -138,6 +192,8 @@ public class StoreScheduleServiceImpl implements StoreScheduleService {
             if (!breakTimes.isEmpty()) {
                 storeBreakTimeRepository.saveAll(breakTimes);
             }
+
+            storeChangePublisher.publish(store.getStoreId(), StoreChangeType.SCHEDULE);
         }
     }
 
@@ -151,6 +207,7 @@ public class StoreScheduleServiceImpl implements StoreScheduleService {
     public List<StoreHoliday> saveHolidays(List<BaseStoreRequest.HolidayRequest> requests, Long storeId) {
         // 기존 휴무일 모두 삭제
         storeHolidayRepository.deleteByStoreId(storeId);
+        storeChangePublisher.publish(storeId, StoreChangeType.SCHEDULE);
 
         // 새로 저장할 휴무일이 없으면 빈 리스트 반환
         if (requests == null || requests.isEmpty()) {
@@ -0,0 +1,41 @@
+package org.swyp.dessertbee.store.store.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.swyp.dessertbee.store.menu.dto.response.MenuResponse;
+import org.swyp.dessertbee.store.notice.dto.response.StoreNoticeResponse;
+import org.swyp.dessertbee.store.schedule.dto.HolidayResponse;
+import org.swyp.dessertbee.store.schedule.dto.OperatingHourResponse;
+import org.swyp.dessertbee.store.store.dto.response.StoreImageResponse;
+import org.swyp.dessertbee.store.tag.dto.StoreTagResponse;
+
+import java.util.List;
+
+/**
+ * 가게 간략/상세 조회에서 사용자와 무관하게 공유되는 정적 정보 묶음
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StoreStaticData {
+    private final List<StoreImageResponse> storeImages;
+    private final List<StoreImageResponse> ownerPickImages;
+    private final List<StoreTagResponse> tags;
+    private final List<String> storeLinks;
+    private final String primaryStoreLink;
+    private final List<OperatingHourResponse> operatingHours;
+    private final List<HolidayResponse> holidays;
+    private final List<StoreNoticeResponse> notices;
+    private final List<MenuResponse> menus;
+
+    /** 모든 섹션이 정상 조회되었는지 여부 (false면 캐시에 적재하지 않음) */
+    private final boolean complete;
+
+    /** 태그명 목록 */
+    public List<String> getTagNames() {
+        return tags.stream()
+                .map(StoreTagResponse::getName)
+                .toList();
+    }
+}
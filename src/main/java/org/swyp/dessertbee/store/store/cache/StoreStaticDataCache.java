@@ -0,0 +1,127 @@
+package org.swyp.dessertbee.store.store.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.swyp.dessertbee.common.entity.ImageType;
+import org.swyp.dessertbee.common.event.ImageChangedEvent;
+import org.swyp.dessertbee.store.menu.repository.MenuRepository;
+import org.swyp.dessertbee.store.store.event.StoreChangedEvent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 가게 정적 정보 read-through 캐시 (storeId 기준)
+ * - 가게별 버전을 두어, 조회 도중 무효화된 경우 이전 데이터가 캐시에 다시 적재되지 않도록 함
+ *   (버전은 전역 증가값으로 발급하므로 버전 항목이 만료되어도 새 버전이 이전 값과 겹치지 않음)
+ * - 가게/메뉴/공지/일정/이미지 변경 이벤트를 트랜잭션 커밋 이후에 받아 무효화
+ * - 사용자별 정보(저장 여부, 리뷰, 메이트 등)는 캐시하지 않음
+ */
+@Slf4j
+@Component
+public class StoreStaticDataCache {
+
+    private final Cache<Long, CachedEntry> cache;
+    private final Cache<Long, Long> versions;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final MenuRepository menuRepository;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public StoreStaticDataCache(MenuRepository menuRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${store.static-cache.max-size:1000}") long maxSize,
+                                @Value("${store.static-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.menuRepository = menuRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        // 버전은 캐시 항목보다 오래 유지 (먼저 만료되면 불필요한 캐시 미스만 발생)
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize * 2)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes * 2))
+                .build();
+
+        this.hitCounter = Counter.builder("store.static.cache.requests")
+                .description("가게 정적 정보 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("store.static.cache.requests")
+                .description("가게 정적 정보 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("store.static.cache.invalidations")
+                .description("가게 정적 정보 캐시 무효화 수")
+                .register(meterRegistry);
+        Gauge.builder("store.static.cache.size", cache, Cache::estimatedSize)
+                .description("가게 정적 정보 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 적재
+     * 일부 섹션이 기본값으로 대체된 결과(complete=false)는 적재하지 않음
+     */
+    public StoreStaticData get(Long storeId, Supplier<StoreStaticData> loader) {
+        long version = currentVersion(storeId);
+        CachedEntry cached = cache.getIfPresent(storeId);
+        if (cached != null && cached.version() == version) {
+            hitCounter.increment();
+            return cached.data();
+        }
+
+        missCounter.increment();
+        StoreStaticData data = loader.get();
+        if (data.isComplete()) {
+            // 조회 도중 버전이 바뀌었다면 기존 값을 유지
+            cache.asMap().compute(storeId, (id, existing) ->
+                    currentVersion(id) == version ? new CachedEntry(version, data) : existing);
+        }
+        return data;
+    }
+
+    /** 특정 가게 캐시 무효화 */
+    public void invalidate(Long storeId) {
+        if (storeId == null) return;
+        versions.put(storeId, versionSequence.incrementAndGet());
+        cache.invalidate(storeId);
+        invalidationCounter.increment();
+        log.debug("가게 정적 정보 캐시 무효화 - storeId: {}", storeId);
+    }
+
+    /** 가게 정보 변경 이벤트 처리 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStoreChanged(StoreChangedEvent event) {
+        invalidate(event.getStoreId());
+    }
+
+    /** 가게/메뉴 이미지 변경 이벤트 처리 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleImageChanged(ImageChangedEvent event) {
+        ImageType refType = event.getRefType();
+        if (refType == ImageType.STORE || refType == ImageType.OWNERPICK) {
+            invalidate(event.getRefId());
+        } else if (refType == ImageType.MENU) {
+            invalidate(menuRepository.findStoreIdByMenuId(event.getRefId()));
+        }
+    }
+
+    private long currentVersion(Long storeId) {
+        return versions.get(storeId, id -> versionSequence.incrementAndGet());
+    }
+
+    private record CachedEntry(long version, StoreStaticData data) {
+    }
+}
@@ -16,7 +16,10 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.swyp.dessertbee.common.annotation.ApiErrorResponses;
+import org.swyp.dessertbee.common.dto.CursorPageResponse;
 import org.swyp.dessertbee.common.exception.ErrorCode;
+import org.swyp.dessertbee.community.mate.dto.response.MateResponse;
+import org.swyp.dessertbee.community.review.dto.response.ReviewSummaryResponse;
 import org.swyp.dessertbee.search.dto.StoreSearchResponse;
 import org.swyp.dessertbee.search.dto.StoreSearchWrapperResponse;
 import org.swyp.dessertbee.search.service.SearchService;
@@ -242,6 +245,30 @@ public class StoreController {
         return storeService.getStoreDetails(storeUuid);
     }
 
+    /** 가게 커뮤니티 리뷰 조회 */
+    @Operation(summary = "가게 커뮤니티 리뷰 조회", description = "가게의 커뮤니티 리뷰를 최신순으로 커서 기반 페이지 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @ApiResponse( responseCode = "200", description = "가게 커뮤니티 리뷰 조회 성공", content = @Content(schema = @Schema(implementation = CursorPageResponse.class)))
+    @ApiErrorResponses({ErrorCode.INVALID_STORE_UUID, ErrorCode.STORE_SERVICE_ERROR, ErrorCode.INVALID_INPUT_VALUE})
+    @GetMapping("/{storeUuid}/community-reviews")
+    public CursorPageResponse<ReviewSummaryResponse> getStoreCommunityReviews(
+            @PathVariable UUID storeUuid,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size) {
+        return storeService.getStoreCommunityReviews(storeUuid, cursor, size);
+    }
+
+    /** 가게 디저트 메이트 조회 */
+    @Operation(summary = "가게 디저트 메이트 조회", description = "가게의 디저트 메이트 모집글을 최신순으로 커서 기반 페이지 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @ApiResponse( responseCode = "200", description = "가게 디저트 메이트 조회 성공", content = @Content(schema = @Schema(implementation = CursorPageResponse.class)))
+    @ApiErrorResponses({ErrorCode.INVALID_STORE_UUID, ErrorCode.STORE_SERVICE_ERROR, ErrorCode.INVALID_INPUT_VALUE})
+    @GetMapping("/{storeUuid}/mates")
+    public CursorPageResponse<MateResponse> getStoreMates(
+            @PathVariable UUID storeUuid,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size) {
+        return storeService.getStoreMates(storeUuid, cursor, size);
+    }
+
     /** 가게 수정 */
     @Operation(summary = "가게 수정", description = "업주가 가게의 정보를 수정합니다.")
     @ApiResponse( responseCode = "200", description = "가게 수정 성공")
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import org.swyp.dessertbee.common.dto.CursorPageResponse;
 import org.swyp.dessertbee.community.mate.dto.response.MateResponse;
 import org.swyp.dessertbee.community.review.dto.response.ReviewSummaryResponse;
 import org.swyp.dessertbee.store.menu.dto.response.MenuResponse;
@@ -112,9 +113,12 @@ public class StoreDetailResponse {
     @Schema(description = "총 리뷰 개수", example = "128")
     private Integer totalReviewCount;
 
-    @Schema(description = "한줄 리뷰 리스트", nullable = true)
+    @Schema(description = "한줄 리뷰 리스트 (최신순 첫 페이지)", nullable = true)
     private List<StoreReviewResponse> storeReviews;
 
+    @Schema(description = "한줄 리뷰 다음 페이지 커서 (GET /api/stores/{storeUuid}/reviews?cursor=)", nullable = true)
+    private String storeReviewsNextCursor;
+
     @NotNull
     @Schema(
             description = "태그 리스트",
@@ -151,12 +155,24 @@ public class StoreDetailResponse {
     @Schema(description = "가게를 저장한 사용자들의 취향 태그 Top3", example = "[{\"tagId\":1,\"name\":\"비건\",\"rank\":1}]", nullable = true)
     private List<TopPreferenceTagResponse> topPreferences;
 
-    @Schema(description = "커뮤니티 리뷰 리스트", nullable = true)
+    @Schema(description = "커뮤니티 리뷰 리스트 (최신순 첫 페이지)", nullable = true)
     private List<ReviewSummaryResponse> communityReviews;
 
-    @Schema(description = "디저트 메이트 모집글 리스트", nullable = true)
+    @Schema(description = "총 커뮤니티 리뷰 개수", example = "12")
+    private Long totalCommunityReviewCount;
+
+    @Schema(description = "커뮤니티 리뷰 다음 페이지 커서 (GET /api/stores/{storeUuid}/community-reviews?cursor=)", nullable = true)
+    private String communityReviewsNextCursor;
+
+    @Schema(description = "디저트 메이트 모집글 리스트 (최신순 첫 페이지)", nullable = true)
     private List<MateResponse> mate;
 
+    @Schema(description = "총 디저트 메이트 모집글 개수", example = "3")
+    private Long totalMateCount;
+
+    @Schema(description = "디저트 메이트 다음 페이지 커서 (GET /api/stores/{storeUuid}/mates?cursor=)", nullable = true)
+    private String mateNextCursor;
+
     @Schema(description = "저장 여부", example = "true", nullable = true)
     private Boolean saved;
 
@@ -164,7 +180,6 @@ public class StoreDetailResponse {
     private Long savedListId;
 
     public static StoreDetailResponse fromEntity(Store store, Long userId, UUID userUuid,
-                                                 int totalReviewCount,
                                                  List<OperatingHourResponse> operatingHours,
                                                  List<HolidayResponse> holidays,
                                                  List<StoreNoticeResponse> notices,
@@ -172,12 +187,12 @@ public class StoreDetailResponse {
                                                  List<StoreImageResponse> storeImages,
                                                  List<StoreImageResponse> ownerPickImages,
                                                  List<TopPreferenceTagResponse> topPreferences,
-                                                 List<StoreReviewResponse> storeReviews,
+                                                 CursorPageResponse<StoreReviewResponse> storeReviews,
                                                  List<StoreTagResponse> tags,
                                                  List<String> storeLinks,
                                                  String primaryStoreLink,
-                                                 List<ReviewSummaryResponse> communityReviews,
-                                                 List<MateResponse> mate,
+                                                 CursorPageResponse<ReviewSummaryResponse> communityReviews,
+                                                 CursorPageResponse<MateResponse> mates,
                                                  boolean saved,
                                                  Long savedListId) {
         return StoreDetailResponse.builder()
@@ -211,11 +226,16 @@ public class StoreDetailResponse {
                 .ownerPickImages(ownerPickImages)
                 .primaryStoreLink(primaryStoreLink)
                 .storeLinks(storeLinks)
-                .totalReviewCount(totalReviewCount)
-                .storeReviews(storeReviews)
+                .totalReviewCount((int) storeReviews.getTotalCount())
+                .storeReviews(storeReviews.getItems())
+                .storeReviewsNextCursor(storeReviews.getNextCursor())
                 .tags(tags)
-                .communityReviews(communityReviews)
-                .mate(mate)
+                .communityReviews(communityReviews.getItems())
+                .totalCommunityReviewCount(communityReviews.getTotalCount())
+                .communityReviewsNextCursor(communityReviews.getNextCursor())
+                .mate(mates.getItems())
+                .totalMateCount(mates.getTotalCount())
+                .mateNextCursor(mates.getNextCursor())
                 .saved(saved)
                 .savedListId(savedListId)
                 .build();
@@ -0,0 +1,81 @@
+package org.swyp.dessertbee.store.store.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가게 변경 이벤트 발행기
+ * - 한 트랜잭션 안에서 여러 서비스(가게, 메뉴, 일정, 공지)가 같은 가게를 바꿔도 커밋 직전에 가게당 한 번만 발행
+ * - 롤백되면 발행하지 않으며, 트랜잭션 밖에서 호출되면 즉시 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 가게 변경 기록 (트랜잭션 커밋 직전에 모아서 발행)
+     */
+    public void publish(Long storeId, StoreChangeType changeType) {
+        if (storeId == null) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(new StoreChangedEvent(storeId, Collections.unmodifiableSet(EnumSet.of(changeType))));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, Set<StoreChangeType>> pending = (Map<Long, Set<StoreChangeType>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingChangeSynchronization(pending));
+        }
+        pending.computeIfAbsent(storeId, id -> EnumSet.noneOf(StoreChangeType.class)).add(changeType);
+    }
+
+    /**
+     * 트랜잭션별 변경 목록을 커밋 직전에 발행
+     * (beforeCommit 에서 발행해야 @TransactionalEventListener(AFTER_COMMIT) 리스너가 같은 트랜잭션에 등록됨)
+     */
+    private class PendingChangeSynchronization implements TransactionSynchronization {
+
+        private final Map<Long, Set<StoreChangeType>> pending;
+
+        private PendingChangeSynchronization(Map<Long, Set<StoreChangeType>> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StoreChangePublisher.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(StoreChangePublisher.this, pending);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            pending.forEach((storeId, changeTypes) ->
+                    eventPublisher.publishEvent(new StoreChangedEvent(storeId, Collections.unmodifiableSet(EnumSet.copyOf(changeTypes)))));
+            pending.clear();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StoreChangePublisher.this);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.swyp.dessertbee.store.store.event;
+
+/**
+ * 가게 변경 유형
+ * - 검색 색인(이름/설명/메뉴/태그)과 좌표 인덱스는 해당 유형이 포함된 경우에만 다시 반영
+ */
+public enum StoreChangeType {
+    INFO,       // 기본 정보, 좌표, 태그, 링크, 이미지, 삭제
+    MENU,       // 메뉴 추가/수정/삭제
+    NOTICE,     // 공지
+    SCHEDULE    // 영업 시간, 휴무일
+}
@@ -0,0 +1,27 @@
+package org.swyp.dessertbee.store.store.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 가게 정적 정보(기본 정보, 메뉴, 공지, 영업 시간, 휴무일, 링크, 태그, 이미지) 변경 이벤트
+ * - 트랜잭션마다 가게당 한 번 발행되며, 트랜잭션 안에서 일어난 변경 유형을 모두 담음 (StoreChangePublisher)
+ */
+@Getter
+@AllArgsConstructor
+public class StoreChangedEvent {
+    private final Long storeId;
+    private final Set<StoreChangeType> changeTypes;
+
+    /** 검색 색인(가게명, 주소, 설명, 메뉴, 태그) 재반영이 필요한 변경인지 여부 */
+    public boolean affectsSearch() {
+        return changeTypes.contains(StoreChangeType.INFO) || changeTypes.contains(StoreChangeType.MENU);
+    }
+
+    /** 좌표 인덱스 재반영이 필요한 변경인지 여부 */
+    public boolean affectsLocation() {
+        return changeTypes.contains(StoreChangeType.INFO);
+    }
+}
@@ -0,0 +1,142 @@
+package org.swyp.dessertbee.store.store.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 가게 상세 화면의 독립적인 섹션(이미지, 메뉴, 리뷰 등)을 병렬로 조회하는 로더
+ * - 전용 고정 크기 풀에서 실행하며, 큐가 가득 차면 호출 스레드에서 실행 (자연스러운 back-pressure)
+ * - 섹션별 타임아웃/예외 시 기본값을 반환하여 한 섹션의 지연이 전체 페이지 실패로 이어지지 않도록 함
+ * - 작업 스레드마다 DB 커넥션을 하나씩 사용하므로 풀 크기는 Hikari maximum-pool-size 보다 작게 유지
+ */
+@Slf4j
+@Component
+public class StoreDetailSectionLoader implements DisposableBean {
+
+    private static final int QUEUE_CAPACITY = 100;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final long sectionTimeoutMillis;
+
+    public StoreDetailSectionLoader(
+            @Value("${store.detail.section-timeout-ms:3000}") long sectionTimeoutMillis,
+            @Value("${store.detail.section-pool-size:4}") int sectionPoolSize,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int dbMaximumPoolSize
+    ) {
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+
+        // 다른 요청이 사용할 커넥션을 남겨두도록 DB 커넥션 풀의 절반을 넘지 않게 제한
+        int poolSize = Math.max(1, Math.min(sectionPoolSize, dbMaximumPoolSize / 2));
+        if (poolSize != sectionPoolSize) {
+            log.warn("가게 상세 섹션 풀 크기 조정 - 설정값: {}, DB 커넥션 풀: {}, 적용값: {}",
+                    sectionPoolSize, dbMaximumPoolSize, poolSize);
+        }
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("store-detail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.initialize();
+    }
+
+    /**
+     * 섹션 조회 비동기 실행
+     * - 타임아웃 시 대기 중이거나 실행 중인 작업을 취소하여, 이미 기본값으로 대체된 섹션이 커넥션을 계속 점유하지 않도록 함
+     * @param section 로그용 섹션 이름
+     * @param loader 섹션 조회 로직
+     * @param fallback 타임아웃 또는 실패 시 반환할 기본값
+     */
+    public <T> CompletableFuture<T> load(String section, Supplier<T> loader, T fallback) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            try {
+                result.complete(loader.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result
+                .orTimeout(sectionTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    task.cancel(true);
+                    log.warn("가게 상세 섹션 조회 실패 - 기본값으로 대체: section={}, 사유: {}", section, e.toString());
+                    return fallback;
+                });
+    }
+
+    /**
+     * 필수 조회를 작업 스레드에서 실행하고 결과를 기다림 (기본값 없이 실패를 그대로 전달)
+     * - 작업 스레드에는 open-in-view 세션이 없으므로 조회가 끝나면 커넥션이 바로 반납되고,
+     *   요청 스레드는 DB를 직접 조회하지 않아 섹션을 기다리는 동안 커넥션을 점유하지 않음
+     * @param section 로그용 섹션 이름
+     * @param loader 조회 로직
+     */
+    public <T> T call(String section, Supplier<T> loader) {
+        Future<T> task = executor.submit(loader::get);
+        try {
+            return task.get(sectionTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("가게 상세 조회 실패: section=" + section, e.getCause());
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            throw new IllegalStateException("가게 상세 조회 시간 초과: section=" + section, e);
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("가게 상세 조회 중단: section=" + section, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 요청 스레드의 SecurityContext와 RequestAttributes를 작업 스레드로 전달
+     * (getCurrentUser, 요청 범위 UserContext 등이 작업 스레드에서도 동작하도록)
+     */
+    private static class RequestContextTaskDecorator implements TaskDecorator {
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            SecurityContext securityContext = SecurityContextHolder.getContext();
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+            return () -> {
+                SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+                RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+                try {
+                    SecurityContextHolder.setContext(securityContext);
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                    runnable.run();
+                } finally {
+                    SecurityContextHolder.setContext(previousSecurityContext);
+                    RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.swyp.dessertbee.store.store.handler;
+
+import org.swyp.dessertbee.store.store.dto.response.StoreMapResponse;
+import org.swyp.dessertbee.store.store.entity.Store;
+
+import java.util.List;
+
+public interface StoreMapHandler {
+    /** 가게 목록을 지도용 응답으로 일괄 변환 (가게 수와 무관하게 고정 횟수 조회) */
+    List<StoreMapResponse> toStoreMapResponses(List<Store> stores);
+}
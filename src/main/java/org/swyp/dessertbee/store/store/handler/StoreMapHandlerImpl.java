@@ -0,0 +1,71 @@
+package org.swyp.dessertbee.store.store.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.swyp.dessertbee.common.entity.ImageType;
+import org.swyp.dessertbee.common.service.ImageService;
+import org.swyp.dessertbee.store.review.repository.StoreReviewRepository;
+import org.swyp.dessertbee.store.schedule.dto.HolidayResponse;
+import org.swyp.dessertbee.store.schedule.dto.OperatingHourResponse;
+import org.swyp.dessertbee.store.schedule.service.StoreScheduleService;
+import org.swyp.dessertbee.store.store.dto.response.StoreMapResponse;
+import org.swyp.dessertbee.store.store.entity.Store;
+import org.swyp.dessertbee.store.tag.service.StoreTagService;
+
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreMapHandlerImpl implements StoreMapHandler {
+
+    private final StoreScheduleService storeScheduleService;
+    private final StoreReviewRepository storeReviewRepository;
+    private final StoreTagService storeTagService;
+    private final ImageService imageService;
+
+    /**
+     * 가게 목록을 StoreMapResponse 리스트로 일괄 변환
+     * 운영시간, 휴게시간, 휴무일, 리뷰 수, 태그, 이미지를 각각 IN 쿼리 한 번으로 조회한 뒤 메모리에서 조립
+     */
+    @Override
+    public List<StoreMapResponse> toStoreMapResponses(List<Store> stores) {
+        if (stores == null || stores.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> storeIds = stores.stream().map(Store::getStoreId).toList();
+
+        Map<Long, List<OperatingHourResponse>> operatingHoursMap = storeScheduleService.getOperatingHoursResponses(storeIds);
+        Map<Long, List<HolidayResponse>> holidaysMap = storeScheduleService.getHolidaysResponses(storeIds);
+        Map<Long, Long> reviewCountMap = getReviewCounts(storeIds);
+        Map<Long, List<String>> tagsMap = storeTagService.getTagNamesByStoreIds(storeIds);
+        Map<Long, List<String>> storeImagesMap = imageService.getImagesByTypeAndIds(ImageType.STORE, storeIds);
+
+        return stores.stream()
+                .map(store -> StoreMapResponse.fromEntity(
+                        store,
+                        operatingHoursMap.getOrDefault(store.getStoreId(), Collections.emptyList()),
+                        holidaysMap.getOrDefault(store.getStoreId(), Collections.emptyList()),
+                        reviewCountMap.getOrDefault(store.getStoreId(), 0L).intValue(),
+                        tagsMap.getOrDefault(store.getStoreId(), Collections.emptyList()),
+                        storeImagesMap.getOrDefault(store.getStoreId(), Collections.emptyList())))
+                .toList();
+    }
+
+    /**
+     * 가게별 한줄 리뷰 개수 일괄 집계
+     */
+    private Map<Long, Long> getReviewCounts(List<Long> storeIds) {
+        Map<Long, Long> reviewCounts = new HashMap<>();
+        for (Object[] row : storeReviewRepository.countByStoreIdsGroupByStoreId(storeIds)) {
+            Long storeId = (Long) row[0];
+            Long count = (Long) row[1];
+            reviewCounts.put(storeId, count);
+        }
+        return reviewCounts;
+    }
+}
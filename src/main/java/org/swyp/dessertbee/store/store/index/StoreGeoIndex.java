@@ -0,0 +1,220 @@
+package org.swyp.dessertbee.store.store.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.swyp.dessertbee.common.util.GeoBoundingBox;
+import org.swyp.dessertbee.store.preference.entity.StoreTopTag;
+import org.swyp.dessertbee.store.preference.repository.StoreTopTagRepository;
+import org.swyp.dessertbee.store.store.entity.Store;
+import org.swyp.dessertbee.store.store.event.StoreChangedEvent;
+import org.swyp.dessertbee.store.store.repository.StoreRepository;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 활성 가게 좌표의 인메모리 격자(grid) 인덱스
+ * - 가게 좌표는 거의 바뀌지 않으므로 기동 시 한 번 적재하고, 가게 변경 이벤트(커밋 이후)마다 해당 가게만 갱신
+ *   (롤백된 등록/수정/삭제가 인덱스에 남지 않도록 트랜잭션 안에서는 갱신하지 않음)
+ * - 반경 조회와 취향 태그(top3) 필터를 MySQL 없이 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndex {
+
+    /** 격자 한 칸의 크기 (도 단위, 약 1.1km) */
+    private static final double CELL_SIZE_DEGREES = 0.01;
+
+    /** ST_Distance_Sphere 기본 지구 반지름 (m) */
+    private static final double EARTH_RADIUS_METERS = 6_370_986.0;
+
+    /** 지도 필터에 사용하는 취향 태그 순위 상한 */
+    private static final int TOP_TAG_RANK_LIMIT = 3;
+
+    private final StoreRepository storeRepository;
+    private final StoreTopTagRepository storeTopTagRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    private record Entry(Long storeId, double latitude, double longitude, long cellKey, Set<Long> topTagIds) {}
+
+    /**
+     * 애플리케이션 기동 완료 후 전체 활성 가게 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[가게 좌표 인덱스] 초기 적재 실패 - DB 조회로 대체합니다.", e);
+        }
+    }
+
+    /**
+     * 전체 인덱스 재구성
+     */
+    public synchronized void rebuild() {
+        ready = false;
+        entries.clear();
+        cells.clear();
+
+        Map<Long, Set<Long>> topTagsByStoreId = loadTopTags();
+        for (Object[] row : storeRepository.findActiveStoreLocations()) {
+            Long storeId = (Long) row[0];
+            BigDecimal latitude = (BigDecimal) row[1];
+            BigDecimal longitude = (BigDecimal) row[2];
+            put(storeId, latitude.doubleValue(), longitude.doubleValue(),
+                    topTagsByStoreId.getOrDefault(storeId, Collections.emptySet()));
+        }
+
+        ready = true;
+        log.info("[가게 좌표 인덱스] 적재 완료 - 가게 수: {}, 격자 수: {}", entries.size(), cells.size());
+    }
+
+    /**
+     * 취향 태그 top3 배치 이후 태그 정보만 다시 반영
+     */
+    public synchronized void reloadTopTags() {
+        Map<Long, Set<Long>> topTagsByStoreId = loadTopTags();
+        entries.replaceAll((storeId, entry) -> new Entry(storeId, entry.latitude(), entry.longitude(), entry.cellKey(),
+                topTagsByStoreId.getOrDefault(storeId, Collections.emptySet())));
+        log.info("[가게 좌표 인덱스] 취향 태그 갱신 완료 - 가게 수: {}", entries.size());
+    }
+
+    /**
+     * 가게 등록/수정/삭제 커밋 이후 좌표 반영 (메뉴/공지/일정만 바뀐 경우는 건너뜀)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStoreChanged(StoreChangedEvent event) {
+        if (!ready || event.getStoreId() == null || !event.affectsLocation()) return;
+
+        try {
+            storeRepository.findByStoreIdAndDeletedAtIsNull(event.getStoreId())
+                    .ifPresentOrElse(this::upsert, () -> remove(event.getStoreId()));
+        } catch (Exception e) {
+            log.warn("[가게 좌표 인덱스] 가게 반영 실패 - storeId: {}, 사유: {}", event.getStoreId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 가게 좌표 반영 (기존 취향 태그는 유지)
+     */
+    public synchronized void upsert(Store store) {
+        if (store.getDeletedAt() != null || store.getLatitude() == null || store.getLongitude() == null) {
+            remove(store.getStoreId());
+            return;
+        }
+
+        Entry previous = entries.get(store.getStoreId());
+        Set<Long> topTagIds = previous != null ? previous.topTagIds() : Collections.emptySet();
+        removeFromCell(previous);
+        put(store.getStoreId(), store.getLatitude().doubleValue(), store.getLongitude().doubleValue(), topTagIds);
+    }
+
+    /**
+     * 가게 인덱스에서 제거
+     */
+    public synchronized void remove(Long storeId) {
+        removeFromCell(entries.remove(storeId));
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (초기 적재 전이거나 실패한 경우 false)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 반경 내 가게 ID 조회
+     */
+    public List<Long> findStoreIdsWithinRadius(double lat, double lng, double radius) {
+        return search(lat, lng, radius, null);
+    }
+
+    /**
+     * 반경 내 취향 태그(top3) 중 하나라도 일치하는 가게 ID 조회
+     */
+    public List<Long> findStoreIdsWithinRadiusAndTags(double lat, double lng, double radius, Collection<Long> preferenceTagIds) {
+        return search(lat, lng, radius, new HashSet<>(preferenceTagIds));
+    }
+
+    private List<Long> search(double lat, double lng, double radius, Set<Long> preferenceTagIds) {
+        GeoBoundingBox box = GeoBoundingBox.around(lat, lng, radius);
+        long minLatCell = toCell(box.minLat());
+        long maxLatCell = toCell(box.maxLat());
+        long minLngCell = toCell(box.minLng());
+        long maxLngCell = toCell(box.maxLng());
+
+        List<Long> result = new ArrayList<>();
+        for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                Set<Long> storeIds = cells.get(cellKey(latCell, lngCell));
+                if (storeIds == null) continue;
+
+                for (Long storeId : storeIds) {
+                    Entry entry = entries.get(storeId);
+                    if (entry == null) continue;
+                    if (preferenceTagIds != null && Collections.disjoint(entry.topTagIds(), preferenceTagIds)) continue;
+                    if (distanceMeters(lat, lng, entry.latitude(), entry.longitude()) <= radius) {
+                        result.add(storeId);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void put(Long storeId, double latitude, double longitude, Set<Long> topTagIds) {
+        long key = cellKey(toCell(latitude), toCell(longitude));
+        entries.put(storeId, new Entry(storeId, latitude, longitude, key, topTagIds));
+        cells.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(storeId);
+    }
+
+    private void removeFromCell(Entry entry) {
+        if (entry == null) return;
+        Set<Long> storeIds = cells.get(entry.cellKey());
+        if (storeIds != null) {
+            storeIds.remove(entry.storeId());
+            if (storeIds.isEmpty()) {
+                cells.remove(entry.cellKey());
+            }
+        }
+    }
+
+    private Map<Long, Set<Long>> loadTopTags() {
+        return storeTopTagRepository.findByTagRankLessThanEqual(TOP_TAG_RANK_LIMIT).stream()
+                .collect(Collectors.groupingBy(StoreTopTag::getStoreId,
+                        Collectors.mapping(StoreTopTag::getTagId, Collectors.toUnmodifiableSet())));
+    }
+
+    private static long toCell(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(long latCell, long lngCell) {
+        return (latCell << 32) ^ (lngCell & 0xFFFFFFFFL);
+    }
+
+    /**
+     * ST_Distance_Sphere와 동일한 하버사인 거리 (m)
+     */
+    private static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
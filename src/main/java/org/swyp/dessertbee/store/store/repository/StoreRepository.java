@@ -1,14 +1,17 @@
 package org.swyp.dessertbee.store.store.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.swyp.dessertbee.common.util.GeoBoundingBox;
 import org.swyp.dessertbee.store.store.entity.Store;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,12 +24,20 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Query("UPDATE Store s SET s.averageRating = :newAverageRating WHERE s.storeId = :storeId AND s.deletedAt IS NULL")
     void updateAverageRating(@Param("storeId") Long storeId, @Param("newAverageRating") BigDecimal newAverageRating);
 
+    /**
+     * 반경 내 가게 조회
+     * - latitude/longitude 인덱스 범위 조건으로 후보를 먼저 좁힌 뒤 정확한 거리 계산
+     */
     @Query(value = """
         SELECT * FROM store
-        WHERE ST_Distance_Sphere(point(:lng, :lat), point(longitude, latitude)) <= :radius
-        AND deleted_at IS NULL
+        WHERE latitude BETWEEN :minLat AND :maxLat
+          AND longitude BETWEEN :minLng AND :maxLng
+          AND ST_Distance_Sphere(point(:lng, :lat), point(longitude, latitude)) <= :radius
+          AND deleted_at IS NULL
     """, nativeQuery = true)
-    List<Store> findStoresByLocation(@Param("lat") Double lat, @Param("lng") Double lng, @Param("radius") Double radius);
+    List<Store> findStoresByLocation(@Param("lat") Double lat, @Param("lng") Double lng, @Param("radius") Double radius,
+                                     @Param("minLat") Double minLat, @Param("maxLat") Double maxLat,
+                                     @Param("minLng") Double minLng, @Param("maxLng") Double maxLng);
 
     /**
      * 반경 내 특정 취향 태그를 가지는 가게 조회
@@ -37,12 +48,16 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     JOIN store_top_tag stt ON s.store_id = stt.store_id
     WHERE stt.tag_id IN (:preferenceTagIds)
       AND stt.tag_rank <= 3
+      AND s.latitude BETWEEN :minLat AND :maxLat
+      AND s.longitude BETWEEN :minLng AND :maxLng
       AND ST_Distance_Sphere(point(:lng, :lat), point(s.longitude, s.latitude)) <= :radius
       AND s.deleted_at IS NULL
 """, nativeQuery = true)
     List<Store> findStoresByLocationAndTags(@Param("lat") Double lat,
                                            @Param("lng") Double lng,
-                                           @Param("radius") Double radius, @Param("preferenceTagIds") List<Long> preferenceTagIds);
+                                           @Param("radius") Double radius, @Param("preferenceTagIds") List<Long> preferenceTagIds,
+                                           @Param("minLat") Double minLat, @Param("maxLat") Double maxLat,
+                                           @Param("minLng") Double minLng, @Param("maxLng") Double maxLng);
 
     /**
      * 반경 내 검색어에 맞는 가게 조회 메서드
@@ -55,13 +70,55 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
             "WHERE (MATCH(s.name, s.address) AGAINST(:searchKeyword IN NATURAL LANGUAGE MODE) " +
             "   OR MATCH(st.name) AGAINST(:searchKeyword IN NATURAL LANGUAGE MODE) " +
             "   OR MATCH(m.name) AGAINST(:searchKeyword IN NATURAL LANGUAGE MODE)) " +
+            "AND s.latitude BETWEEN :minLat AND :maxLat " +
+            "AND s.longitude BETWEEN :minLng AND :maxLng " +
             "AND ST_Distance_Sphere(point(:lng, :lat), point(s.longitude, s.latitude)) <= :radius " +
             "AND s.deleted_at IS NULL",
             nativeQuery = true)
     List<Store> findStoresByLocationAndKeyword(@Param("lat") Double lat,
                                                @Param("lng") Double lng,
                                                @Param("radius") Double radius,
-                                               @Param("searchKeyword") String searchKeyword);
+                                               @Param("searchKeyword") String searchKeyword,
+                                               @Param("minLat") Double minLat, @Param("maxLat") Double maxLat,
+                                               @Param("minLng") Double minLng, @Param("maxLng") Double maxLng);
+
+    /** 반경 내 가게 조회 (바운딩 박스 사전 필터 적용) */
+    default List<Store> findStoresByLocation(Double lat, Double lng, Double radius) {
+        GeoBoundingBox box = GeoBoundingBox.around(lat, lng, radius);
+        return findStoresByLocation(lat, lng, radius, box.minLat(), box.maxLat(), box.minLng(), box.maxLng());
+    }
+
+    /** 반경 내 특정 취향 태그를 가지는 가게 조회 (바운딩 박스 사전 필터 적용) */
+    default List<Store> findStoresByLocationAndTags(Double lat, Double lng, Double radius, List<Long> preferenceTagIds) {
+        GeoBoundingBox box = GeoBoundingBox.around(lat, lng, radius);
+        return findStoresByLocationAndTags(lat, lng, radius, preferenceTagIds,
+                box.minLat(), box.maxLat(), box.minLng(), box.maxLng());
+    }
+
+    /** 반경 내 검색어에 맞는 가게 조회 (바운딩 박스 사전 필터 적용) */
+    default List<Store> findStoresByLocationAndKeyword(Double lat, Double lng, Double radius, String searchKeyword) {
+        GeoBoundingBox box = GeoBoundingBox.around(lat, lng, radius);
+        return findStoresByLocationAndKeyword(lat, lng, radius, searchKeyword,
+                box.minLat(), box.maxLat(), box.minLng(), box.maxLng());
+    }
+
+    /**
+     * 검색어에 맞는 가게 ID 조회 (FULLTEXT 검색 엔진용)
+     */
+    @Query(value = """
+        SELECT DISTINCT s.store_id
+        FROM store s
+        LEFT JOIN store_tag_relation str ON s.store_id = str.store_id
+        LEFT JOIN store_tag st ON str.tag_id = st.id
+        LEFT JOIN menu m ON s.store_id = m.store_id AND m.deleted_at IS NULL
+        WHERE (
+            MATCH(s.name, s.address) AGAINST(:searchKeyword IN BOOLEAN MODE)
+            OR MATCH(st.name) AGAINST(:searchKeyword IN BOOLEAN MODE)
+            OR MATCH(m.name) AGAINST(:searchKeyword IN BOOLEAN MODE)
+        )
+        AND s.deleted_at IS NULL
+    """, nativeQuery = true)
+    List<Long> findStoreIdsByKeyword(@Param("searchKeyword") String searchKeyword);
 
     /**
      * 검색어에 맞는 가게 조회 메서드
@@ -83,6 +140,28 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
     Optional<Store> findByStoreIdAndDeletedAtIsNull(Long storeId);
 
+    List<Store> findAllByStoreIdInAndDeletedAtIsNull(List<Long> storeIds);
+
+    /**
+     * 좌표 인덱스 적재용 활성 가게 (ID, 위도, 경도) 조회
+     */
+    @Query("SELECT s.storeId, s.latitude, s.longitude FROM Store s " +
+            "WHERE s.deletedAt IS NULL AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL")
+    List<Object[]> findActiveStoreLocations();
+
+    /**
+     * 검색어 자동완성 인덱스 적재용 활성 가게 (ID, UUID, 이름) 조회
+     */
+    @Query("SELECT s.storeId, s.storeUuid, s.name FROM Store s WHERE s.deletedAt IS NULL")
+    List<Object[]> findActiveStoreNames();
+
+    /**
+     * 검색 인덱스 재색인용 활성 가게 (ID, UUID, 이름, 주소)를 ID 기준 키셋 페이지로 조회
+     */
+    @Query("SELECT s.storeId, s.storeUuid, s.name, s.address FROM Store s " +
+            "WHERE s.deletedAt IS NULL AND s.storeId > :lastStoreId ORDER BY s.storeId")
+    List<Object[]> findActiveStoreSearchFieldsAfter(@Param("lastStoreId") Long lastStoreId, Pageable pageable);
+
     @Query("SELECT s.storeId FROM Store s WHERE s.storeUuid = :storeUuid")
     Long findStoreIdByStoreUuid(@Param("storeUuid") UUID storeUuid);
 
@@ -98,4 +177,10 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
     @Query("SELECT s.averageRating FROM Store s WHERE s.storeId = :storeId")
     BigDecimal findAverageRatingByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * 여러 가게의 평균 평점 일괄 조회 (storeId, averageRating)
+     */
+    @Query("SELECT s.storeId, s.averageRating FROM Store s WHERE s.storeId IN :storeIds")
+    List<Object[]> findAverageRatingsByStoreIds(@Param("storeIds") Collection<Long> storeIds);
 }
@@ -31,6 +31,8 @@ import org.swyp.dessertbee.store.schedule.dto.HolidayResponse;
 import org.swyp.dessertbee.store.schedule.dto.OperatingHourResponse;
 import org.swyp.dessertbee.store.store.dto.response.StoreImageResponse;
 import org.swyp.dessertbee.store.store.dto.response.StoreInfoResponse;
+import org.swyp.dessertbee.store.store.event.StoreChangePublisher;
+import org.swyp.dessertbee.store.store.event.StoreChangeType;
 import org.swyp.dessertbee.store.store.handler.StoreImageHandler;
 import org.swyp.dessertbee.store.store.handler.StoreMenuHandler;
 import org.swyp.dessertbee.store.tag.dto.StoreTagResponse;
@@ -69,7 +71,6 @@ public class StoreManageServiceImpl implements StoreManageService{
     private final StoreNoticeRepository storeNoticeRepository;
     private final StoreBreakTimeRepository storeBreakTimeRepository;
     private final MenuRepository menuRepository;
-    //private final StoreSearchService storeSearchService;
     private final StoreLinkService storeLinkService;
     private final StoreImageHandler storeImageHandler;
     private final StoreMenuHandler storeMenuHandler;
@@ -77,6 +78,7 @@ public class StoreManageServiceImpl implements StoreManageService{
     private final StoreScheduleService storeScheduleService;
     private final StoreNoticeService storeNoticeService;
     private final MenuService menuService;
+    private final StoreChangePublisher storeChangePublisher;
 
 
     /** 가게 등록 (이벤트, 쿠폰, 메뉴 + 이미지 포함) */
@@ -134,7 +136,8 @@ public class StoreManageServiceImpl implements StoreManageService{
             // 휴무일 저장
             storeScheduleService.saveHolidays(request.getHolidays(), store.getStoreId());
 
-            //storeSearchService.indexStore(store.getStoreId());
+            // 가게 변경 이벤트 (커밋 이후 정적 정보 캐시 무효화, 좌표 인덱스 반영)
+            storeChangePublisher.publish(store.getStoreId(), StoreChangeType.INFO);
         } catch (StoreExceptions.StoreCreationFailedException e) {
             log.warn("가게 등록 실패 - 업주Uuid: {}, 사유: {}", request.getUserUuid(), e.getMessage());
             throw e;
@@ -195,7 +198,8 @@ public class StoreManageServiceImpl implements StoreManageService{
             // 휴무일 저장
             storeScheduleService.saveHolidays(request.getHolidays(), storeId);
 
-            //storeSearchService.indexStore(storeId);
+            // 가게 변경 이벤트 (커밋 이후 정적 정보 캐시 무효화, 좌표 인덱스 반영)
+            storeChangePublisher.publish(storeId, StoreChangeType.INFO);
 
             return getStoreInfo(storeUuid);
         } catch (StoreExceptions.StoreUpdateException e) {
@@ -285,7 +289,7 @@ public class StoreManageServiceImpl implements StoreManageService{
 
             store.softDelete();
             storeRepository.save(store);
-            //storeSearchService.indexStore(storeId);
+            storeChangePublisher.publish(storeId, StoreChangeType.INFO);
         } catch (StoreExceptions.StoreDeleteException e){
             log.warn("가게 삭제 실패 - 사유: {}", e.getMessage());
             throw e;
@@ -1,5 +1,8 @@
 package org.swyp.dessertbee.store.store.service;
 
+import org.swyp.dessertbee.common.dto.CursorPageResponse;
+import org.swyp.dessertbee.community.mate.dto.response.MateResponse;
+import org.swyp.dessertbee.community.review.dto.response.ReviewSummaryResponse;
 import org.swyp.dessertbee.search.dto.StoreSearchResponse;
 import org.swyp.dessertbee.store.store.dto.response.*;
 
@@ -33,6 +36,12 @@ public interface StoreService {
     /** 가게 상세 정보 조회 */
     StoreDetailResponse getStoreDetails(UUID storeUuid);
 
+    /** 가게 커뮤니티 리뷰 커서 페이지 조회 */
+    CursorPageResponse<ReviewSummaryResponse> getStoreCommunityReviews(UUID storeUuid, String cursor, int size);
+
+    /** 가게 디저트 메이트 커서 페이지 조회 */
+    CursorPageResponse<MateResponse> getStoreMates(UUID storeUuid, String cursor, int size);
+
     /** 가게의 평균 평점 업데이트 (리뷰 등록,수정,삭제 시 호출) */
     void updateAverageRating(Long storeId);
 }
@@ -5,10 +5,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.swyp.dessertbee.common.dto.CursorPageResponse;
+import org.swyp.dessertbee.common.exception.BusinessException;
 import org.swyp.dessertbee.common.util.SearchUtil;
 import org.swyp.dessertbee.preference.exception.PreferenceExceptions.*;
 import org.swyp.dessertbee.search.dto.StoreSearchResponse;
+import org.swyp.dessertbee.search.engine.StoreSearchEngineRouter;
 import org.swyp.dessertbee.statistics.store.event.StoreViewEvent;
 import org.swyp.dessertbee.store.link.service.StoreLinkService;
 import org.swyp.dessertbee.store.menu.service.MenuService;
@@ -21,7 +25,12 @@ import org.swyp.dessertbee.store.preference.repository.StoreTopTagRepository;
 import org.swyp.dessertbee.store.schedule.dto.HolidayResponse;
 import org.swyp.dessertbee.store.schedule.dto.OperatingHourResponse;
 import org.swyp.dessertbee.store.schedule.service.StoreScheduleService;
+import org.swyp.dessertbee.store.store.cache.StoreStaticData;
+import org.swyp.dessertbee.store.store.cache.StoreStaticDataCache;
+import org.swyp.dessertbee.store.store.handler.StoreDetailSectionLoader;
 import org.swyp.dessertbee.store.store.handler.StoreImageHandler;
+import org.swyp.dessertbee.store.store.handler.StoreMapHandler;
+import org.swyp.dessertbee.store.store.index.StoreGeoIndex;
 import org.swyp.dessertbee.store.tag.dto.StoreTagResponse;
 import org.swyp.dessertbee.store.tag.service.StoreTagService;
 import org.swyp.dessertbee.user.exception.UserExceptions.*;
@@ -39,6 +48,9 @@ import org.swyp.dessertbee.user.service.UserService;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * StoreService 구현체
@@ -57,12 +69,19 @@ public class StoreServiceImpl implements StoreService {
     private final StoreNoticeService storeNoticeService;
     private final ApplicationEventPublisher eventPublisher;
     private final StoreTopTagRepository storeTopTagRepository;
-    //private final ElasticsearchClient client;
     private final StoreSupportService storeSupportService;
     private final StoreLinkService storeLinkService;
     private final StoreScheduleService storeScheduleService;
     private final StoreImageHandler storeImageHandler;
     private final StoreTagService storeTagService;
+    private final StoreMapHandler storeMapHandler;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreSearchEngineRouter storeSearchEngineRouter;
+    private final StoreDetailSectionLoader storeDetailSectionLoader;
+    private final StoreStaticDataCache storeStaticDataCache;
+
+    /** 상세 페이지에 포함할 리뷰/메이트 섹션별 항목 수 */
+    private static final int DETAIL_SECTION_PAGE_SIZE = 10;
 
     /**
      * 업주가 등록한 가게 (id, uuid, name) 리스트 조회
@@ -88,11 +107,11 @@ public class StoreServiceImpl implements StoreService {
     @Override
     public List<StoreMapResponse> getStoresByLocation(Double lat, Double lng, Double radius) {
         try{
-            List<Store> stores = storeRepository.findStoresByLocation(lat, lng, radius);
+            List<Store> stores = storeGeoIndex.isReady()
+                    ? findActiveStoresByIds(storeGeoIndex.findStoreIdsWithinRadius(lat, lng, radius))
+                    : storeRepository.findStoresByLocation(lat, lng, radius);
 
-            return stores.stream()
-                    .map(this::convertToStoreMapResponse)
-                    .toList();
+            return storeMapHandler.toStoreMapResponses(stores);
         } catch (StoreMapReadException e){
             log.warn("반경 내 가게 조회 실패 - 사유: {}", e.getMessage());
             throw e;
@@ -111,11 +130,11 @@ public class StoreServiceImpl implements StoreService {
             }
 
             // 여러 태그 중 하나라도 매칭되는 가게를 조회
-            List<Store> stores = storeRepository.findStoresByLocationAndTags(lat, lng, radius, preferenceTagIds);
+            List<Store> stores = storeGeoIndex.isReady()
+                    ? findActiveStoresByIds(storeGeoIndex.findStoreIdsWithinRadiusAndTags(lat, lng, radius, preferenceTagIds))
+                    : storeRepository.findStoresByLocationAndTags(lat, lng, radius, preferenceTagIds);
 
-            return stores.stream()
-                    .map(this::convertToStoreMapResponse)
-                    .toList();
+            return storeMapHandler.toStoreMapResponses(stores);
         } catch (StoreMapReadException e){
             log.warn("반경 내 가게 조회 실패 - 사유: {}", e.getMessage());
             throw e;
@@ -125,16 +144,45 @@ public class StoreServiceImpl implements StoreService {
         }
     }
 
+    /**
+     * 좌표 인덱스에서 찾은 가게 ID로 가게 엔티티 일괄 조회
+     */
+    private List<Store> findActiveStoresByIds(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return storeRepository.findAllByStoreIdInAndDeletedAtIsNull(storeIds);
+    }
+
+    /**
+     * 검색 인덱스에서 찾은 가게 ID 순서(검색 점수 순)대로 가게 엔티티 일괄 조회
+     */
+    private List<Store> findActiveStoresInOrder(List<Long> storeIds) {
+        Map<Long, Store> storesById = findActiveStoresByIds(storeIds).stream()
+                .collect(Collectors.toMap(Store::getStoreId, Function.identity()));
+        return storeIds.stream()
+                .map(storesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /** 반경 내 가게 조회 및 검색 */
     @Override
     public List<StoreMapResponse> getStoresByLocationAndKeyword(Double lat, Double lng, Double radius, String searchKeyword) {
         try{
-            String transformed = SearchUtil.toBooleanFulltextQuery(searchKeyword);
-            List<Store> stores = storeRepository.findStoresByLocationAndKeyword(lat, lng, radius, transformed);
+            List<Store> stores;
+            if (storeGeoIndex.isReady()) {
+                // 반경 내 가게 중 검색어에 맞는 가게만 (검색 점수 순)
+                Set<Long> nearbyStoreIds = new HashSet<>(storeGeoIndex.findStoreIdsWithinRadius(lat, lng, radius));
+                stores = findActiveStoresInOrder(storeSearchEngineRouter.search(searchKeyword).stream()
+                        .filter(nearbyStoreIds::contains)
+                        .toList());
+            } else {
+                String transformed = SearchUtil.toBooleanFulltextQuery(searchKeyword);
+                stores = storeRepository.findStoresByLocationAndKeyword(lat, lng, radius, transformed);
+            }
 
-            return stores.stream()
-                    .map(this::convertToStoreMapResponse)
-                    .toList();
+            return storeMapHandler.toStoreMapResponses(stores);
         } catch (StoreSearchFailedException e){
             log.warn("반경 내 가게 검색 실패 - 사유: {}", e.getMessage());
             throw e;
@@ -165,11 +213,11 @@ public class StoreServiceImpl implements StoreService {
             }
 
             // 사용자의 취향 태그 중 하나라도 매칭되는 가게 조회
-            List<Store> stores = storeRepository.findStoresByLocationAndTags(lng, lat, radius, preferenceTagIds);
+            List<Store> stores = storeGeoIndex.isReady()
+                    ? findActiveStoresByIds(storeGeoIndex.findStoreIdsWithinRadiusAndTags(lat, lng, radius, preferenceTagIds))
+                    : storeRepository.findStoresByLocationAndTags(lat, lng, radius, preferenceTagIds);
 
-            return stores.stream()
-                    .map(this::convertToStoreMapResponse)
-                    .toList();
+            return storeMapHandler.toStoreMapResponses(stores);
         } catch (PreferenceStoreReadException e){
             log.warn("반경 내 사용자 취향 맞춤 가게 조회 실패 - 사유: {}", e.getMessage());
             throw e;
@@ -183,22 +231,20 @@ public class StoreServiceImpl implements StoreService {
     @Override
     public List<StoreSearchResponse> searchStores(String keyword) {
         try {
-            String transformed = SearchUtil.toBooleanFulltextQuery(keyword);
-            List<Store> stores = storeRepository.findStoresByKeyword(transformed);
+            List<Store> stores = findActiveStoresInOrder(storeSearchEngineRouter.search(keyword));
+
+            // 검색 결과 가게들의 대표 이미지를 한 번에 조회
+            Map<Long, String> thumbnails = imageService.getThumbnailsByTypeAndIds(ImageType.STORE,
+                    stores.stream().map(Store::getStoreId).toList());
 
             return stores.stream()
-                    .map(store -> {
-                        List<StoreImageResponse> storeImages = storeImageHandler.getStoreImages(store.getStoreId());
-                        String thumbnail = storeImages.isEmpty() ? null : storeImages.get(0).getUrl();
-
-                        return StoreSearchResponse.builder()
-                                .storeId(store.getStoreId())
-                                .storeUuid(store.getStoreUuid())
-                                .name(store.getName())
-                                .address(store.getAddress())
-                                .thumbnail(thumbnail)
-                                .build();
-                    })
+                    .map(store -> StoreSearchResponse.builder()
+                            .storeId(store.getStoreId())
+                            .storeUuid(store.getStoreUuid())
+                            .name(store.getName())
+                            .address(store.getAddress())
+                            .thumbnail(thumbnails.get(store.getStoreId()))
+                            .build())
                     .toList();
 
         } catch (Exception e) {
@@ -207,64 +253,6 @@ public class StoreServiceImpl implements StoreService {
         }
     }
 
-//    /**
-//     * 검색결과와 정확히 일치하는 전체 가게 조회 (match_phrase 사용)
-//     */
-//    public List<StoreSearchResponse> searchStores(String keyword) {
-//        try {
-//            SearchResponse<StoreDocument> response = client.search(s -> s
-//                            .index("stores")
-//                            .query(q -> q
-//                                    .bool(b -> b
-//                                            .should(sh -> sh.matchPhrase(m -> m.field("storeName").query(keyword)))
-//                                            .should(sh -> sh.matchPhrase(m -> m.field("address").query(keyword)))
-//                                            .should(sh -> sh.matchPhrase(m -> m.field("menuNames").query(keyword)))
-//                                            .should(sh -> sh.matchPhrase(m -> m.field("tagNames").query(keyword)))
-//                                            .minimumShouldMatch("1")
-//                                            .filter(f -> f.term(t -> t.field("deleted").value(false)))
-//                                    )
-//                            ),
-//                    StoreDocument.class
-//            );
-//
-//            return response.hits().hits().stream()
-//                    .map(Hit::source)
-//                    .filter(Objects::nonNull)
-//                    .map(doc -> {
-//                        List<String> storeImages = imageService.getImagesByTypeAndId(ImageType.STORE, doc.getStoreId());
-//                        String thumbnail = storeImages.isEmpty() ? null : storeImages.get(0);
-//
-//                        return StoreSearchResponse.builder()
-//                                .storeId(doc.getStoreId())
-//                                .storeUuid(doc.getStoreUuid())
-//                                .name(doc.getStoreName())
-//                                .address(doc.getAddress())
-//                                .thumbnail(thumbnail)
-//                                .build();
-//                    })
-//                    .toList();
-//
-//        } catch (IOException e) {
-//            log.error("Elasticsearch 검색 중 네트워크 오류 발생", e);
-//            throw new ElasticsearchCommunicationException(
-//                    "Elasticsearch 검색 중 IOException 발생", e
-//            );
-//        }
-//    }
-
-    /**
-     * Store 엔티티를 StoreMapResponse DTO로 변환
-     */
-    private StoreMapResponse convertToStoreMapResponse(Store store) {
-        List<OperatingHourResponse> operatingHours = storeScheduleService.getOperatingHoursResponse(store.getStoreId());
-        List<HolidayResponse> holidays = storeScheduleService.getHolidaysResponse(store.getStoreId());
-        int totalReviewCount = storeReviewRepository.countByStoreIdAndDeletedAtIsNull(store.getStoreId());
-        List<String> tags = storeTagService.getTagNames(store.getStoreId());
-        List<String> storeImages = imageService.getImagesByTypeAndId(ImageType.STORE, store.getStoreId());
-
-        return StoreMapResponse.fromEntity(store, operatingHours, holidays, totalReviewCount, tags, storeImages);
-    }
-
     /** 가게 간략 정보 조회 */
     @Override
     public StoreSummaryResponse getStoreSummary(UUID storeUuid) {
@@ -273,31 +261,21 @@ public class StoreServiceImpl implements StoreService {
             Store store = storeRepository.findByStoreIdAndDeletedAtIsNull(storeId)
                     .orElseThrow(() -> new StoreNotFoundException());
 
-            List<StoreImageResponse> storeImages = storeImageHandler.getStoreImages(storeId);
-            List<StoreImageResponse> ownerPickImages = storeImageHandler.getOwnerPickImages(storeId);
-            List<String> tags = storeTagService.getTagNames(storeId);
-
-            // 가게 링크 및 대표 링크 조회
-            Pair<List<String>, String> linkInfo = storeLinkService.getStoreLinksAndPrimary(storeId);
-
-            // 운영 시간 조회
-            List<OperatingHourResponse> operatingHourResponses = storeScheduleService.getOperatingHoursResponse(storeId);
-
-            // 휴무일 조회
-            List<HolidayResponse> holidayResponses = storeScheduleService.getHolidaysResponse(storeId);
+            // 가게 정적 정보 조회 (이미지, 태그, 링크, 영업 시간, 휴무일 - 캐시 우선)
+            StoreStaticData staticData = storeStaticDataCache.get(storeId, () -> loadStoreStaticData(storeId, storeUuid));
 
             // 가게 취향 태그 top3 조회
             List<TopPreferenceTagResponse> topPreferences = storeTopTagRepository.findTop3TagsByStoreId(storeId);
 
             return StoreSummaryResponse.fromEntity(
                     store,
-                    tags,
-                    linkInfo.getLeft(),
-                    linkInfo.getRight(),
-                    operatingHourResponses,
-                    holidayResponses,
-                    storeImages,
-                    ownerPickImages,
+                    staticData.getTagNames(),
+                    staticData.getStoreLinks(),
+                    staticData.getPrimaryStoreLink(),
+                    staticData.getOperatingHours(),
+                    staticData.getHolidays(),
+                    staticData.getStoreImages(),
+                    staticData.getOwnerPickImages(),
                     topPreferences
             );
         } catch (StoreInfoReadFailedException e){
@@ -309,58 +287,59 @@ public class StoreServiceImpl implements StoreService {
         }
     }
 
-    /** 가게 상세 정보 조회 */
+    /**
+     * 가게 상세 정보 조회
+     * - 섹션 병렬 조회를 기다리는 동안 요청 스레드가 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     * - 가게/사용자 조회도 작업 스레드에서 실행하여 요청 스레드의 open-in-view 세션이 커넥션을 잡지 않도록 함
+     *   (각 조회는 작업 스레드의 짧은 트랜잭션에서 처리되고 끝나면 커넥션 반납)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StoreDetailResponse getStoreDetails(UUID storeUuid) {
         try{
-            Long storeId = storeRepository.findStoreIdByStoreUuid(storeUuid);
-            Store store = storeRepository.findByStoreIdAndDeletedAtIsNull(storeId)
-                    .orElseThrow(() -> new StoreNotFoundException());
-
-            // 사용자 정보 조회
-            UserEntity user = userService.getCurrentUser();
+            // 가게, 사용자, 사용자의 가게 저장 정보 조회
+            StoreDetailBase base = storeDetailSectionLoader.call("store", () -> {
+                Long id = storeRepository.findStoreIdByStoreUuid(storeUuid);
+                Store found = storeRepository.findByStoreIdAndDeletedAtIsNull(id)
+                        .orElseThrow(() -> new StoreNotFoundException());
+                UserEntity currentUser = userService.getCurrentUser();
+                return new StoreDetailBase(found, currentUser, storeSupportService.getUserStoreSavedInfo(found, currentUser));
+            });
+            Store store = base.store();
+            Long storeId = store.getStoreId();
+            UserEntity user = base.user();
             Long userId = (user != null) ? user.getId() : null;
             UUID userUuid = (user != null) ? user.getUserUuid() : null;
+            boolean saved = base.savedInfo().getLeft();
+            Long savedListId = base.savedInfo().getRight();
 
-            // 사용자의 가게 저장 정보 조회
-            Pair<Boolean, Long> savedInfo = storeSupportService.getUserStoreSavedInfo(store, user);
-            boolean saved = savedInfo.getLeft();
-            Long savedListId = savedInfo.getRight();
-
-            // 가게 이미지 조회
-            List<StoreImageResponse> storeImages = storeImageHandler.getStoreImages(storeId);
-            List<StoreImageResponse> ownerPickImages = storeImageHandler.getOwnerPickImages(storeId);
-
-            // 태그 조회
-            List<StoreTagResponse> tags = storeTagService.getTagResponses(storeId);
-
-            // 가게 링크 및 대표 링크 조회
-            Pair<List<String>, String> linkInfo = storeLinkService.getStoreLinksAndPrimary(storeId);
-
-            // 운영 시간 조회
-            List<OperatingHourResponse> operatingHourResponses = storeScheduleService.getOperatingHoursResponse(storeId);
-
-            // 휴무일 조회
-            List<HolidayResponse> holidayResponses = storeScheduleService.getHolidaysResponse(storeId);
-
-            // 공지사항 조회
-            List<StoreNoticeResponse> noticeResponses = storeNoticeService.getNoticesByStoreUuid(storeUuid);
-
+            // 요청마다 달라지는 섹션은 병렬로 조회 (섹션별 타임아웃 시 빈 값으로 대체)
             // 가게 취향 태그 top3 조회
-            List<TopPreferenceTagResponse> topPreferences = storeSupportService.getTop3Preferences(storeId);
+            CompletableFuture<List<TopPreferenceTagResponse>> topPreferencesFuture = storeDetailSectionLoader.load(
+                    "topPreferences", () -> storeSupportService.getTop3Preferences(storeId), Collections.emptyList());
+
+            // 한줄 리뷰 조회 (첫 페이지 + 전체 개수)
+            CompletableFuture<CursorPageResponse<StoreReviewResponse>> reviewsFuture = storeDetailSectionLoader.load(
+                    "storeReviews", () -> storeSupportService.getStoreReviewPage(storeId, null, DETAIL_SECTION_PAGE_SIZE),
+                    CursorPageResponse.empty());
 
-            // 메뉴 리스트 조회
-            List<MenuResponse> menus = menuService.getMenusByStore(storeUuid);
+            // 커뮤니티 리뷰 조회 (첫 페이지 + 전체 개수)
+            CompletableFuture<CursorPageResponse<ReviewSummaryResponse>> communityReviewsFuture = storeDetailSectionLoader.load(
+                    "communityReviews", () -> storeSupportService.getCommunityReviewPage(storeId, null, DETAIL_SECTION_PAGE_SIZE),
+                    CursorPageResponse.empty());
 
-            // 한줄 리뷰 조회
-            List<StoreReviewResponse> reviewResponses = storeSupportService.getStoreReviewResponses(storeId);
-            int totalReviewCount = reviewResponses.size();
+            // 디저트 메이트 조회 (첫 페이지 + 전체 개수)
+            CompletableFuture<CursorPageResponse<MateResponse>> matesFuture = storeDetailSectionLoader.load(
+                    "mates", () -> storeSupportService.getMatePage(storeId, userId, null, DETAIL_SECTION_PAGE_SIZE),
+                    CursorPageResponse.empty());
 
-            // 커뮤니티 리뷰 조회
-            List<ReviewSummaryResponse> communityResponses = storeSupportService.getCommunityReviewResponses(storeId);
+            // 가게 정적 정보 조회 (이미지, 태그, 링크, 영업 시간, 휴무일, 공지, 메뉴 - 캐시 우선)
+            StoreStaticData staticData = storeStaticDataCache.get(storeId, () -> loadStoreStaticData(storeId, storeUuid));
 
-            // 디저트 메이트 조회
-            List<MateResponse> mateResponses = storeSupportService.getMateResponses(storeId, userId);
+            List<TopPreferenceTagResponse> topPreferences = topPreferencesFuture.join();
+            CursorPageResponse<StoreReviewResponse> reviewPage = reviewsFuture.join();
+            CursorPageResponse<ReviewSummaryResponse> communityReviewPage = communityReviewsFuture.join();
+            CursorPageResponse<MateResponse> matePage = matesFuture.join();
 
             // 조회수 증가
             eventPublisher.publishEvent(new StoreViewEvent(storeId, userUuid));
@@ -369,20 +348,19 @@ public class StoreServiceImpl implements StoreService {
                     store,
                     userId,
                     userUuid,
-                    totalReviewCount,
-                    operatingHourResponses,
-                    holidayResponses,
-                    noticeResponses,
-                    menus,
-                    storeImages,
-                    ownerPickImages,
+                    staticData.getOperatingHours(),
+                    staticData.getHolidays(),
+                    staticData.getNotices(),
+                    staticData.getMenus(),
+                    staticData.getStoreImages(),
+                    staticData.getOwnerPickImages(),
                     topPreferences,
-                    reviewResponses,
-                    tags,
-                    linkInfo.getLeft(),
-                    linkInfo.getRight(),
-                    communityResponses,
-                    mateResponses,
+                    reviewPage,
+                    staticData.getTags(),
+                    staticData.getStoreLinks(),
+                    staticData.getPrimaryStoreLink(),
+                    communityReviewPage,
+                    matePage,
                     saved,
                     savedListId
             );
@@ -395,6 +373,108 @@ public class StoreServiceImpl implements StoreService {
         }
     }
 
+    /** 가게 커뮤니티 리뷰 커서 페이지 조회 */
+    @Override
+    public CursorPageResponse<ReviewSummaryResponse> getStoreCommunityReviews(UUID storeUuid, String cursor, int size) {
+        try{
+            Long storeId = storeRepository.findStoreIdByStoreUuid(storeUuid);
+            if (storeId == null) {
+                throw new InvalidStoreUuidException();
+            }
+
+            return storeSupportService.getCommunityReviewPage(storeId, cursor, size);
+        } catch (BusinessException e){
+            log.warn("가게 커뮤니티 리뷰 조회 실패 - 사유: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("가게 커뮤니티 리뷰 조회 처리 중 오류 발생", e);
+            throw new StoreServiceException("가게 커뮤니티 리뷰 조회 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    /** 가게 디저트 메이트 커서 페이지 조회 */
+    @Override
+    public CursorPageResponse<MateResponse> getStoreMates(UUID storeUuid, String cursor, int size) {
+        try{
+            Long storeId = storeRepository.findStoreIdByStoreUuid(storeUuid);
+            if (storeId == null) {
+                throw new InvalidStoreUuidException();
+            }
+
+            UserEntity user = userService.getCurrentUser();
+            Long userId = (user != null) ? user.getId() : null;
+
+            return storeSupportService.getMatePage(storeId, userId, cursor, size);
+        } catch (BusinessException e){
+            log.warn("가게 디저트 메이트 조회 실패 - 사유: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("가게 디저트 메이트 조회 처리 중 오류 발생", e);
+            throw new StoreServiceException("가게 디저트 메이트 조회 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 가게 정적 정보 조회 (캐시 미스 시 호출)
+     * 서로 독립적인 섹션은 병렬로 조회하고, 기본값으로 대체된 섹션이 있으면 캐시에 적재하지 않도록 표시
+     */
+    private StoreStaticData loadStoreStaticData(Long storeId, UUID storeUuid) {
+        // 가게 이미지 조회
+        CompletableFuture<List<StoreImageResponse>> storeImagesFuture = storeDetailSectionLoader.load(
+                "storeImages", () -> storeImageHandler.getStoreImages(storeId), null);
+        CompletableFuture<List<StoreImageResponse>> ownerPickImagesFuture = storeDetailSectionLoader.load(
+                "ownerPickImages", () -> storeImageHandler.getOwnerPickImages(storeId), null);
+
+        // 태그 조회
+        CompletableFuture<List<StoreTagResponse>> tagsFuture = storeDetailSectionLoader.load(
+                "tags", () -> storeTagService.getTagResponses(storeId), null);
+
+        // 가게 링크 및 대표 링크 조회
+        CompletableFuture<Pair<List<String>, String>> linkInfoFuture = storeDetailSectionLoader.load(
+                "links", () -> storeLinkService.getStoreLinksAndPrimary(storeId), null);
+
+        // 운영 시간 조회
+        CompletableFuture<List<OperatingHourResponse>> operatingHoursFuture = storeDetailSectionLoader.load(
+                "operatingHours", () -> storeScheduleService.getOperatingHoursResponse(storeId), null);
+
+        // 휴무일 조회
+        CompletableFuture<List<HolidayResponse>> holidaysFuture = storeDetailSectionLoader.load(
+                "holidays", () -> storeScheduleService.getHolidaysResponse(storeId), null);
+
+        // 공지사항 조회
+        CompletableFuture<List<StoreNoticeResponse>> noticesFuture = storeDetailSectionLoader.load(
+                "notices", () -> storeNoticeService.getNoticesByStoreUuid(storeUuid), null);
+
+        // 메뉴 리스트 조회
+        CompletableFuture<List<MenuResponse>> menusFuture = storeDetailSectionLoader.load(
+                "menus", () -> menuService.getMenusByStore(storeUuid), null);
+
+        List<StoreImageResponse> storeImages = storeImagesFuture.join();
+        List<StoreImageResponse> ownerPickImages = ownerPickImagesFuture.join();
+        List<StoreTagResponse> tags = tagsFuture.join();
+        Pair<List<String>, String> linkInfo = linkInfoFuture.join();
+        List<OperatingHourResponse> operatingHours = operatingHoursFuture.join();
+        List<HolidayResponse> holidays = holidaysFuture.join();
+        List<StoreNoticeResponse> notices = noticesFuture.join();
+        List<MenuResponse> menus = menusFuture.join();
+
+        boolean complete = storeImages != null && ownerPickImages != null && tags != null && linkInfo != null
+                && operatingHours != null && holidays != null && notices != null && menus != null;
+
+        return StoreStaticData.builder()
+                .storeImages(Objects.requireNonNullElse(storeImages, Collections.emptyList()))
+                .ownerPickImages(Objects.requireNonNullElse(ownerPickImages, Collections.emptyList()))
+                .tags(Objects.requireNonNullElse(tags, Collections.emptyList()))
+                .storeLinks(linkInfo != null ? linkInfo.getLeft() : Collections.emptyList())
+                .primaryStoreLink(linkInfo != null ? linkInfo.getRight() : null)
+                .operatingHours(Objects.requireNonNullElse(operatingHours, Collections.emptyList()))
+                .holidays(Objects.requireNonNullElse(holidays, Collections.emptyList()))
+                .notices(Objects.requireNonNullElse(notices, Collections.emptyList()))
+                .menus(Objects.requireNonNullElse(menus, Collections.emptyList()))
+                .complete(complete)
+                .build();
+    }
+
     /** 가게의 평균 평점 업데이트 (리뷰 등록,수정,삭제 시 호출) */
     @Override
     @Transactional
@@ -410,4 +490,8 @@ public class StoreServiceImpl implements StoreService {
             throw new StoreServiceException("가게 평균 평점 업데이트 처리 중 오류가 발생했습니다.");
         }
     }
+
+    /** 가게 상세 조회의 기본 정보 (가게, 현재 사용자, 저장 여부/저장 목록 ID) */
+    private record StoreDetailBase(Store store, UserEntity user, Pair<Boolean, Long> savedInfo) {
+    }
 }
@@ -1,6 +1,7 @@
 package org.swyp.dessertbee.store.store.service;
 
 import com.nimbusds.jose.util.Pair;
+import org.swyp.dessertbee.common.dto.CursorPageResponse;
 import org.swyp.dessertbee.community.mate.dto.response.MateResponse;
 import org.swyp.dessertbee.community.review.dto.response.ReviewSummaryResponse;
 import org.swyp.dessertbee.store.review.dto.response.StoreReviewResponse;
@@ -11,9 +12,9 @@ import org.swyp.dessertbee.user.entity.UserEntity;
 import java.util.List;
 
 public interface StoreSupportService {
-    List<StoreReviewResponse> getStoreReviewResponses(Long storeId);
-    List<ReviewSummaryResponse> getCommunityReviewResponses(Long storeId);
-    List<MateResponse> getMateResponses(Long storeId, Long userId);
+    CursorPageResponse<StoreReviewResponse> getStoreReviewPage(Long storeId, String cursor, int size);
+    CursorPageResponse<ReviewSummaryResponse> getCommunityReviewPage(Long storeId, String cursor, int size);
+    CursorPageResponse<MateResponse> getMatePage(Long storeId, Long userId, String cursor, int size);
     List<TopPreferenceTagResponse> getTop3Preferences(Long storeId);
     Pair<Boolean, Long> getUserStoreSavedInfo(Store store, UserEntity user);
 }
@@ -3,10 +3,14 @@ package org.swyp.dessertbee.store.store.service;
 import com.nimbusds.jose.util.Pair;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.swyp.dessertbee.common.dto.CursorPageResponse;
 import org.swyp.dessertbee.common.entity.ImageType;
 import org.swyp.dessertbee.common.service.ImageService;
+import org.swyp.dessertbee.common.util.KeysetCursor;
 import org.swyp.dessertbee.community.mate.dto.response.MateResponse;
 import org.swyp.dessertbee.community.mate.entity.Mate;
 import org.swyp.dessertbee.community.mate.entity.MateCategory;
@@ -26,13 +30,18 @@ import org.swyp.dessertbee.store.review.repository.StoreReviewRepository;
 import org.swyp.dessertbee.store.saved.entity.SavedStore;
 import org.swyp.dessertbee.store.saved.repository.SavedStoreRepository;
 import org.swyp.dessertbee.store.store.entity.*;
+import org.swyp.dessertbee.user.dto.response.ReviewerProfileResponse;
 import org.swyp.dessertbee.user.entity.UserEntity;
 import org.swyp.dessertbee.user.exception.UserExceptions;
 import org.swyp.dessertbee.user.repository.UserRepository;
+import org.swyp.dessertbee.user.service.ReviewerProfileService;
 import org.swyp.dessertbee.user.service.UserBlockService;
 import org.swyp.dessertbee.user.service.UserService;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -50,6 +59,9 @@ public class StoreSupportServiceImpl implements StoreSupportService{
     private final SavedMateRepository savedMateRepository;
     private final UserService userService;
     private final UserBlockService userBlockService;
+    private final ReviewerProfileService reviewerProfileService;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     /**
      * 가게의 Top3 취향 태그 조회 메서드
@@ -77,58 +89,137 @@ public class StoreSupportServiceImpl implements StoreSupportService{
     }
 
     /**
-     * 가게 한줄 리뷰 조회 및 변환 메서드
+     * 가게 한줄 리뷰 커서 페이지 조회 메서드
+     * - 차단/탈퇴한 작성자의 리뷰는 페이지 조회와 전체 개수 조회에서 같은 조건으로 제외
      */
     @Override
-    public List<StoreReviewResponse> getStoreReviewResponses(Long storeId) {
-        List<StoreReview> reviews = storeReviewRepository.findByStoreIdAndDeletedAtIsNull(storeId);
+    public CursorPageResponse<StoreReviewResponse> getStoreReviewPage(Long storeId, String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
         UserEntity currentUser = userService.getCurrentUser();
-        final List<UUID> blockedUserUuids = currentUser != null
-                ? userBlockService.getBlockedUserUuids(currentUser.getUserUuid())
-                : Collections.emptyList();
+        UUID viewerUuid = (currentUser != null) ? currentUser.getUserUuid() : null;
+
+        List<StoreReview> reviews = keysetCursor == null
+                ? storeReviewRepository.findFirstPageByStoreId(storeId, viewerUuid, limit)
+                : storeReviewRepository.findPageByStoreIdAfter(storeId, viewerUuid, keysetCursor.createdAt(), keysetCursor.id(), limit);
+
+        return toCursorPage(reviews, pageSize,
+                () -> storeReviewRepository.countVisibleByStoreId(storeId, viewerUuid),
+                review -> new KeysetCursor(review.getCreatedAt(), review.getReviewId()),
+                this::toStoreReviewResponses);
+    }
+
+    /**
+     * 가게 커뮤니티 리뷰 커서 페이지 조회 메서드
+     */
+    @Override
+    public CursorPageResponse<ReviewSummaryResponse> getCommunityReviewPage(Long storeId, String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Review> reviews = keysetCursor == null
+                ? communityReviewRepository.findFirstPageByStoreId(storeId, limit)
+                : communityReviewRepository.findPageByStoreIdAfter(storeId, keysetCursor.createdAt(), keysetCursor.id(), limit);
+
+        return toCursorPage(reviews, pageSize,
+                () -> communityReviewRepository.countByStoreIdAndDeletedAtIsNull(storeId),
+                review -> new KeysetCursor(review.getCreatedAt(), review.getReviewId()),
+                this::toCommunityReviewResponses);
+    }
+
+    /**
+     * 디저트 메이트 커서 페이지 조회 메서드
+     */
+    @Override
+    public CursorPageResponse<MateResponse> getMatePage(Long storeId, Long userId, String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
+        List<Mate> mates = keysetCursor == null
+                ? mateRepository.findFirstPageByStoreId(storeId, limit)
+                : mateRepository.findPageByStoreIdAfter(storeId, keysetCursor.createdAt(), keysetCursor.id(), limit);
+
+        return toCursorPage(mates, pageSize,
+                () -> mateRepository.countByStoreIdAndDeletedAtIsNull(storeId),
+                mate -> new KeysetCursor(mate.getCreatedAt(), mate.getMateId()),
+                page -> toMateResponses(page, userId));
+    }
+
+    /**
+     * pageSize + 1개 조회 결과를 커서 페이지로 변환
+     * 커뮤니티 리뷰/메이트는 차단/탈퇴 사용자 필터링을 조회 이후에 적용하므로 한 페이지가 pageSize보다 적을 수 있음
+     */
+    private <E, R> CursorPageResponse<R> toCursorPage(List<E> rows, int pageSize,
+                                                      LongSupplier totalCounter,
+                                                      Function<E, KeysetCursor> cursorExtractor,
+                                                      Function<List<E>, List<R>> converter) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(page.get(page.size() - 1)).encode() : null;
+
+        return CursorPageResponse.<R>builder()
+                .items(converter.apply(page))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalCount(totalCounter.getAsLong())
+                .build();
+    }
+
+    private int normalizePageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 가게 한줄 리뷰 변환 메서드
+     */
+    private List<StoreReviewResponse> toStoreReviewResponses(List<StoreReview> reviews) {
+        if (reviews.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 차단/탈퇴한 작성자의 리뷰는 조회 쿼리에서 이미 제외됨
+        // 작성자 프로필 및 리뷰 이미지 일괄 조회
+        Map<UUID, ReviewerProfileResponse> reviewerMap = reviewerProfileService.getProfilesByUserUuids(
+                reviews.stream().map(StoreReview::getUserUuid).collect(Collectors.toSet()));
         Map<Long, List<String>> reviewImagesMap = imageService.getImagesByTypeAndIds(ImageType.SHORT,
                 reviews.stream().map(StoreReview::getReviewId).toList());
 
         return reviews.stream()
-                .filter(review -> !blockedUserUuids.contains(review.getUserUuid())) // 차단한 사용자 필터링
-                .map(review -> {
-                    Long reviewerId = userRepository.findIdByUserUuid(review.getUserUuid());
-                    UserEntity reviewer = userRepository.findById(reviewerId)
-                            .orElseThrow(() -> new UserExceptions.UserNotFoundException());
-                    List<String> profileImage = imageService.getImagesByTypeAndId(ImageType.PROFILE, reviewer.getId());
-
-                    return StoreReviewResponse.fromEntity(review, reviewer,
-                            profileImage.isEmpty() ? null : profileImage.get(0),
-                            reviewImagesMap.getOrDefault(review.getReviewId(), Collections.emptyList()));
-                }).toList();
+                .filter(review -> reviewerMap.containsKey(review.getUserUuid())) // 조회 사이에 탈퇴한 사용자 제외
+                .map(review -> StoreReviewResponse.fromEntity(review,
+                        reviewerMap.get(review.getUserUuid()),
+                        reviewImagesMap.getOrDefault(review.getReviewId(), Collections.emptyList())))
+                .toList();
     }
 
     /**
-     * 가게 커뮤니티 리뷰 조회 및 변환 메서드
+     * 가게 커뮤니티 리뷰 변환 메서드
      */
-    @Override
-    public List<ReviewSummaryResponse> getCommunityReviewResponses(Long storeId) {
-        List<Review> communityReviews = communityReviewRepository.findByStoreIdAndDeletedAtIsNull(storeId);
+    private List<ReviewSummaryResponse> toCommunityReviewResponses(List<Review> communityReviews) {
+        if (communityReviews.isEmpty()) {
+            return Collections.emptyList();
+        }
 
         UserEntity currentUser = userService.getCurrentUser();
         final List<UUID> blockedUserUuids = currentUser != null
                 ? userBlockService.getBlockedUserUuids(currentUser.getUserUuid())
                 : Collections.emptyList();
 
+        // 작성자 프로필 일괄 조회
+        Map<Long, ReviewerProfileResponse> reviewerMap = reviewerProfileService.getProfilesByUserIds(
+                communityReviews.stream().map(Review::getUserId).collect(Collectors.toSet()));
+
         return communityReviews.stream()
                 .filter(review -> {
-                    UserEntity reviewer = userRepository.findById(review.getUserId())
-                            .orElse(null);
+                    ReviewerProfileResponse reviewer = reviewerMap.get(review.getUserId());
                     return reviewer != null && !blockedUserUuids.contains(reviewer.getUserUuid());
                 })
                 .map(review -> {
-                    UserEntity reviewer = userRepository.findById(review.getUserId())
-                            .orElseThrow(() -> new UserExceptions.UserNotFoundException());
-
-                    List<String> profileImageList = imageService.getImagesByTypeAndId(ImageType.PROFILE, reviewer.getId());
-                    String profileImage = profileImageList.isEmpty() ? null : profileImageList.get(0);
+                    ReviewerProfileResponse reviewer = reviewerMap.get(review.getUserId());
 
                     String thumbnail = null;
                     String content = "";
@@ -149,7 +240,7 @@ public class StoreSupportServiceImpl implements StoreSupportService{
                             .reviewUuid(review.getReviewUuid())
                             .userUuid(reviewer.getUserUuid())
                             .nickname(reviewer.getNickname())
-                            .profileImage(profileImage)
+                            .profileImage(reviewer.getProfileImage())
                             .thumbnail(thumbnail)
                             .title(review.getTitle())
                             .content(content)
@@ -160,18 +251,18 @@ public class StoreSupportServiceImpl implements StoreSupportService{
     }
 
     /**
-     * 디저트 메이트 조회 및 변환 메서드
+     * 디저트 메이트 변환 메서드
      */
-    @Override
-    public List<MateResponse> getMateResponses(Long storeId, Long userId) {
-        List<Mate> mates = mateRepository.findByStoreIdAndDeletedAtIsNull(storeId);
+    private List<MateResponse> toMateResponses(List<Mate> mates, Long userId) {
+        // 메이트 대표 사진 한 번에 조회
+        Map<Long, String> mateThumbnails = imageService.getThumbnailsByTypeAndIds(ImageType.MATE,
+                mates.stream().map(Mate::getMateId).toList());
 
         return mates.stream().map(mate -> {
             UserEntity mateCreator = userRepository.findById(mate.getUserId())
                     .orElseThrow(() -> new UserExceptions.UserNotFoundException());
             String mateCategory = mateCategoryRepository.findById(mate.getMateCategoryId())
                     .map(MateCategory::getName).orElse("알 수 없음");
-            List<String> mateThumbnail = imageService.getImagesByTypeAndId(ImageType.MATE, mate.getMateId());
 
             //저장했는지 유무 확인
             SavedMate savedMate = userId != null ?
@@ -181,7 +272,7 @@ public class StoreSupportServiceImpl implements StoreSupportService{
             return MateResponse.builder()
                     .mateUuid(mate.getMateUuid())
                     .mateCategory(mateCategory)
-                    .thumbnail(mateThumbnail.isEmpty() ? null : mateThumbnail.get(0))
+                    .thumbnail(mateThumbnails.get(mate.getMateId()))
                     .title(mate.getTitle())
                     .content(mate.getContent())
                     .nickname(mateCreator.getNickname())
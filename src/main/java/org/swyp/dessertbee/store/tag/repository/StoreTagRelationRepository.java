@@ -21,6 +21,14 @@ public interface StoreTagRelationRepository extends JpaRepository<StoreTagRelati
     @Query("SELECT t.name FROM StoreTagRelation str JOIN str.tag t WHERE str.store.storeId = :storeId")
     List<String> findTagNamesByStoreId(@Param("storeId") Long storeId);
 
+    // 여러 가게 ID를 기반으로 (가게 ID, 태그 이름) 목록 일괄 조회
+    @Query("SELECT str.store.storeId, t.name FROM StoreTagRelation str JOIN str.tag t WHERE str.store.storeId IN :storeIds")
+    List<Object[]> findStoreIdAndTagNamesByStoreIds(@Param("storeIds") List<Long> storeIds);
+
+    // 검색어 자동완성 인덱스 적재용 전체 (가게 ID, 태그 이름) 조회
+    @Query("SELECT str.store.storeId, t.name FROM StoreTagRelation str JOIN str.tag t")
+    List<Object[]> findAllStoreIdAndTagNames();
+
     @Query("""
     SELECT st
     FROM StoreTagRelation str
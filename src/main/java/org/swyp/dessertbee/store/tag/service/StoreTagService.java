@@ -4,6 +4,7 @@ import org.swyp.dessertbee.store.store.entity.Store;
 import org.swyp.dessertbee.store.tag.dto.StoreTagResponse;
 
 import java.util.List;
+import java.util.Map;
 
 public interface StoreTagService {
     /** 태그 저장 (1~3개 선택) */
@@ -12,4 +13,6 @@ public interface StoreTagService {
     List<StoreTagResponse> getTagResponses(Long storeId);
     /** 태그 이름 조회 */
     List<String> getTagNames(Long storeId);
+    /** 여러 가게의 태그 이름 일괄 조회 (가게 ID별) */
+    Map<Long, List<String>> getTagNamesByStoreIds(List<Long> storeIds);
 }
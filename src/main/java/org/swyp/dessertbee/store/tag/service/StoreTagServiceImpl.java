@@ -12,7 +12,11 @@ import org.swyp.dessertbee.store.store.exception.StoreExceptions;
 import org.swyp.dessertbee.store.tag.repository.StoreTagRelationRepository;
 import org.swyp.dessertbee.store.tag.repository.StoreTagRepository;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -79,4 +83,20 @@ public class StoreTagServiceImpl implements StoreTagService {
     public List<String> getTagNames(Long storeId) {
         return storeTagRelationRepository.findTagNamesByStoreId(storeId);
     }
+
+    /**
+     * 여러 가게의 태그 이름 일괄 조회
+     */
+    @Override
+    public Map<Long, List<String>> getTagNamesByStoreIds(List<Long> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, List<String>> tagNamesByStoreId = new HashMap<>();
+        for (Object[] row : storeTagRelationRepository.findStoreIdAndTagNamesByStoreIds(storeIds)) {
+            Long storeId = (Long) row[0];
+            String tagName = (String) row[1];
+            tagNamesByStoreId.computeIfAbsent(storeId, id -> new ArrayList<>()).add(tagName);
+        }
+        return tagNamesByStoreId;
+    }
 }
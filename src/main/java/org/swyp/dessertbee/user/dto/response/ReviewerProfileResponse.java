@@ -0,0 +1,22 @@
+package org.swyp.dessertbee.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.swyp.dessertbee.user.entity.UserEntity;
+
+import java.util.UUID;
+
+/**
+ * 리뷰/게시글 작성자 표시용 프로필 정보
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReviewerProfileResponse {
+    private Long userId;
+    private UUID userUuid;
+    private String nickname;
+    private UserEntity.Gender gender;
+    private String profileImage;
+}
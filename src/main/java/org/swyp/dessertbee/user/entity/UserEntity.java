@@ -21,6 +21,9 @@ import java.util.*;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_user_email", columnNames = "email"),
                 @UniqueConstraint(name = "uk_user_nickname", columnNames = "nickname")
+        },
+        indexes = {
+                @Index(name = "idx_user_created_at", columnList = "created_at")
         }
 )
 @Getter
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.swyp.dessertbee.user.entity.UserEntity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -126,4 +127,23 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      */
     @Query("SELECT u FROM UserEntity u WHERE u.userUuid IN :userUuids AND u.deletedAt IS NULL")
     List<UserEntity> findByUserUuidIn(@Param("userUuids") java.util.Set<UUID> userUuids);
+
+    /**
+     * 여러 userUuid로 작성자 프로필 정보(id, userUuid, nickname, gender) 일괄 조회 (삭제되지 않은 계정만)
+     *
+     * @param userUuids 사용자 UUID 목록
+     * @return [id, userUuid, nickname, gender] 배열 리스트
+     */
+    @Query("SELECT u.id, u.userUuid, u.nickname, u.gender FROM UserEntity u " +
+           "WHERE u.userUuid IN :userUuids AND u.deletedAt IS NULL")
+    List<Object[]> findProfilesByUserUuidIn(@Param("userUuids") Collection<UUID> userUuids);
+
+    /**
+     * 여러 userId로 작성자 프로필 정보(id, userUuid, nickname, gender) 일괄 조회 (삭제 여부 무관)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return [id, userUuid, nickname, gender] 배열 리스트
+     */
+    @Query("SELECT u.id, u.userUuid, u.nickname, u.gender FROM UserEntity u WHERE u.id IN :userIds")
+    List<Object[]> findProfilesByIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,26 @@
+package org.swyp.dessertbee.user.service;
+
+import org.swyp.dessertbee.user.dto.response.ReviewerProfileResponse;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ReviewerProfileService {
+
+    /**
+     * 여러 사용자 UUID의 작성자 프로필(닉네임, 프로필 이미지) 일괄 조회
+     * 사용자 조회 1회 + 프로필 이미지 조회 1회로 처리하며, 삭제된 계정은 결과에서 제외
+     * @param userUuids 사용자 UUID 목록
+     * @return 사용자 UUID별 프로필
+     */
+    Map<UUID, ReviewerProfileResponse> getProfilesByUserUuids(Collection<UUID> userUuids);
+
+    /**
+     * 여러 사용자 ID의 작성자 프로필(닉네임, 프로필 이미지) 일괄 조회
+     * 사용자 조회 1회 + 프로필 이미지 조회 1회로 처리 (삭제 여부 무관, 사용자별 ID 조회와 동일)
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 프로필
+     */
+    Map<Long, ReviewerProfileResponse> getProfilesByUserIds(Collection<Long> userIds);
+}
@@ -0,0 +1,79 @@
+package org.swyp.dessertbee.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.swyp.dessertbee.common.entity.ImageType;
+import org.swyp.dessertbee.common.service.ImageService;
+import org.swyp.dessertbee.user.dto.response.ReviewerProfileResponse;
+import org.swyp.dessertbee.user.entity.UserEntity;
+import org.swyp.dessertbee.user.repository.UserRepository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ReviewerProfileService 구현체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewerProfileServiceImpl implements ReviewerProfileService {
+
+    private final UserRepository userRepository;
+    private final ImageService imageService;
+
+    @Override
+    public Map<UUID, ReviewerProfileResponse> getProfilesByUserUuids(Collection<UUID> userUuids) {
+        if (userUuids == null || userUuids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object[]> rows = userRepository.findProfilesByUserUuidIn(new HashSet<>(userUuids));
+        return toProfiles(rows).stream()
+                .collect(Collectors.toMap(ReviewerProfileResponse::getUserUuid, Function.identity()));
+    }
+
+    @Override
+    public Map<Long, ReviewerProfileResponse> getProfilesByUserIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object[]> rows = userRepository.findProfilesByIdIn(new HashSet<>(userIds));
+        return toProfiles(rows).stream()
+                .collect(Collectors.toMap(ReviewerProfileResponse::getUserId, Function.identity()));
+    }
+
+    /**
+     * [id, userUuid, nickname, gender] 조회 결과에 프로필 이미지를 한 번에 붙여 변환
+     */
+    private List<ReviewerProfileResponse> toProfiles(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> userIds = rows.stream()
+                .map(row -> (Long) row[0])
+                .toList();
+        Map<Long, List<String>> profileImagesMap = imageService.getImagesByTypeAndIds(ImageType.PROFILE, userIds);
+
+        return rows.stream()
+                .map(row -> {
+                    Long userId = (Long) row[0];
+                    List<String> profileImages = profileImagesMap.getOrDefault(userId, Collections.emptyList());
+
+                    return ReviewerProfileResponse.builder()
+                            .userId(userId)
+                            .userUuid((UUID) row[1])
+                            .nickname((String) row[2])
+                            .gender((UserEntity.Gender) row[3])
+                            .profileImage(profileImages.isEmpty() ? null : profileImages.get(0))
+                            .build();
+                })
+                .toList();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.swyp.dessertbee.auth.entity.AuthEntity;
+import org.swyp.dessertbee.auth.service.AuthSessionCacheService;
 import org.swyp.dessertbee.common.context.UserContext;
 import org.swyp.dessertbee.common.entity.ImageType;
 import org.swyp.dessertbee.common.exception.BusinessException;
@@ -41,6 +42,7 @@ public class UserServiceImpl implements UserService {
     private final PreferenceService preferenceService;
     private final UserRoleService userRoleService;
     private final UserContext userContext;
+    private final AuthSessionCacheService authSessionCacheService;
 
 
 
@@ -291,6 +293,7 @@ public class UserServiceImpl implements UserService {
 
         // 연관된 인증 정보도 비활성화
         user.getAuthEntities().forEach(AuthEntity::deactivate);
+        authSessionCacheService.evict(user.getUserUuid());
 
         log.info("해당 유저의 계정이 비활성화 처리 되었습니다 : {}", user.getEmail());
     }
@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -35,6 +37,9 @@ class OAuthAccountLinkingServiceTest {
     @Mock
     private AuthRepository authRepository;
 
+    @Mock
+    private AuthSessionCacheService authSessionCacheService;
+
     @InjectMocks
     private OAuthAccountLinkingServiceImpl oAuthAccountLinkingService;
 
@@ -159,6 +164,7 @@ class OAuthAccountLinkingServiceTest {
                 auth.getProvider().equals("apple") && auth.getProviderId().equals("987654321"));
         assertThat(result.getAuthEntities()).anyMatch(auth -> 
                 auth.getProvider().equals("kakao") && auth.getProviderId().equals("123456789"));
+        verify(authSessionCacheService).evict(existingUser.getUserUuid());
     }
 
     @Test
@@ -175,6 +181,7 @@ class OAuthAccountLinkingServiceTest {
         // then
         assertThat(result).isEqualTo(existingUser);
         assertThat(result.getAuthEntities()).hasSize(1); // 기존 Apple 계정만 존재
+        verify(authSessionCacheService, never()).evict(any());
     }
 
     @Test
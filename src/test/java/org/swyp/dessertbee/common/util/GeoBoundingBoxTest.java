@@ -0,0 +1,107 @@
+package org.swyp.dessertbee.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * GeoBoundingBox 단위 테스트
+ * 일반 좌표, 반경 0, 극지방, 날짜 변경선 근처의 범위 계산을 테스트합니다.
+ */
+class GeoBoundingBoxTest {
+
+    /** 위도 1도 ≈ 111.19km (ST_Distance_Sphere 지구 반지름 기준) */
+    private static final double METERS_PER_DEGREE = 6_370_986.0 * Math.PI / 180;
+
+    @Test
+    @DisplayName("일반 좌표 - 중심을 기준으로 위도/경도가 대칭으로 확장된다")
+    void aroundSeoul() {
+        GeoBoundingBox box = GeoBoundingBox.around(37.5665, 126.9780, 1_000);
+
+        double latDelta = 1_000 / METERS_PER_DEGREE;
+        assertThat(box.minLat()).isCloseTo(37.5665 - latDelta, within(1e-9));
+        assertThat(box.maxLat()).isCloseTo(37.5665 + latDelta, within(1e-9));
+        // 위도가 높을수록 경도 1도의 거리가 짧아지므로 경도 폭이 더 넓음
+        assertThat(box.maxLng() - 126.9780).isGreaterThan(latDelta);
+        assertThat(126.9780 - box.minLng()).isCloseTo(box.maxLng() - 126.9780, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("반경 0 - 중심 좌표 한 점으로 수렴한다")
+    void zeroRadius() {
+        GeoBoundingBox box = GeoBoundingBox.around(37.5665, 126.9780, 0);
+
+        assertThat(box).isEqualTo(new GeoBoundingBox(37.5665, 37.5665, 126.9780, 126.9780));
+    }
+
+    @Test
+    @DisplayName("적도 - 위도/경도 폭이 같다")
+    void equator() {
+        GeoBoundingBox box = GeoBoundingBox.around(0, 0, 10_000);
+
+        assertThat(box.maxLat()).isCloseTo(box.maxLng(), within(1e-9));
+        assertThat(box.minLat()).isCloseTo(box.minLng(), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("북극 근처 - 극점을 포함하면 위도는 90으로 제한되고 경도는 전체 범위")
+    void nearNorthPole() {
+        GeoBoundingBox box = GeoBoundingBox.around(89.99, 10.0, 5_000);
+
+        assertThat(box.maxLat()).isEqualTo(90.0);
+        assertThat(box.minLat()).isLessThan(89.99);
+        assertThat(box.minLng()).isEqualTo(-180.0);
+        assertThat(box.maxLng()).isEqualTo(180.0);
+    }
+
+    @Test
+    @DisplayName("남극점 - 위도는 -90으로 제한되고 경도는 전체 범위")
+    void atSouthPole() {
+        GeoBoundingBox box = GeoBoundingBox.around(-90.0, 0.0, 1_000);
+
+        assertThat(box.minLat()).isEqualTo(-90.0);
+        assertThat(box.minLng()).isEqualTo(-180.0);
+        assertThat(box.maxLng()).isEqualTo(180.0);
+    }
+
+    @Test
+    @DisplayName("고위도지만 극점을 포함하지 않으면 경도는 제한된 범위")
+    void highLatitudeWithoutPole() {
+        GeoBoundingBox box = GeoBoundingBox.around(80.0, 10.0, 1_000);
+
+        assertThat(box.maxLat()).isLessThan(90.0);
+        assertThat(box.minLng()).isGreaterThan(-180.0);
+        assertThat(box.maxLng()).isLessThan(180.0);
+        assertThat(box.minLng()).isLessThan(10.0);
+    }
+
+    @Test
+    @DisplayName("날짜 변경선 동쪽 근처 - 경계를 넘으면 경도는 전체 범위 (반대편 -179.9 가게 포함)")
+    void crossingAntimeridianFromEast() {
+        GeoBoundingBox box = GeoBoundingBox.around(0.0, 179.95, 20_000);
+
+        assertThat(box.minLng()).isEqualTo(-180.0);
+        assertThat(box.maxLng()).isEqualTo(180.0);
+        assertThat(-179.95).isBetween(box.minLng(), box.maxLng());
+    }
+
+    @Test
+    @DisplayName("날짜 변경선 서쪽 근처 - 경계를 넘으면 경도는 전체 범위")
+    void crossingAntimeridianFromWest() {
+        GeoBoundingBox box = GeoBoundingBox.around(-10.0, -179.99, 5_000);
+
+        assertThat(box.minLng()).isEqualTo(-180.0);
+        assertThat(box.maxLng()).isEqualTo(180.0);
+    }
+
+    @Test
+    @DisplayName("날짜 변경선 근처라도 경계를 넘지 않으면 제한된 범위")
+    void nearAntimeridianWithoutCrossing() {
+        GeoBoundingBox box = GeoBoundingBox.around(0.0, 179.0, 1_000);
+
+        assertThat(box.maxLng()).isLessThan(180.0);
+        assertThat(box.minLng()).isGreaterThan(178.9);
+    }
+}
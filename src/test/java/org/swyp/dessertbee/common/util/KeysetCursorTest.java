@@ -0,0 +1,135 @@
+package org.swyp.dessertbee.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.swyp.dessertbee.common.exception.BusinessException;
+import org.swyp.dessertbee.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KeysetCursor 단위 테스트
+ * 커서 인코딩/디코딩 왕복, 잘못되거나 변조된 커서, 같은 작성 시각을 가진 행의 페이지 경계를 테스트합니다.
+ */
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 원래 값으로 복원된다")
+    void roundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 5, 17, 0, 30, 58, 742_000_000), 128L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("초/나노초가 0인 시각도 왕복 후 동일하다")
+    void roundTripWithoutSeconds() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 1, 1, 9, 0), 1L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("인코딩 결과는 URL에 그대로 쓸 수 있는 문자만 포함한다")
+    void encodedCursorIsUrlSafe() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 12, 31, 23, 59, 59, 999_999_999), Long.MAX_VALUE);
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 커서는 첫 페이지(null)로 간주한다")
+    void blankCursorMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThat(KeysetCursor.decode("   ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Base64가 아닌 문자열은 잘못된 입력 예외가 발생한다")
+    void notBase64() {
+        assertInvalidCursor("!!not-base64!!");
+    }
+
+    @Test
+    @DisplayName("구분자가 없는 커서는 잘못된 입력 예외가 발생한다")
+    void missingDelimiter() {
+        assertInvalidCursor(encodeRaw("2025-05-17T00:30:58"));
+    }
+
+    @Test
+    @DisplayName("ID 부분이 숫자가 아닌 변조된 커서는 잘못된 입력 예외가 발생한다")
+    void tamperedId() {
+        assertInvalidCursor(encodeRaw("2025-05-17T00:30:58|1 OR 1=1"));
+    }
+
+    @Test
+    @DisplayName("시각 부분이 변조된 커서는 잘못된 입력 예외가 발생한다")
+    void tamperedCreatedAt() {
+        assertInvalidCursor(encodeRaw("2025-13-45T99:99|128"));
+    }
+
+    @Test
+    @DisplayName("중간이 잘린 커서는 잘못된 입력 예외가 발생한다")
+    void truncatedCursor() {
+        String encoded = new KeysetCursor(LocalDateTime.of(2025, 5, 17, 0, 30), 128L).encode();
+
+        assertInvalidCursor(encoded.substring(0, encoded.length() / 2));
+    }
+
+    @Test
+    @DisplayName("같은 작성 시각을 가진 행이 페이지 경계에 걸려도 누락/중복 없이 모두 조회된다")
+    void tieBreakingOnSameCreatedAt() {
+        LocalDateTime sameTime = LocalDateTime.of(2025, 5, 17, 12, 0);
+        List<KeysetCursor> rows = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            rows.add(new KeysetCursor(sameTime, id));
+        }
+        rows.add(new KeysetCursor(sameTime.plusSeconds(1), 8L));
+        rows.add(new KeysetCursor(sameTime.minusSeconds(1), 9L));
+
+        List<Long> fetched = new ArrayList<>();
+        String cursor = null;
+        do {
+            List<KeysetCursor> page = fetchPage(rows, KeysetCursor.decode(cursor), 3);
+            page.forEach(row -> fetched.add(row.id()));
+            cursor = page.size() == 3 ? page.get(page.size() - 1).encode() : null;
+        } while (cursor != null);
+
+        // (createdAt DESC, id DESC) 순서로 한 번씩만 조회
+        assertThat(fetched).containsExactly(8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L, 9L);
+    }
+
+    /**
+     * 리포지토리 keyset 쿼리와 같은 조건/정렬로 한 페이지 조회
+     * WHERE (createdAt < :createdAt OR (createdAt = :createdAt AND id < :id)) ORDER BY createdAt DESC, id DESC
+     */
+    private static List<KeysetCursor> fetchPage(List<KeysetCursor> rows, KeysetCursor after, int size) {
+        return rows.stream()
+                .filter(row -> after == null
+                        || row.createdAt().isBefore(after.createdAt())
+                        || (row.createdAt().isEqual(after.createdAt()) && row.id() < after.id()))
+                .sorted(Comparator.comparing(KeysetCursor::createdAt).thenComparing(KeysetCursor::id).reversed())
+                .limit(size)
+                .toList();
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalidCursor(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
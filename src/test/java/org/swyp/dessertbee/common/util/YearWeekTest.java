@@ -0,0 +1,73 @@
+package org.swyp.dessertbee.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.swyp.dessertbee.common.exception.BusinessException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * YearWeek 단위 테스트
+ * ISO 주 표기(yyyy-Www)의 주 시작일 계산과 연도 경계(53주차, 주 중간에 시작하는 해의 1주차)를 테스트합니다.
+ */
+class YearWeekTest {
+
+    @Test
+    @DisplayName("일반 주차의 시작일은 해당 주 월요일이다")
+    void startOfRegularWeek() {
+        LocalDate start = YearWeek.startOf("2025-W25");
+
+        assertThat(start).isEqualTo(LocalDate.of(2025, 6, 16));
+        assertThat(start.getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+    }
+
+    @Test
+    @DisplayName("53주가 있는 해(2020)의 53주차는 12월 28일 월요일에 시작한다")
+    void startOfIsoWeek53() {
+        assertThat(YearWeek.startOf("2020-W53")).isEqualTo(LocalDate.of(2020, 12, 28));
+    }
+
+    @Test
+    @DisplayName("53주가 없는 해(2021)의 53주차는 잘못된 입력이다")
+    void week53InYearWithout53Weeks() {
+        assertThatThrownBy(() -> YearWeek.startOf("2021-W53"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("수요일에 시작하는 해(2025)의 1주차는 전년도 12월 30일 월요일에 시작한다")
+    void week1OfYearStartingMidweek() {
+        assertThat(YearWeek.startOf("2025-W01")).isEqualTo(LocalDate.of(2024, 12, 30));
+    }
+
+    @Test
+    @DisplayName("금요일에 시작하는 해(2021)의 1주차는 1월 4일 월요일에 시작한다 (1월 1~3일은 전년도 53주차)")
+    void week1OfYearStartingFriday() {
+        assertThat(YearWeek.startOf("2021-W01")).isEqualTo(LocalDate.of(2021, 1, 4));
+        assertThat(YearWeek.from(LocalDate.of(2021, 1, 1))).isEqualTo("2020-W53");
+    }
+
+    @Test
+    @DisplayName("from으로 만든 주 표기의 시작일은 항상 그 날짜가 속한 주의 월요일이다")
+    void roundTripAcrossYearBoundary() {
+        for (LocalDate date = LocalDate.of(2024, 12, 20); date.isBefore(LocalDate.of(2026, 1, 10)); date = date.plusDays(1)) {
+            LocalDate start = YearWeek.startOf(YearWeek.from(date));
+
+            assertThat(start.getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+            assertThat(start).isBetween(date.minusDays(6), date);
+        }
+    }
+
+    @Test
+    @DisplayName("0주차, 54주차, 형식이 다른 문자열은 잘못된 입력이다")
+    void invalidInput() {
+        assertThatThrownBy(() -> YearWeek.startOf("2025-W00")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> YearWeek.startOf("2025-W54")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> YearWeek.startOf("2025-25")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> YearWeek.startOf(null)).isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package org.swyp.dessertbee.search.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KoreanNgramTokenizer 단위 테스트
+ * 초성 변환, 색인/검색어 n-gram 분해, 한글/영문 혼합, 한 글자 및 공백 입력 처리를 테스트합니다.
+ */
+class KoreanNgramTokenizerTest {
+
+    @Test
+    @DisplayName("한글 음절은 초성으로, 그 외 문자는 그대로 변환된다")
+    void toChosung() {
+        assertThat(KoreanNgramTokenizer.toChosung("마카롱")).isEqualTo("ㅁㅋㄹ");
+        assertThat(KoreanNgramTokenizer.toChosung("까페 latte1")).isEqualTo("ㄲㅍ latte1");
+        assertThat(KoreanNgramTokenizer.toChosung("가힣")).isEqualTo("ㄱㅎ");
+    }
+
+    @Test
+    @DisplayName("색인 토큰은 음절 단위 1-gram과 2-gram으로 분해된다")
+    void indexNgrams() {
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex("마카롱", false))
+                .containsExactly("마", "마카", "카", "카롱", "롱");
+    }
+
+    @Test
+    @DisplayName("초성 포함 색인 시 초성 문자열의 n-gram이 뒤에 추가된다")
+    void indexNgramsWithChosung() {
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex("마카롱", true))
+                .containsExactly("마", "마카", "카", "카롱", "롱", "ㅁ", "ㅁㅋ", "ㅋ", "ㅋㄹ", "ㄹ");
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 2-gram만 중복 없이 생성된다")
+    void queryNgrams() {
+        assertThat(KoreanNgramTokenizer.tokenizeForQuery("마카롱")).containsExactly("마카", "카롱");
+        assertThat(KoreanNgramTokenizer.tokenizeForQuery("하하하")).containsExactly("하하");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없는 복합어 색인 토큰은 부분 검색어와 초성 검색어의 토큰을 모두 포함한다")
+    void compoundWordMatchesSubstringAndChosungQuery() {
+        var indexTokens = KoreanNgramTokenizer.tokenizeForIndex("수제마카롱전문점", true);
+
+        assertThat(indexTokens).containsAll(KoreanNgramTokenizer.tokenizeForQuery("마카롱"));
+        assertThat(indexTokens).containsAll(KoreanNgramTokenizer.tokenizeForQuery("ㅁㅋㄹ"));
+    }
+
+    @Test
+    @DisplayName("한글/영문 혼합 단어는 소문자로 정규화되어 한 단어로 분해된다")
+    void mixedHangulAndLatin() {
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex("Cafe라떼", false))
+                .containsExactly("c", "ca", "a", "af", "f", "fe", "e", "e라", "라", "라떼", "떼");
+        assertThat(KoreanNgramTokenizer.tokenizeForQuery("CAFE 라떼"))
+                .containsExactly("ca", "af", "fe", "라떼");
+    }
+
+    @Test
+    @DisplayName("글자/숫자가 아닌 문자는 단어 구분자로 처리되어 단어를 넘는 2-gram이 생기지 않는다")
+    void splitOnNonLetters() {
+        assertThat(KoreanNgramTokenizer.tokenizeForQuery("수제-마카롱"))
+                .containsExactly("수제", "마카", "카롱")
+                .doesNotContain("제마");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 1-gram으로, 한 글자 색인어는 음절과 초성 1-gram으로 분해된다")
+    void singleSyllable() {
+        assertThat(KoreanNgramTokenizer.tokenizeForQuery("빵")).containsExactly("빵");
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex("빵", true)).containsExactly("빵", "ㅃ");
+        assertThat(KoreanNgramTokenizer.tokenizeForQuery("빵 케이크")).containsExactly("빵", "케이", "이크");
+    }
+
+    @Test
+    @DisplayName("null, 빈 문자열, 공백만 있는 입력은 토큰이 없다")
+    void blankInput() {
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex(null, true)).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex("", true)).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex(" \t\n ", true)).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenizeForQuery("   ")).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenizeForQuery("!@# ")).isEmpty();
+    }
+}
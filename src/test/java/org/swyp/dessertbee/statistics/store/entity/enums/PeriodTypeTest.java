@@ -0,0 +1,73 @@
+package org.swyp.dessertbee.statistics.store.entity.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PeriodType 단위 테스트
+ * 기간 기준일(periodStartOf)과 추이 구간 키(trendKeyOf)의 주/월/연 경계 계산을 테스트합니다.
+ */
+class PeriodTypeTest {
+
+    private static final LocalDate SUNDAY = LocalDate.of(2025, 6, 15);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 16);
+    private static final LocalDate LAST_DAY_OF_YEAR = LocalDate.of(2024, 12, 31);
+    private static final LocalDate FIRST_DAY_OF_YEAR = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("일간 기준일은 해당 날짜 자신이다")
+    void dailyPeriodStart() {
+        assertThat(PeriodType.DAILY.periodStartOf(SUNDAY)).isEqualTo(SUNDAY);
+        assertThat(PeriodType.DAILY.periodStartOf(FIRST_DAY_OF_YEAR)).isEqualTo(FIRST_DAY_OF_YEAR);
+    }
+
+    @Test
+    @DisplayName("일요일은 직전 월요일 주에, 다음 날 월요일은 새 주에 속한다")
+    void weeklyPeriodStartAcrossSundayToMonday() {
+        assertThat(PeriodType.WEEKLY.periodStartOf(SUNDAY)).isEqualTo(LocalDate.of(2025, 6, 9));
+        assertThat(PeriodType.WEEKLY.periodStartOf(MONDAY)).isEqualTo(MONDAY);
+    }
+
+    @Test
+    @DisplayName("연도를 걸친 주는 12월 31일과 1월 1일이 같은 주(전년도 월요일)로 묶인다")
+    void weeklyPeriodStartAcrossYearBoundary() {
+        LocalDate monday = LocalDate.of(2024, 12, 30);
+
+        assertThat(PeriodType.WEEKLY.periodStartOf(LAST_DAY_OF_YEAR)).isEqualTo(monday);
+        assertThat(PeriodType.WEEKLY.periodStartOf(FIRST_DAY_OF_YEAR)).isEqualTo(monday);
+    }
+
+    @Test
+    @DisplayName("월간 기준일은 12월 31일이면 12월 1일, 1월 1일이면 새해 1월 1일이다")
+    void monthlyPeriodStartAcrossYearBoundary() {
+        assertThat(PeriodType.MONTHLY.periodStartOf(LAST_DAY_OF_YEAR)).isEqualTo(LocalDate.of(2024, 12, 1));
+        assertThat(PeriodType.MONTHLY.periodStartOf(FIRST_DAY_OF_YEAR)).isEqualTo(FIRST_DAY_OF_YEAR);
+    }
+
+    @Test
+    @DisplayName("일간 추이 구간은 2시간 단위(0 ~ 11)로 나뉜다")
+    void dailyTrendKey() {
+        assertThat(PeriodType.DAILY.trendKeyOf(SUNDAY, 0)).isEqualTo("0");
+        assertThat(PeriodType.DAILY.trendKeyOf(SUNDAY, 1)).isEqualTo("0");
+        assertThat(PeriodType.DAILY.trendKeyOf(SUNDAY, 2)).isEqualTo("1");
+        assertThat(PeriodType.DAILY.trendKeyOf(SUNDAY, 23)).isEqualTo("11");
+    }
+
+    @Test
+    @DisplayName("주간 추이 구간은 일요일 23시와 월요일 0시가 서로 다른 요일 키를 가진다")
+    void weeklyTrendKeyAcrossSundayToMonday() {
+        assertThat(PeriodType.WEEKLY.trendKeyOf(SUNDAY, 23)).isEqualTo("SUNDAY");
+        assertThat(PeriodType.WEEKLY.trendKeyOf(MONDAY, 0)).isEqualTo("MONDAY");
+    }
+
+    @Test
+    @DisplayName("월간 추이 구간은 12월 31일이 31, 1월 1일이 1이다")
+    void monthlyTrendKeyAcrossYearBoundary() {
+        assertThat(PeriodType.MONTHLY.trendKeyOf(LAST_DAY_OF_YEAR, 23)).isEqualTo("31");
+        assertThat(PeriodType.MONTHLY.trendKeyOf(FIRST_DAY_OF_YEAR, 0)).isEqualTo("1");
+    }
+}